@@ -38,6 +38,8 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	String MAX_DURATION_NOT_SET = "";
+	int CONCURRENCY_NOT_SET = 0;
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +94,39 @@ public @interface Property {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * Run a property until the given duration has elapsed instead of stopping after a fixed number of tries.
+	 * The value is a number followed by a unit, e.g. {@code "500ms"}, {@code "30s"}, {@code "5m"} or {@code "1h"}.
+	 * <p>
+	 * If {@linkplain #tries()} is also set explicitly, the property stops as soon as either limit has been reached.
+	 * The default can be overridden globally in the property file
+	 * (see <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">jqwik configuration</a>).
+	 *
+	 * @return the maximum duration of generating and running tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	String maxDuration() default MAX_DURATION_NOT_SET;
+
+	/**
+	 * Run tries on virtual threads instead of sequentially on the property's thread.
+	 * Not possible if the container has {@linkplain net.jqwik.api.lifecycle.BeforeTry} fields
+	 * or {@linkplain net.jqwik.api.lifecycle.BeforeTry}/{@linkplain net.jqwik.api.lifecycle.AfterTry} methods.
+	 * <p>
+	 * Default value is {@link TryExecutionMode#SEQUENTIAL}.
+	 * @return the try execution mode
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	TryExecutionMode tryExecution() default TryExecutionMode.NOT_SET;
+
+	/**
+	 * The maximum number of tries that run at the same time.
+	 * Only used if {@linkplain #tryExecution()} is not {@link TryExecutionMode#SEQUENTIAL}.
+	 * Must be at least 1.
+	 * <p>
+	 * Default value is the number of available processors.
+	 * @return the maximum number of concurrently running tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	int concurrency() default CONCURRENCY_NOT_SET;
 }
@@ -2,11 +2,13 @@ package net.jqwik.api;
 
 import java.lang.annotation.*;
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 
 import org.apiguardian.api.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.support.*;
 
 import static org.apiguardian.api.API.Status.*;
 
@@ -39,6 +41,15 @@ public @interface PropertyDefaults {
 	@API(status = MAINTAINED, since = "1.6.2")
 	int maxDiscardRatio() default MAX_DISCARD_RATIO_NOT_SET;
 
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	String maxDuration() default MAX_DURATION_NOT_SET;
+
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	TryExecutionMode tryExecution() default TryExecutionMode.NOT_SET;
+
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	int concurrency() default CONCURRENCY_NOT_SET;
+
 	class PropertyDefaultsHook implements AroundPropertyHook {
 
 		@Override
@@ -87,6 +98,24 @@ public @interface PropertyDefaults {
 					attributes.setMaxDiscardRatio(ratio);
 				}
 			});
+			findMaxDuration(propertyDefaults).ifPresent(maxDuration -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.maxDuration().isPresent()) {
+					attributes.setMaxDuration(maxDuration);
+				}
+			});
+			findTryExecution(propertyDefaults).ifPresent(tryExecution -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.tryExecution().isPresent()) {
+					attributes.setTryExecution(tryExecution);
+				}
+			});
+			findConcurrency(propertyDefaults).ifPresent(concurrency -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.concurrency().isPresent()) {
+					attributes.setConcurrency(concurrency);
+				}
+			});
 
 			return property.execute();
 		}
@@ -140,6 +169,28 @@ public @interface PropertyDefaults {
 								   .findFirst();
 		}
 
+		private Optional<Duration> findMaxDuration(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::maxDuration)
+								   .filter(maxDuration -> !maxDuration.equals(MAX_DURATION_NOT_SET))
+								   .map(DurationSupport::parse)
+								   .findFirst();
+		}
+
+		private Optional<TryExecutionMode> findTryExecution(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::tryExecution)
+								   .filter(tryExecution -> tryExecution != TryExecutionMode.NOT_SET)
+								   .findFirst();
+		}
+
+		private Optional<Integer> findConcurrency(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::concurrency)
+								   .filter(concurrency -> concurrency != CONCURRENCY_NOT_SET)
+								   .findFirst();
+		}
+
 		@Override
 		public int aroundPropertyProximity() {
 			// Somewhat more distant than standard hooks, so that those may change the attributes
@@ -18,7 +18,14 @@ public enum Reporting {
 	 * {@link Reporting#FALSIFIED} will report each set of parameters that is falsified during shrinking.
 	 * i.e., report "table" will be printed only when some test fails.
 	 */
-	FALSIFIED;
+	FALSIFIED,
+
+	/**
+	 * {@link Reporting#PROFILE} will add a performance profile of the property to the property's report,
+	 * i.e. where time was spent, how many values were filtered out and how many shrink attempts were made.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	PROFILE;
 
 	public boolean containedIn(Reporting[] reporting) {
 		return Arrays.stream(reporting).anyMatch(this::equals);
@@ -0,0 +1,38 @@
+package net.jqwik.api;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * The try execution mode determines on which threads the tries of a property are run.
+ * It can be set in {@linkplain Property#tryExecution()} for any property method.
+ *
+ * <p>
+ * Regardless of the mode, parameters are always generated on the property's own thread
+ * and in the same order, so that a given seed produces the same samples.
+ *
+ * @see Property
+ */
+@API(status = EXPERIMENTAL, since = "1.8.2")
+public enum TryExecutionMode {
+
+	/**
+	 * Run one try after the other on the property's thread. This is the default.
+	 */
+	SEQUENTIAL,
+
+	/**
+	 * Run up to {@linkplain Property#concurrency()} tries concurrently, each one on its own virtual thread.
+	 * On Java versions without virtual threads a pool of platform threads is used instead.
+	 *
+	 * <p>
+	 * This mode is meant for properties that spend most of their time waiting,
+	 * e.g. for network or file system I/O.
+	 * Property methods and lifecycle hooks must be thread-safe to use it.
+	 */
+	VIRTUAL_THREADS,
+
+	@API(status = INTERNAL)
+	NOT_SET
+}
@@ -1,5 +1,7 @@
 package net.jqwik.api.facades;
 
+import java.lang.reflect.*;
+
 import org.apiguardian.api.*;
 
 import net.jqwik.api.*;
@@ -34,4 +36,15 @@ public abstract class ReflectionSupportFacade {
 	 * @return the newly created instance
 	 */
 	public abstract <T> T newInstanceWithDefaultConstructor(Class<T> clazz);
+
+	/**
+	 * Invoke a method the same way the engine invokes property methods by default,
+	 * i.e. through a cached method handle whenever access rules allow it
+	 *
+	 * @param method The method to invoke
+	 * @param target The object to invoke the method on or null if it's a static method
+	 * @param args   The arguments of the method invocation
+	 * @return Result of method invocation if there is one, otherwise null
+	 */
+	public abstract Object invokeMethod(Method method, Object target, Object... args);
 }
@@ -0,0 +1,41 @@
+package net.jqwik.api.facades;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Gives code that moves between threads, e.g. coroutines, access to the context
+ * that jqwik keeps per thread: the current property, try scope and domain context.
+ */
+@API(status = INTERNAL)
+public abstract class ThreadContextFacade {
+
+	public static final ThreadContextFacade implementation;
+
+	static {
+		implementation = FacadeLoader.load(ThreadContextFacade.class);
+	}
+
+	/**
+	 * @return the jqwik context of the current thread
+	 */
+	public abstract Object capture();
+
+	/**
+	 * Make a captured context the current thread's context.
+	 *
+	 * @param capturedContext A context returned by {@linkplain #capture()}
+	 * @return the state to give to {@linkplain #restore(Object)} on the same thread
+	 */
+	public abstract Object install(Object capturedContext);
+
+	/**
+	 * Restore the current thread's context to what it was before {@linkplain #install(Object)}.
+	 *
+	 * @param previousState The state returned by {@linkplain #install(Object)}
+	 */
+	public abstract void restore(Object previousState);
+}
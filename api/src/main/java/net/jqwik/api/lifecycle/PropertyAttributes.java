@@ -1,5 +1,6 @@
 package net.jqwik.api.lifecycle;
 
+import java.time.*;
 import java.util.*;
 
 import org.apiguardian.api.*;
@@ -107,6 +108,37 @@ public interface PropertyAttributes {
 	@API(status = MAINTAINED, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The maximum duration to run the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#maxDuration()}
+	 * or {@linkplain #setMaxDuration(Duration)}.
+	 *
+	 * @return optional maximum duration
+	 * @throws JqwikException if {@linkplain Property#maxDuration()} cannot be parsed
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	Optional<Duration> maxDuration();
+
+	/**
+	 * The try execution mode of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#tryExecution()}
+	 * or {@linkplain #setTryExecution(TryExecutionMode)}.
+	 *
+	 * @return optional try execution mode
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	Optional<TryExecutionMode> tryExecution();
+
+	/**
+	 * The maximum number of concurrently running tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#concurrency()}
+	 * or {@linkplain #setConcurrency(Integer)}.
+	 *
+	 * @return optional concurrency
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	Optional<Integer> concurrency();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +157,13 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	void setMaxDuration(Duration maxDuration);
+
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	void setTryExecution(TryExecutionMode tryExecutionMode);
+
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	void setConcurrency(Integer concurrency);
+
 }
@@ -104,6 +104,19 @@ public interface PropertyExecutionResult {
 	@API(status = MAINTAINED, since = "1.3.5")
 	Optional<ShrunkFalsifiedSample> shrunkSample();
 
+	/**
+	 * Return the performance profile of running the property.
+	 * The profile is only available if tries have actually been run
+	 * and if either {@linkplain net.jqwik.api.Reporting#PROFILE} is switched on
+	 * or a hook has {@linkplain PropertyLifecycleContext#requestProfile() requested it}.
+	 *
+	 * @return an optional profile
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	default Optional<PropertyProfile> profile() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Use to change the {@linkplain Status status} of a property execution result in a
 	 * {@linkplain AroundPropertyHook}.
@@ -2,6 +2,8 @@ package net.jqwik.api.lifecycle;
 
 import org.apiguardian.api.*;
 
+import net.jqwik.api.*;
+
 import static org.apiguardian.api.API.Status.*;
 
 /**
@@ -26,4 +28,16 @@ public interface PropertyLifecycleContext extends MethodLifecycleContext {
 	@API(status = MAINTAINED, since = "1.3.4")
 	PropertyAttributes attributes();
 
+	/**
+	 * Request that a {@linkplain PropertyProfile profile} is recorded for this property
+	 * even if {@linkplain Reporting#PROFILE} is not switched on.
+	 * Must be called before the property's tries are run, e.g. in {@linkplain AroundPropertyHook#aroundProperty}
+	 * before calling {@code property.execute()}.
+	 *
+	 * @see PropertyExecutionResult#profile()
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	default void requestProfile() {
+	}
+
 }
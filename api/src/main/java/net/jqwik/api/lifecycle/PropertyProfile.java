@@ -0,0 +1,77 @@
+package net.jqwik.api.lifecycle;
+
+import java.time.*;
+import java.util.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * A profile of where a property spent its time and resources.
+ * Use it to find out which properties are worth optimizing.
+ *
+ * @see PropertyExecutionResult#profile()
+ */
+@API(status = EXPERIMENTAL, since = "1.8.2")
+public interface PropertyProfile {
+
+	/**
+	 * @return time spent on creating generators, including the computation of edge cases
+	 */
+	Duration setupDuration();
+
+	/**
+	 * @return time spent on generating parameters for all tries
+	 */
+	Duration generationDuration();
+
+	/**
+	 * The time spent on executing tries, including all try lifecycle hooks.
+	 * If tries are run concurrently the time of all tries is summed up.
+	 *
+	 * @return the summed up duration of all tries
+	 */
+	Duration executionDuration();
+
+	/**
+	 * @return time spent on shrinking a falsified sample
+	 */
+	Duration shrinkingDuration();
+
+	/**
+	 * @return number of values generated by filtered generators
+	 */
+	int countFilterAttempts();
+
+	/**
+	 * @return number of generated values that were rejected by a filter
+	 */
+	int countFilterMisses();
+
+	/**
+	 * @return ratio of rejected to generated values in filtered generators, 0.0 if there were none
+	 */
+	default double filterMissRatio() {
+		if (countFilterAttempts() == 0) {
+			return 0.0;
+		}
+		return (double) countFilterMisses() / countFilterAttempts();
+	}
+
+	/**
+	 * The number of times the property was executed during shrinking, grouped by shrinking phase.
+	 * Phases appear in the order they were first run.
+	 *
+	 * @return an unmodifiable map from phase name to number of shrink attempts
+	 */
+	Map<String, Integer> shrinkAttemptsPerPhase();
+
+	/**
+	 * The maximum number of samples that had to be kept in memory at the same time,
+	 * e.g. pending tries during concurrent execution or cached results during shrinking.
+	 *
+	 * @return a number equal to or greater than 0
+	 */
+	int peakRetainedSamples();
+}
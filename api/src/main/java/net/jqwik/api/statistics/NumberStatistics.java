@@ -0,0 +1,43 @@
+package net.jqwik.api.statistics;
+
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * This class serves as an interface to record numeric values, e.g. sizes or durations,
+ * within a property method.
+ *
+ * <p>
+ * In contrast to {@linkplain StatisticsCollector} individual values are not kept.
+ * Count, minimum, maximum, mean and standard deviation are updated with every recorded value,
+ * percentiles are estimated from a sketch with a relative error of at most 1%.
+ * Memory consumption therefore does not grow with the number of tries.
+ * </p>
+ *
+ * @see Statistics#number(String)
+ */
+@API(status = EXPERIMENTAL, since = "1.8.2")
+public interface NumberStatistics {
+
+	/**
+	 * Record a single value.
+	 * As soon as this method is called at least once in a property method,
+	 * a summary of all recorded values will be reported after the property has finished.
+	 *
+	 * @param value Any finite number
+	 * @return The current instance to allow a fluent coverage API
+	 * @throws IllegalArgumentException if value is {@code NaN} or infinite
+	 */
+	NumberStatistics record(double value);
+
+	/**
+	 * Perform coverage checking for successful property on the recorded values.
+	 *
+	 * @param checker Code that consumes a {@linkplain NumberStatisticsCoverage} object
+	 */
+	void coverage(Consumer<NumberStatisticsCoverage> checker);
+
+}
@@ -0,0 +1,51 @@
+package net.jqwik.api.statistics;
+
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Intermediate object to provide coverage checking capabilities for recorded numbers.
+ * Each check fails the property if its predicate returns false.
+ *
+ * @see NumberStatistics#coverage(Consumer)
+ */
+@API(status = EXPERIMENTAL, since = "1.8.2")
+public interface NumberStatisticsCoverage {
+
+	/**
+	 * Check the number of recorded values.
+	 */
+	void count(Predicate<Integer> countChecker);
+
+	/**
+	 * Check the smallest recorded value.
+	 */
+	void min(Predicate<Double> minChecker);
+
+	/**
+	 * Check the largest recorded value.
+	 */
+	void max(Predicate<Double> maxChecker);
+
+	/**
+	 * Check the arithmetic mean of all recorded values.
+	 */
+	void mean(Predicate<Double> meanChecker);
+
+	/**
+	 * Check the standard deviation of all recorded values.
+	 */
+	void standardDeviation(Predicate<Double> standardDeviationChecker);
+
+	/**
+	 * Check an estimated percentile of all recorded values.
+	 *
+	 * @param percentile        a value between 0.0 and 100.0, e.g. 95.0 for the 95th percentile
+	 * @param percentileChecker a predicate to accept the estimated percentile
+	 */
+	void percentile(double percentile, Predicate<Double> percentileChecker);
+
+}
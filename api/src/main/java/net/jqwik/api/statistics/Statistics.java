@@ -27,6 +27,8 @@ public class Statistics {
 		public abstract StatisticsCollector collectorByLabel(String label);
 
 		public abstract StatisticsCollector defaultCollector();
+
+		public abstract NumberStatistics numberStatisticsByLabel(String label);
 	}
 
 	private Statistics() {
@@ -91,6 +93,31 @@ public class Statistics {
 		return StatisticsFacade.implementation.collectorByLabel(label);
 	}
 
+	/**
+	 * Call this method to get a labeled instance of {@linkplain NumberStatistics}
+	 * in order to record numeric values like sizes or durations.
+	 *
+	 * <p>
+	 * Simple example:
+	 *
+	 * <pre>
+	 * &#064;Property
+	 * void sizes(&#064;ForAll List&lt;Integer&gt; aList) {
+	 * 	Statistics.number("size").record(aList.size());
+	 *
+	 * 	Statistics.number("size").coverage(
+	 * 		coverage -&gt; coverage.percentile(90, p -&gt; p &gt; 10)
+	 * 	);
+	 * }
+	 * </pre>
+	 *
+	 * @param label The label will be used for reporting the recorded values
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	public static NumberStatistics number(String label) {
+		return StatisticsFacade.implementation.numberStatisticsByLabel(label);
+	}
+
 	/**
 	 * Perform coverage checking for successful property on statistics
 	 * for values collected with {@linkplain #collect(Object...)}
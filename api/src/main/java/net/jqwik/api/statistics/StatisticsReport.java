@@ -65,6 +65,9 @@ public @interface StatisticsReport {
 
 	String ALL_LABELS = "";
 
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	int MAX_DISTINCT_VALUES_NOT_SET = 0;
+
 	StatisticsReportMode value() default StatisticsReportMode.PLUG_IN;
 
 	/**
@@ -84,4 +87,18 @@ public @interface StatisticsReport {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.5.5")
 	boolean onFailureOnly() default false;
+
+	/**
+	 * The maximum number of distinct values (or value combinations) that are counted separately
+	 * for the statistics label of this annotation.
+	 * Further values are only included in the total count
+	 * and make coverage checks that might depend on them fail.
+	 *
+	 * <p>
+	 * If not set the limit of the annotation for {@linkplain #ALL_LABELS} applies, or 10,000 if there is none.
+	 * Before version 1.8.2 there was no limit.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.2")
+	int maxDistinctValues() default MAX_DISTINCT_VALUES_NOT_SET;
 }
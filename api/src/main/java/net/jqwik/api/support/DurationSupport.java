@@ -0,0 +1,61 @@
+package net.jqwik.api.support;
+
+import java.time.*;
+import java.util.*;
+import java.util.regex.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Parse and format durations in the compact notation used in jqwik's
+ * annotations and configuration parameters, e.g. {@code "500ms"}, {@code "30s"}, {@code "5m"} or {@code "1h"}.
+ */
+@API(status = INTERNAL)
+public class DurationSupport {
+
+	private static final Pattern DURATION_PATTERN = Pattern.compile("^\\s*(\\d+)\\s*(ms|s|m|h)?\\s*$");
+
+	private DurationSupport() {
+	}
+
+	public static Duration parse(String durationString) {
+		Matcher matcher = DURATION_PATTERN.matcher(durationString.toLowerCase(Locale.ROOT));
+		if (!matcher.matches()) {
+			String message = String.format(
+				"Cannot parse duration [%s]. Use a number followed by one of ms, s, m or h, e.g. \"30s\".",
+				durationString
+			);
+			throw new JqwikException(message);
+		}
+		long amount = Long.parseLong(matcher.group(1));
+		String unit = matcher.group(2) == null ? "s" : matcher.group(2);
+		switch (unit) {
+			case "ms":
+				return Duration.ofMillis(amount);
+			case "m":
+				return Duration.ofMinutes(amount);
+			case "h":
+				return Duration.ofHours(amount);
+			default:
+				return Duration.ofSeconds(amount);
+		}
+	}
+
+	public static String format(Duration duration) {
+		long millis = duration.toMillis();
+		if (millis % 3_600_000 == 0 && millis > 0) {
+			return String.format("%dh", millis / 3_600_000);
+		}
+		if (millis % 60_000 == 0 && millis > 0) {
+			return String.format("%dm", millis / 60_000);
+		}
+		if (millis % 1000 == 0) {
+			return String.format("%ds", millis / 1000);
+		}
+		return String.format("%dms", millis);
+	}
+}
@@ -0,0 +1,73 @@
+package net.jqwik.api.support;
+
+import java.lang.management.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Access to the number of bytes allocated by the current thread.
+ * Only available on JVMs that support {@code com.sun.management.ThreadMXBean}.
+ */
+@API(status = INTERNAL)
+public class ThreadAllocations {
+
+	private static final Object THREAD_MX_BEAN = loadThreadMXBean();
+
+	// Bytes allocated by measuring itself, which are subtracted from every measurement
+	private static final long MEASUREMENT_OVERHEAD = calibrate();
+
+	private ThreadAllocations() {
+	}
+
+	private static Object loadThreadMXBean() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+				return null;
+			}
+			com.sun.management.ThreadMXBean allocationsBean = (com.sun.management.ThreadMXBean) threadMXBean;
+			if (!allocationsBean.isThreadAllocatedMemorySupported() || !allocationsBean.isThreadAllocatedMemoryEnabled()) {
+				return null;
+			}
+			return allocationsBean;
+		} catch (Throwable managementNotAvailable) {
+			return null;
+		}
+	}
+
+	private static long calibrate() {
+		if (THREAD_MX_BEAN == null) {
+			return 0L;
+		}
+		long minimum = Long.MAX_VALUE;
+		for (int i = 0; i < 1000; i++) {
+			long start = currentThread();
+			minimum = Math.min(minimum, currentThread() - start);
+		}
+		return minimum;
+	}
+
+	public static boolean isAvailable() {
+		return THREAD_MX_BEAN != null;
+	}
+
+	/**
+	 * @return allocated bytes of current thread or 0 if not available
+	 */
+	public static long currentThread() {
+		if (THREAD_MX_BEAN == null) {
+			return 0L;
+		}
+		return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * @param startBytes a value previously returned by {@linkplain #currentThread()} on the same thread
+	 * @return bytes allocated by current thread since {@code startBytes}
+	 */
+	public static long since(long startBytes) {
+		return Math.max(0L, currentThread() - startBytes - MEASUREMENT_OVERHEAD);
+	}
+}
@@ -16,12 +16,15 @@ module net.jqwik.api {
 	exports net.jqwik.api.support;
 
 	requires java.logging;
+	requires static java.management;
+	requires static jdk.management;
 	requires org.junit.platform.commons;
 	requires org.opentest4j;
 
 	uses net.jqwik.api.facades.ReflectionSupportFacade;
 	uses net.jqwik.api.facades.ShrinkingSupportFacade;
 	uses net.jqwik.api.facades.TestingSupportFacade;
+	uses net.jqwik.api.facades.ThreadContextFacade;
 
 	uses net.jqwik.api.Arbitraries.ArbitrariesFacade;
 	uses net.jqwik.api.Arbitrary.ArbitraryFacade;
@@ -0,0 +1,42 @@
+package net.jqwik.benchmarks;
+
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.*;
+
+import net.jqwik.engine.execution.lifecycle.*;
+
+import static org.junit.platform.engine.TestDescriptor.Type.*;
+
+/**
+ * Memoization of generators and shrinking require a current test descriptor,
+ * which benchmarks outside the engine have to provide themselves.
+ */
+class BenchmarkContext {
+
+	private static final TestDescriptor BENCHMARK_DESCRIPTOR = new AbstractTestDescriptor(
+		UniqueId.root("jqwik", "benchmarks"),
+		"Running benchmarks outside jqwik engine"
+	) {
+		@Override
+		public Type getType() {
+			return TEST;
+		}
+	};
+
+	private BenchmarkContext() {
+	}
+
+	static void enter() {
+		CurrentTestDescriptor.push(BENCHMARK_DESCRIPTOR);
+	}
+
+	static void leave() {
+		CurrentTestDescriptor.pop();
+	}
+
+	static <T> T runInContext(Supplier<T> code) {
+		return CurrentTestDescriptor.runWithDescriptor(BENCHMARK_DESCRIPTOR, code);
+	}
+}
@@ -0,0 +1,62 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+public class CollectionGenerationBenchmarks extends GeneratorBenchmark {
+
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<List<Integer>> uniqueLists;
+	private RandomGenerator<List<String>> uniqueByFeatureLists;
+	private RandomGenerator<Set<Integer>> sets;
+	private RandomGenerator<Map<Integer, String>> maps;
+	private RandomGenerator<List<List<Integer>>> nestedLists;
+
+	@Override
+	protected void createGenerators() {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(0, 10000);
+		lists = generator(integers.list().ofMaxSize(100));
+		uniqueLists = generator(integers.list().ofMaxSize(100).uniqueElements());
+		uniqueByFeatureLists = generator(
+			Arbitraries.strings().alpha().ofMinLength(1).ofMaxLength(10)
+					   .list().ofMaxSize(20)
+					   .uniqueElements(s -> s.charAt(0))
+		);
+		sets = generator(integers.set().ofMaxSize(100));
+		maps = generator(Arbitraries.maps(integers, Arbitraries.strings().ofMaxLength(10)).ofMaxSize(50));
+		nestedLists = generator(integers.list().ofMaxSize(10).list().ofMaxSize(10));
+	}
+
+	@Benchmark
+	public List<Integer> lists() {
+		return next(lists);
+	}
+
+	@Benchmark
+	public List<Integer> uniqueLists() {
+		return next(uniqueLists);
+	}
+
+	@Benchmark
+	public List<String> uniqueByFeatureLists() {
+		return next(uniqueByFeatureLists);
+	}
+
+	@Benchmark
+	public Set<Integer> sets() {
+		return next(sets);
+	}
+
+	@Benchmark
+	public Map<Integer, String> maps() {
+		return next(maps);
+	}
+
+	@Benchmark
+	public List<List<Integer>> nestedLists() {
+		return next(nestedLists);
+	}
+}
@@ -0,0 +1,64 @@
+package net.jqwik.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+
+public class CombinatorBenchmarks extends GeneratorBenchmark {
+
+	private RandomGenerator<String> combine;
+	private RandomGenerator<String> flatMap;
+	private RandomGenerator<Integer> filterChain;
+	private RandomGenerator<Integer> frequencyOf;
+	private RandomGenerator<String> frequency;
+
+	@Override
+	protected void createGenerators() {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(0, 1000);
+		StringArbitrary strings = Arbitraries.strings().alpha();
+
+		combine = generator(Combinators.combine(integers, strings.ofMaxLength(10), integers).as((i, s, j) -> s + i + j));
+		flatMap = generator(Arbitraries.integers().between(1, 20).flatMap(n -> strings.ofLength(n)));
+		filterChain = generator(
+			integers.filter(i -> i % 2 == 0)
+					.map(i -> i * 3)
+					.filter(i -> i % 4 == 0)
+		);
+		frequencyOf = generator(Arbitraries.frequencyOf(
+			Tuple.of(1, Arbitraries.just(0)),
+			Tuple.of(10, integers),
+			Tuple.of(100, Arbitraries.integers())
+		));
+		frequency = generator(Arbitraries.frequency(
+			Tuple.of(1, "rare"),
+			Tuple.of(10, "frequent"),
+			Tuple.of(100, "common")
+		));
+	}
+
+	@Benchmark
+	public String combine() {
+		return next(combine);
+	}
+
+	@Benchmark
+	public String flatMap() {
+		return next(flatMap);
+	}
+
+	@Benchmark
+	public Integer filterChain() {
+		return next(filterChain);
+	}
+
+	@Benchmark
+	public Integer frequencyOf() {
+		return next(frequencyOf);
+	}
+
+	@Benchmark
+	public String frequency() {
+		return next(frequency);
+	}
+}
@@ -0,0 +1,34 @@
+package net.jqwik.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how many tries per second the engine sustains for trivial properties.
+ * Each invocation runs one property with {@linkplain EngineOverheadCase#TRIES} tries through the JUnit platform launcher.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(EngineOverheadCase.TRIES)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class EngineOverheadBenchmarks {
+
+	@Param
+	public EngineOverheadCase overheadCase;
+
+	private EngineRun engineRun;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		engineRun = new EngineRun();
+	}
+
+	@Benchmark
+	public void runProperty() {
+		engineRun.run(overheadCase.containerClass());
+	}
+}
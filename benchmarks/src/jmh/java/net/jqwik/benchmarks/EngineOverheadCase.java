@@ -0,0 +1,39 @@
+package net.jqwik.benchmarks;
+
+import net.jqwik.benchmarks.properties.*;
+
+/**
+ * Trivial properties that are run through the JUnit platform launcher
+ * to measure the overhead of the engine and its lifecycle per try.
+ */
+public enum EngineOverheadCase {
+
+	// Budgets are about 40% above the bytes per try measured with JDK 17 (2.2 KB, 2.4 KB and 3.0 KB)
+	EMPTY(EmptyProperties.class, 3 * 1024),
+	BEFORE_TRY(BeforeTryProperties.class, 3584),
+	STORE(StoreProperties.class, 4 * 1024);
+
+	public static final int TRIES = 10_000;
+	public static final String SEED = "42";
+
+	private final Class<?> containerClass;
+	private final long allocationBudgetPerTry;
+
+	EngineOverheadCase(Class<?> containerClass, long allocationBudgetPerTry) {
+		this.containerClass = containerClass;
+		this.allocationBudgetPerTry = allocationBudgetPerTry;
+	}
+
+	public Class<?> containerClass() {
+		return containerClass;
+	}
+
+	/**
+	 * Can be overridden for all cases with system property {@code jqwik.benchmarks.allocationBudgetPerTry}.
+	 *
+	 * @return the maximum number of bytes a single try may allocate on average
+	 */
+	public long allocationBudgetPerTry() {
+		return Long.getLong("jqwik.benchmarks.allocationBudgetPerTry", allocationBudgetPerTry);
+	}
+}
@@ -0,0 +1,54 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+
+import net.jqwik.api.support.*;
+
+/**
+ * Runs each {@linkplain EngineOverheadCase} through the engine and fails
+ * if the average number of bytes allocated per try exceeds the case's budget.
+ * It also fails if the JVM cannot measure allocations per thread.
+ *
+ * <p>
+ * In contrast to timing, allocations are stable enough to be checked on a single machine.
+ * They still depend on JVM version and settings, which is why the check is not part of the regular build.
+ * </p>
+ */
+public class EngineOverheadCheck {
+
+	private static final int WARMUP_RUNS = 5;
+	private static final int MEASURED_RUNS = 5;
+
+	public static void main(String[] args) {
+		if (!ThreadAllocations.isAvailable()) {
+			System.err.println("Allocations cannot be checked: This JVM does not support measuring allocations per thread");
+			System.exit(1);
+		}
+		EngineRun engineRun = new EngineRun();
+		List<String> violations = new ArrayList<>();
+		for (EngineOverheadCase overheadCase : EngineOverheadCase.values()) {
+			long bytesPerTry = measureBytesPerTry(engineRun, overheadCase);
+			long budget = overheadCase.allocationBudgetPerTry();
+			System.out.printf("%-12s %8d bytes/try (budget: %d)%n", overheadCase, bytesPerTry, budget);
+			if (bytesPerTry > budget) {
+				violations.add(String.format("%s allocates %d bytes per try, budget is %d", overheadCase, bytesPerTry, budget));
+			}
+		}
+		if (!violations.isEmpty()) {
+			violations.forEach(System.err::println);
+			System.exit(1);
+		}
+	}
+
+	private static long measureBytesPerTry(EngineRun engineRun, EngineOverheadCase overheadCase) {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			engineRun.run(overheadCase.containerClass());
+		}
+		long startBytes = ThreadAllocations.currentThread();
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			engineRun.run(overheadCase.containerClass());
+		}
+		long allocatedBytes = ThreadAllocations.since(startBytes);
+		return allocatedBytes / ((long) MEASURED_RUNS * EngineOverheadCase.TRIES);
+	}
+}
@@ -0,0 +1,51 @@
+package net.jqwik.benchmarks;
+
+import java.io.*;
+import java.nio.file.*;
+
+import org.junit.platform.launcher.*;
+import org.junit.platform.launcher.core.*;
+import org.junit.platform.launcher.listeners.*;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+import static org.junit.platform.launcher.EngineFilter.*;
+
+/**
+ * Runs a container class with the jqwik engine through the JUnit platform launcher,
+ * i.e. including discovery, all default lifecycle hooks and reporting.
+ */
+class EngineRun {
+
+	private final Launcher launcher = LauncherFactory.create();
+	private final Path database;
+
+	EngineRun() {
+		try {
+			database = Files.createTempFile("jqwik-benchmarks", ".database");
+			database.toFile().deleteOnExit();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	void run(Class<?> containerClass) {
+		LauncherDiscoveryRequest request =
+			LauncherDiscoveryRequestBuilder.request()
+										   .selectors(selectClass(containerClass))
+										   .filters(includeEngines("jqwik"))
+										   .configurationParameter("jqwik.database", database.toString())
+										   .configurationParameter("jqwik.reporting.onlyfailures", "true")
+										   .build();
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		launcher.execute(request, listener);
+
+		TestExecutionSummary summary = listener.getSummary();
+		if (summary.getTotalFailureCount() > 0 || summary.getTestsSucceededCount() != 1) {
+			StringWriter report = new StringWriter();
+			summary.printTo(new PrintWriter(report));
+			summary.printFailuresTo(new PrintWriter(report), 10);
+			String message = String.format("Running %s did not succeed:%n%s", containerClass.getName(), report);
+			throw new IllegalStateException(message);
+		}
+	}
+}
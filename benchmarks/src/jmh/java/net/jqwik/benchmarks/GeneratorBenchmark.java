@@ -0,0 +1,58 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Common state of benchmarks that measure generation of values.
+ *
+ * <p>
+ * Generators are created once per trial with jqwik's default genSize.
+ * Each iteration starts with the same seed so that all iterations - and all commits -
+ * measure generation of the same sequence of values.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public abstract class GeneratorBenchmark {
+
+	public static final String SEED = "42";
+	public static final int GEN_SIZE = JqwikProperties.DEFAULT_TRIES;
+
+	private Random random;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		BenchmarkContext.enter();
+		createGenerators();
+	}
+
+	@Setup(Level.Iteration)
+	public void resetRandom() {
+		random = SourceOfRandomness.create(SEED);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		BenchmarkContext.leave();
+	}
+
+	protected abstract void createGenerators();
+
+	protected <T> RandomGenerator<T> generator(Arbitrary<T> arbitrary) {
+		return arbitrary.generator(GEN_SIZE, true);
+	}
+
+	protected <T> T next(RandomGenerator<T> generator) {
+		return generator.next(random).value();
+	}
+}
@@ -0,0 +1,50 @@
+package net.jqwik.benchmarks;
+
+import java.math.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+public class NumberGenerationBenchmarks extends GeneratorBenchmark {
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<Integer> smallIntegers;
+	private RandomGenerator<Long> longs;
+	private RandomGenerator<Double> doubles;
+	private RandomGenerator<BigDecimal> bigDecimals;
+
+	@Override
+	protected void createGenerators() {
+		integers = generator(Arbitraries.integers());
+		smallIntegers = generator(Arbitraries.integers().between(-100, 100));
+		longs = generator(Arbitraries.longs());
+		doubles = generator(Arbitraries.doubles());
+		bigDecimals = generator(Arbitraries.bigDecimals().between(BigDecimal.ZERO, BigDecimal.valueOf(1000)).ofScale(2));
+	}
+
+	@Benchmark
+	public Integer integers() {
+		return next(integers);
+	}
+
+	@Benchmark
+	public Integer smallIntegers() {
+		return next(smallIntegers);
+	}
+
+	@Benchmark
+	public Long longs() {
+		return next(longs);
+	}
+
+	@Benchmark
+	public Double doubles() {
+		return next(doubles);
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimals() {
+		return next(bigDecimals);
+	}
+}
@@ -0,0 +1,46 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Sampling is meant to be used outside of jqwik's lifecycle,
+ * so - unlike {@linkplain GeneratorBenchmark} - no descriptor is set up here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SampleStreamBenchmarks {
+
+	private final Arbitrary<Integer> integers = Arbitraries.integers();
+	private final Arbitrary<List<String>> lists = Arbitraries.strings().alpha().ofMaxLength(10).list().ofMaxSize(10);
+
+	@Setup(Level.Iteration)
+	public void resetRandom() {
+		SourceOfRandomness.create(GeneratorBenchmark.SEED);
+	}
+
+	@Benchmark
+	public Integer sample() {
+		return integers.sample();
+	}
+
+	@Benchmark
+	public List<Integer> sampleStreamOf100Integers() {
+		return integers.sampleStream().limit(100).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<List<String>> sampleStreamOf100Lists() {
+		return lists.sampleStream().limit(100).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,42 @@
+package net.jqwik.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Measures the time to shrink the falsified sample of each {@linkplain ShrinkingCase}.
+ * Use {@code -PjmhProfilers=gc} to also measure allocations.
+ * For the number of evaluations and the quality of shrunk samples see {@linkplain ShrinkingReport}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ShrinkingBenchmarks {
+
+	@Param
+	public ShrinkingCase shrinkingCase;
+
+	private ShrinkingRun shrinkingRun;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		BenchmarkContext.enter();
+		shrinkingRun = new ShrinkingRun(shrinkingCase);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		BenchmarkContext.leave();
+	}
+
+	@Benchmark
+	public ShrunkFalsifiedSample shrink() {
+		return shrinkingRun.shrink();
+	}
+}
@@ -0,0 +1,120 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.state.*;
+
+/**
+ * A corpus of canonical failing properties to compare shrinking across commits.
+ *
+ * <p>
+ * Each case describes its parameters and the condition under which a sample falsifies the property.
+ * The shrunk sample of a case should always be the same; if it changes the quality of shrinking has changed.
+ * </p>
+ */
+@SuppressWarnings("unchecked")
+public enum ShrinkingCase {
+
+	LARGE_LIST(
+		params -> ((List<?>) params.get(0)).size() > 100,
+		Arbitraries.integers().between(0, 10000).list().ofMaxSize(2000)
+	),
+
+	LARGE_ARRAY(
+		params -> IntStream.of((int[]) params.get(0)).anyMatch(i -> i > 900),
+		Arbitraries.integers().between(0, 1000).array(int[].class).ofMaxSize(1000)
+	),
+
+	LIST_SUM(
+		params -> ((List<Integer>) params.get(0)).stream().mapToLong(i -> i).sum() > 10000,
+		Arbitraries.integers().between(0, 10000).list().ofMaxSize(100)
+	),
+
+	NESTED_LISTS(
+		params -> ((List<List<Integer>>) params.get(0)).stream().mapToInt(List::size).sum() >= 10,
+		Arbitraries.integers().list().ofMaxSize(20).list().ofMaxSize(20)
+	),
+
+	UNIQUE_LIST(
+		params -> ((List<Integer>) params.get(0)).size() >= 5,
+		Arbitraries.integers().between(0, 100).list().ofMaxSize(50).uniqueElements()
+	),
+
+	STRING(
+		params -> ((String) params.get(0)).chars().distinct().count() >= 3,
+		Arbitraries.strings().alpha().ofMaxLength(100)
+	),
+
+	CHAIN(
+		params -> {
+			for (int value : (Chain<Integer>) params.get(0)) {
+				if (value >= 20) {
+					return true;
+				}
+			}
+			return false;
+		},
+		Chain.startWith(() -> 1)
+			 .withTransformation(ignore -> Arbitraries.just(Transformer.transform("+1", i -> i + 1)))
+			 .withTransformation(ignore -> Arbitraries.just(Transformer.transform("*2", i -> i * 2)))
+			 .withMaxTransformations(50)
+	),
+
+	ACTION_CHAIN(
+		params -> ((ActionChain<String>) params.get(0)).run().contains("xyx"),
+		ActionChain.<String>startWith(() -> "")
+				   .withAction(Action.just("x", s -> s + "x"))
+				   .withAction(Action.just("y", s -> s + "y"))
+				   .withMaxTransformations(50)
+	),
+
+	FLAT_MAP(
+		params -> ((List<Integer>) params.get(0)).stream().anyMatch(i -> i >= 50),
+		Arbitraries.integers().between(1, 100).flatMap(n -> Arbitraries.integers().between(0, n).list().ofSize(n))
+	),
+
+	// Shrinking of deeply nested values is dominated by distance calculation if distances are not memoized
+	NESTED_FLAT_MAP(
+		params -> ((List<List<List<Integer>>>) params.get(0)).stream()
+															 .flatMap(List::stream)
+															 .flatMap(List::stream)
+															 .mapToInt(i -> i).sum() >= 100,
+		Arbitraries.integers().between(1, 100)
+				   .flatMap(max -> Arbitraries.integers().between(0, max))
+				   .list().ofMaxSize(10)
+				   .list().ofMaxSize(10)
+				   .list().ofMinSize(5).ofMaxSize(10)
+	),
+
+	MULTIPLE_PARAMETERS(
+		params -> (int) params.get(0) + (int) params.get(1) + (int) params.get(2) > 1000,
+		Arbitraries.integers().between(0, 1000),
+		Arbitraries.integers().between(0, 1000),
+		Arbitraries.integers().between(0, 1000)
+	),
+
+	DEPENDENT_PARAMETERS(
+		params -> (long) params.get(0) > 10 && (long) params.get(1) > (long) params.get(0),
+		Arbitraries.longs().between(-10000, 10000),
+		Arbitraries.longs().between(-10000, 10000)
+	);
+
+	private final Predicate<List<Object>> falsifies;
+	private final List<Arbitrary<?>> parameters;
+
+	ShrinkingCase(Predicate<List<Object>> falsifies, Arbitrary<?>... parameters) {
+		this.falsifies = falsifies;
+		this.parameters = Arrays.asList(parameters);
+	}
+
+	public boolean falsifies(List<Object> params) {
+		return falsifies.test(params);
+	}
+
+	public List<Arbitrary<?>> parameters() {
+		return parameters;
+	}
+}
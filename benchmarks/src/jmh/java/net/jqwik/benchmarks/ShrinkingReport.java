@@ -0,0 +1,88 @@
+package net.jqwik.benchmarks;
+
+import java.io.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.support.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks each {@linkplain ShrinkingCase} several times and writes a CSV report to the file given as first argument
+ * or to standard out.
+ *
+ * <p>
+ * Evaluations, shrinking steps, distance and shrunk sample are deterministic,
+ * so reports from different commits can be diffed directly.
+ * Time and allocated bytes are the median of all measured runs.
+ * </p>
+ */
+public class ShrinkingReport {
+
+	private static final int WARMUP_RUNS = 3;
+	private static final int MEASURED_RUNS = 7;
+
+	public static void main(String[] args) throws IOException {
+		if (args.length > 0) {
+			File reportFile = new File(args[0]);
+			reportFile.getAbsoluteFile().getParentFile().mkdirs();
+			try (PrintStream out = new PrintStream(new FileOutputStream(reportFile), true, "UTF-8")) {
+				writeReport(out);
+			}
+			System.out.println("Shrinking report written to " + reportFile.getAbsolutePath());
+		} else {
+			writeReport(System.out);
+		}
+	}
+
+	private static void writeReport(PrintStream out) {
+		out.println("case,evaluations,shrinking steps,time[ms],allocated[kB],distance,original sample,shrunk sample");
+		BenchmarkContext.runInContext(() -> {
+			for (ShrinkingCase shrinkingCase : ShrinkingCase.values()) {
+				out.println(reportLine(shrinkingCase));
+			}
+			return null;
+		});
+	}
+
+	private static String reportLine(ShrinkingCase shrinkingCase) {
+		ShrinkingRun shrinkingRun = new ShrinkingRun(shrinkingCase);
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			shrinkingRun.shrink();
+		}
+
+		long[] nanos = new long[MEASURED_RUNS];
+		long[] allocatedBytes = new long[MEASURED_RUNS];
+		ShrunkFalsifiedSample shrunkSample = null;
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			long startBytes = ThreadAllocations.currentThread();
+			long start = System.nanoTime();
+			shrunkSample = shrinkingRun.shrink();
+			nanos[i] = System.nanoTime() - start;
+			allocatedBytes[i] = ThreadAllocations.since(startBytes);
+		}
+
+		return String.join(
+			",",
+			shrinkingCase.name(),
+			Integer.toString(shrinkingRun.countEvaluations()),
+			Integer.toString(shrunkSample.countShrinkingSteps()),
+			String.format(Locale.ROOT, "%.3f", median(nanos) / 1_000_000.0),
+			String.format(Locale.ROOT, "%.1f", median(allocatedBytes) / 1024.0),
+			csvValue(ShrinkingDistance.combine(shrunkSample.shrinkables()).toString()),
+			csvValue(JqwikStringSupport.displayString(shrinkingRun.falsifiedSample().parameters())),
+			csvValue(JqwikStringSupport.displayString(shrunkSample.parameters()))
+		);
+	}
+
+	private static long median(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private static String csvValue(String value) {
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+}
@@ -0,0 +1,74 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates the first falsifying sample of a {@linkplain ShrinkingCase} using a fixed seed
+ * and shrinks it as many times as needed.
+ *
+ * <p>
+ * Must be created and used within {@linkplain BenchmarkContext}.
+ * </p>
+ */
+class ShrinkingRun {
+
+	private static final int MAX_TRIES = 10000;
+
+	private final ShrinkingCase shrinkingCase;
+	private final FalsifiedSample falsifiedSample;
+	private int countEvaluations = 0;
+
+	ShrinkingRun(ShrinkingCase shrinkingCase) {
+		this.shrinkingCase = shrinkingCase;
+		this.falsifiedSample = falsify(shrinkingCase);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FalsifiedSample falsify(ShrinkingCase shrinkingCase) {
+		Random random = SourceOfRandomness.create(GeneratorBenchmark.SEED);
+		List<RandomGenerator<Object>> generators =
+			shrinkingCase.parameters().stream()
+						 .map(arbitrary -> (RandomGenerator<Object>) arbitrary.generator(GeneratorBenchmark.GEN_SIZE, true))
+						 .collect(Collectors.toList());
+		for (int i = 0; i < MAX_TRIES; i++) {
+			List<Shrinkable<Object>> shrinkables =
+				generators.stream().map(generator -> generator.next(random)).collect(Collectors.toList());
+			List<Object> parameters = shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+			if (shrinkingCase.falsifies(parameters)) {
+				return new FalsifiedSampleImpl(parameters, shrinkables, Optional.empty(), Collections.emptyList());
+			}
+		}
+		String message = String.format("No falsifying sample for %s found in %s tries", shrinkingCase, MAX_TRIES);
+		throw new JqwikException(message);
+	}
+
+	ShrunkFalsifiedSample shrink() {
+		countEvaluations = 0;
+		PropertyShrinker shrinker = new PropertyShrinker(falsifiedSample, ShrinkingMode.FULL, 0, ignore -> {}, null);
+		return shrinker.shrink(parameters -> {
+			countEvaluations++;
+			if (shrinkingCase.falsifies(parameters)) {
+				return TryExecutionResult.falsified(null);
+			}
+			return TryExecutionResult.satisfied();
+		});
+	}
+
+	FalsifiedSample falsifiedSample() {
+		return falsifiedSample;
+	}
+
+	/**
+	 * @return number of property evaluations during last call to {@linkplain #shrink()}
+	 */
+	int countEvaluations() {
+		return countEvaluations;
+	}
+}
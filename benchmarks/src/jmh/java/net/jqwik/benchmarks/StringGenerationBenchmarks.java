@@ -0,0 +1,41 @@
+package net.jqwik.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+public class StringGenerationBenchmarks extends GeneratorBenchmark {
+
+	private RandomGenerator<String> strings;
+	private RandomGenerator<String> alphaStrings;
+	private RandomGenerator<String> longStrings;
+	private RandomGenerator<Character> chars;
+
+	@Override
+	protected void createGenerators() {
+		strings = generator(Arbitraries.strings());
+		alphaStrings = generator(Arbitraries.strings().alpha().numeric().ofMaxLength(20));
+		longStrings = generator(Arbitraries.strings().ascii().ofMinLength(100).ofMaxLength(1000));
+		chars = generator(Arbitraries.chars());
+	}
+
+	@Benchmark
+	public String strings() {
+		return next(strings);
+	}
+
+	@Benchmark
+	public String alphaNumericStrings() {
+		return next(alphaStrings);
+	}
+
+	@Benchmark
+	public String longAsciiStrings() {
+		return next(longStrings);
+	}
+
+	@Benchmark
+	public Character chars() {
+		return next(chars);
+	}
+}
@@ -0,0 +1,51 @@
+package net.jqwik.benchmarks;
+
+import java.time.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.time.api.*;
+
+public class TimeGenerationBenchmarks extends GeneratorBenchmark {
+
+	private RandomGenerator<LocalDate> dates;
+	private RandomGenerator<LocalTime> times;
+	private RandomGenerator<LocalDateTime> dateTimes;
+	private RandomGenerator<ZonedDateTime> zonedDateTimes;
+	private RandomGenerator<Instant> instants;
+
+	@Override
+	protected void createGenerators() {
+		dates = generator(Dates.dates());
+		times = generator(Times.times());
+		dateTimes = generator(DateTimes.dateTimes());
+		zonedDateTimes = generator(DateTimes.zonedDateTimes());
+		instants = generator(DateTimes.instants());
+	}
+
+	@Benchmark
+	public LocalDate dates() {
+		return next(dates);
+	}
+
+	@Benchmark
+	public LocalTime times() {
+		return next(times);
+	}
+
+	@Benchmark
+	public LocalDateTime dateTimes() {
+		return next(dateTimes);
+	}
+
+	@Benchmark
+	public ZonedDateTime zonedDateTimes() {
+		return next(zonedDateTimes);
+	}
+
+	@Benchmark
+	public Instant instants() {
+		return next(instants);
+	}
+}
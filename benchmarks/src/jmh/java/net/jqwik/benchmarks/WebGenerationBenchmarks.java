@@ -0,0 +1,35 @@
+package net.jqwik.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.web.api.*;
+
+public class WebGenerationBenchmarks extends GeneratorBenchmark {
+
+	private RandomGenerator<String> emails;
+	private RandomGenerator<String> ipv4Emails;
+	private RandomGenerator<String> webDomains;
+
+	@Override
+	protected void createGenerators() {
+		emails = generator(Web.emails());
+		ipv4Emails = generator(Web.emails().allowIpv4Host());
+		webDomains = generator(Web.webDomains());
+	}
+
+	@Benchmark
+	public String emails() {
+		return next(emails);
+	}
+
+	@Benchmark
+	public String emailsWithIpv4Host() {
+		return next(ipv4Emails);
+	}
+
+	@Benchmark
+	public String webDomains() {
+		return next(webDomains);
+	}
+}
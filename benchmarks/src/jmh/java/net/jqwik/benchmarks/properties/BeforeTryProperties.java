@@ -0,0 +1,21 @@
+package net.jqwik.benchmarks.properties;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static net.jqwik.benchmarks.EngineOverheadCase.*;
+
+public class BeforeTryProperties {
+
+	private long sum;
+
+	@BeforeTry
+	void resetSum() {
+		sum = 0;
+	}
+
+	@Property(tries = TRIES, seed = SEED)
+	void propertyWithBeforeTry(@ForAll int anInt) {
+		sum += anInt;
+	}
+}
@@ -0,0 +1,12 @@
+package net.jqwik.benchmarks.properties;
+
+import net.jqwik.api.*;
+
+import static net.jqwik.benchmarks.EngineOverheadCase.*;
+
+public class EmptyProperties {
+
+	@Property(tries = TRIES, seed = SEED)
+	void emptyProperty(@ForAll int anInt) {
+	}
+}
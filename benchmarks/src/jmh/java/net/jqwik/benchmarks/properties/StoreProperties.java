@@ -0,0 +1,18 @@
+package net.jqwik.benchmarks.properties;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static net.jqwik.benchmarks.EngineOverheadCase.*;
+
+public class StoreProperties {
+
+	@Property(tries = TRIES, seed = SEED)
+	void propertyWithStores(@ForAll int anInt) {
+		Store<Integer> triesCounter = Store.getOrCreate("tries", Lifespan.PROPERTY, () -> 0);
+		triesCounter.update(count -> count + 1);
+
+		Store<Integer> tryValue = Store.getOrCreate("value", Lifespan.TRY, () -> 0);
+		tryValue.update(value -> value + anInt);
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import java.io.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
@@ -9,6 +10,7 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.config.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.support.*;
 
 public class JqwikProperties {
 
@@ -44,6 +46,7 @@ public class JqwikProperties {
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
 	private final FixedSeedMode fixedSeedMode;
+	private final Duration defaultMaxDuration;
 
 	public String databasePath() {
 		return databasePath;
@@ -93,6 +96,10 @@ public class JqwikProperties {
 		return fixedSeedMode;
 	}
 
+	public Optional<Duration> defaultMaxDuration() {
+		return Optional.ofNullable(defaultMaxDuration);
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -106,6 +113,7 @@ public class JqwikProperties {
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		defaultMaxDuration = parameters.get("maxduration.default", DurationSupport::parse).orElse(null);
 	}
 
 	static JqwikProperties load(ConfigurationParameters fromJunit) {
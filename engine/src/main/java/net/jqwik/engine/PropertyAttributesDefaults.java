@@ -1,5 +1,8 @@
 package net.jqwik.engine;
 
+import java.time.*;
+import java.util.*;
+
 import net.jqwik.api.*;
 
 public interface PropertyAttributesDefaults {
@@ -15,6 +18,7 @@ public interface PropertyAttributesDefaults {
 	EdgeCasesMode edgeCases();
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
+	Optional<Duration> maxDuration();
 
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
@@ -27,7 +31,8 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		Duration maxDuration
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -74,6 +79,11 @@ public interface PropertyAttributesDefaults {
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public Optional<Duration> maxDuration() {
+				return Optional.ofNullable(maxDuration);
+			}
 		};
 	}
 }
@@ -1,5 +1,8 @@
 package net.jqwik.engine.descriptor;
 
+import java.time.*;
+import java.util.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
@@ -89,6 +92,38 @@ public class PropertyConfiguration {
 		return propertyAttributes.tries().orElse(propertyAttributesDefaults.tries());
 	}
 
+	/**
+	 * The upper limit of tries to run. For time-boxed properties without
+	 * an explicit number of tries only the duration limits the number of tries.
+	 */
+	public int getMaxTries() {
+		if (overriddenTries == null && !propertyAttributes.tries().isPresent() && getMaxDuration().isPresent()) {
+			return Integer.MAX_VALUE;
+		}
+		return getTries();
+	}
+
+	public Optional<Duration> getMaxDuration() {
+		Optional<Duration> maxDuration = propertyAttributes.maxDuration();
+		if (maxDuration.isPresent()) {
+			return maxDuration;
+		}
+		return propertyAttributesDefaults.maxDuration();
+	}
+
+	public TryExecutionMode getTryExecutionMode() {
+		return propertyAttributes.tryExecution().orElse(TryExecutionMode.SEQUENTIAL);
+	}
+
+	public int getConcurrency() {
+		int concurrency = propertyAttributes.concurrency().orElseGet(() -> Runtime.getRuntime().availableProcessors());
+		if (concurrency <= 0) {
+			String message = String.format("Concurrency must be at least 1 but was [%s]", concurrency);
+			throw new JqwikException(message);
+		}
+		return concurrency;
+	}
+
 	public String getSeed() {
 		if (overriddenSeed != null) {
 			return overriddenSeed;
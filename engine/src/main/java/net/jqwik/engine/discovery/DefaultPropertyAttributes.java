@@ -1,9 +1,11 @@
 package net.jqwik.engine.discovery;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.support.*;
 
 public class DefaultPropertyAttributes implements PropertyAttributes {
 	public static PropertyAttributes from(Property property) {
@@ -43,7 +45,15 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 											  ? null
 											  : property.whenFixedSeed();
 
-		return new DefaultPropertyAttributes(
+		TryExecutionMode tryExecution = property.tryExecution() == TryExecutionMode.NOT_SET
+											? null
+											: property.tryExecution();
+
+		Integer concurrency = property.concurrency() == Property.CONCURRENCY_NOT_SET
+								  ? null
+								  : property.concurrency();
+
+		DefaultPropertyAttributes attributes = new DefaultPropertyAttributes(
 			tries,
 			maxDiscardRatio,
 			shrinking,
@@ -52,8 +62,15 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			edgeCases,
 			stereotype,
 			seed,
-			whenFixedSeed
+			whenFixedSeed,
+			null,
+			tryExecution,
+			concurrency
 		);
+		if (!property.maxDuration().equals(Property.MAX_DURATION_NOT_SET)) {
+			attributes.unparsedMaxDuration = property.maxDuration();
+		}
+		return attributes;
 	}
 
 	private Integer tries;
@@ -65,6 +82,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	private String stereotype;
 	private String seed;
 	private FixedSeedMode whenFixedSeed;
+	private Duration maxDuration;
+	// Parsed when used during execution, so that an invalid value only fails its own property
+	private String unparsedMaxDuration;
+	private TryExecutionMode tryExecutionMode;
+	private Integer concurrency;
 
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
@@ -76,7 +98,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			EdgeCasesMode edgeCasesMode,
 			String stereotype,
 			String seed,
-			FixedSeedMode whenFixedSeed
+			FixedSeedMode whenFixedSeed,
+			Duration maxDuration,
+			TryExecutionMode tryExecutionMode,
+			Integer concurrency
 	) {
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
@@ -87,6 +112,9 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.stereotype = stereotype;
 		this.seed = seed;
 		this.whenFixedSeed = whenFixedSeed;
+		this.maxDuration = maxDuration;
+		this.tryExecutionMode = tryExecutionMode;
+		this.concurrency = concurrency;
 	}
 
 	@Override
@@ -134,6 +162,24 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(whenFixedSeed);
 	}
 
+	@Override
+	public Optional<Duration> maxDuration() {
+		if (unparsedMaxDuration != null) {
+			return Optional.of(DurationSupport.parse(unparsedMaxDuration));
+		}
+		return Optional.ofNullable(maxDuration);
+	}
+
+	@Override
+	public Optional<TryExecutionMode> tryExecution() {
+		return Optional.ofNullable(tryExecutionMode);
+	}
+
+	@Override
+	public Optional<Integer> concurrency() {
+		return Optional.ofNullable(concurrency);
+	}
+
 	@Override
 	public void setTries(Integer tries) {
 		this.tries = tries;
@@ -178,4 +224,20 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	public void setWhenFixedSeed(FixedSeedMode fixedSeedMode) {
 		this.whenFixedSeed = fixedSeedMode;
 	}
+
+	@Override
+	public void setMaxDuration(Duration maxDuration) {
+		this.maxDuration = maxDuration;
+		this.unparsedMaxDuration = null;
+	}
+
+	@Override
+	public void setTryExecution(TryExecutionMode tryExecutionMode) {
+		this.tryExecutionMode = tryExecutionMode;
+	}
+
+	@Override
+	public void setConcurrency(Integer concurrency) {
+		this.concurrency = concurrency;
+	}
 }
@@ -3,6 +3,8 @@ package net.jqwik.engine.discovery;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.logging.*;
+import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.discovery.*;
@@ -17,7 +19,10 @@ import static org.junit.platform.engine.Filter.*;
 
 public class JqwikDiscoverer {
 
+	private static final Logger LOG = Logger.getLogger(JqwikDiscoverer.class.getName());
+
 	private static final IsScannableContainerClass isScannableTestClass = new IsScannableContainerClass();
+	private static final Predicate<Class<?>> anyClass = ignore -> true;
 
 	private final TestRunData testRunData;
 	private final PropertyAttributesDefaults propertyDefaultValues;
@@ -33,7 +38,7 @@ public class JqwikDiscoverer {
 		Predicate<String> classNamePredicate = buildClassNamePredicate(request);
 
 		request.getSelectorsByType(ModuleSelector.class).forEach(selector -> {
-			findAllClassesInModule(selector.getModuleName(), isScannableTestClass, classNamePredicate)
+			findTestContainers(findAllClassesInModule(selector.getModuleName(), anyClass, classNamePredicate), isScannableTestClass)
 				.forEach(testClass -> {
 					discoveryListener.selectorProcessed(
 						engineDescriptor.getUniqueId(),
@@ -43,7 +48,7 @@ public class JqwikDiscoverer {
 				});
 		});
 		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
-			findAllClassesInClasspathRoot(selector.getClasspathRoot(), isScannableTestClass, classNamePredicate)
+			findTestContainers(findAllClassesInClasspathRoot(selector.getClasspathRoot(), anyClass, classNamePredicate), isScannableTestClass)
 				.forEach(testClass -> {
 					discoveryListener.selectorProcessed(
 						engineDescriptor.getUniqueId(),
@@ -53,7 +58,7 @@ public class JqwikDiscoverer {
 				});
 		});
 		request.getSelectorsByType(PackageSelector.class).forEach(selector -> {
-			findAllClassesInPackage(selector.getPackageName(), isScannableTestClass, classNamePredicate)
+			findTestContainers(findAllClassesInPackage(selector.getPackageName(), anyClass, classNamePredicate), isScannableTestClass)
 				.forEach(testClass -> {
 					discoveryListener.selectorProcessed(
 						engineDescriptor.getUniqueId(),
@@ -86,6 +91,28 @@ public class JqwikDiscoverer {
 		});
 	}
 
+	/**
+	 * Analysing candidate classes through reflection is the expensive part of scanning.
+	 * It is therefore done in parallel while the order of found classes is kept.
+	 * Resolving the containers themselves must be done sequentially since it changes the descriptor tree.
+	 * Candidates that cannot be analysed are skipped.
+	 */
+	static List<Class<?>> findTestContainers(List<Class<?>> candidates, Predicate<Class<?>> isTestContainer) {
+		return candidates.parallelStream()
+						 .filter(candidate -> isTestContainerSafely(candidate, isTestContainer))
+						 .collect(Collectors.toList());
+	}
+
+	private static boolean isTestContainerSafely(Class<?> candidate, Predicate<Class<?>> isTestContainer) {
+		try {
+			return isTestContainer.test(candidate);
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			LOG.log(Level.WARNING, throwable, () -> String.format("Failed to analyse class [%s] during discovery", candidate.getName()));
+			return false;
+		}
+	}
+
 	private Method getJavaMethodWithSpecialKotlinHandling(MethodSelector selector) {
 		// Method names of Kotlin functions sometimes show peculiar naming in Java
 		try {
@@ -0,0 +1,55 @@
+package net.jqwik.engine.discovery.predicates;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.*;
+
+import org.junit.platform.commons.support.*;
+
+/**
+ * Caches the members of a class that are relevant for discovery.
+ *
+ * <p>
+ * Candidate classes are first analysed when checking if they are test containers
+ * and then again when resolving their properties and groups.
+ * Caching the results per class avoids repeated reflection over the class hierarchy.
+ * </p>
+ */
+public class DiscoverableMembers {
+
+	private static final Predicate<Method> isDiscoverableTestMethod = new IsDiscoverableTestMethod();
+	private static final Predicate<Class<?>> isGroup = new IsContainerAGroup();
+
+	private static final ClassValue<List<Method>> discoverableMethods = new ClassValue<List<Method>>() {
+		@Override
+		protected List<Method> computeValue(Class<?> containerClass) {
+			return Collections.unmodifiableList(
+				ReflectionSupport.findMethods(containerClass, isDiscoverableTestMethod, HierarchyTraversalMode.TOP_DOWN)
+			);
+		}
+	};
+
+	private static final ClassValue<List<Class<?>>> groups = new ClassValue<List<Class<?>>>() {
+		@Override
+		protected List<Class<?>> computeValue(Class<?> containerClass) {
+			return Collections.unmodifiableList(ReflectionSupport.findNestedClasses(containerClass, isGroup));
+		}
+	};
+
+	private DiscoverableMembers() {
+	}
+
+	/**
+	 * All non-abstract and non-private methods in top-down order of the class hierarchy.
+	 */
+	public static List<Method> discoverableMethods(Class<?> containerClass) {
+		return discoverableMethods.get(containerClass);
+	}
+
+	/**
+	 * All nested classes that are groups.
+	 */
+	public static List<Class<?>> groups(Class<?> containerClass) {
+		return groups.get(containerClass);
+	}
+}
@@ -3,14 +3,11 @@ package net.jqwik.engine.discovery.predicates;
 import java.lang.reflect.*;
 import java.util.function.*;
 
-import org.junit.platform.commons.support.*;
-
 public class IsTestContainer implements Predicate<Class<?>> {
 
-	private static final Predicate<Method> isProperty = new IsProperty();
+	private static final Predicate<Method> isMethodAnnotatedWithProperty = new IsMethodAnnotatedWithProperty();
 
 	private static final Predicate<Class<?>> isPotentialTestContainer = new IsPotentialTestContainer();
-	private static final Predicate<Class<?>> isGroup = new IsContainerAGroup();
 
 	@Override
 	public boolean test(Class<?> candidate) {
@@ -21,11 +18,11 @@ public class IsTestContainer implements Predicate<Class<?>> {
 	}
 
 	private boolean hasTests(Class<?> candidate) {
-		return !ReflectionSupport.findMethods(candidate, isProperty, HierarchyTraversalMode.TOP_DOWN).isEmpty();
+		return DiscoverableMembers.discoverableMethods(candidate).stream().anyMatch(isMethodAnnotatedWithProperty);
 	}
 
 	private boolean hasGroups(Class<?> candidate) {
-		return !ReflectionSupport.findNestedClasses(candidate, isGroup).isEmpty();
+		return !DiscoverableMembers.groups(candidate).isEmpty();
 	}
 
 }
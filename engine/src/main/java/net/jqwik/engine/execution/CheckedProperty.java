@@ -64,12 +64,27 @@ public class CheckedProperty {
 		maybeWarnOnMultipleTriesWithoutForallParameters(effectiveConfiguration);
 		try {
 			Reporter reporter = propertyLifecycleContext.reporter();
-			return createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			boolean profileReported = Reporting.PROFILE.containedIn(reporting);
+			if (!profileReported && !isProfileRequested()) {
+				return createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			}
+			PropertyProfiler profiler = new PropertyProfiler(profileReported);
+			return PropertyProfiler.runWith(profiler, () -> {
+				long setupStart = System.nanoTime();
+				GenericProperty genericProperty = createGenericProperty(effectiveConfiguration);
+				profiler.addSetupNanos(System.nanoTime() - setupStart);
+				return genericProperty.check(reporter, reporting);
+			});
 		} catch (CannotFindArbitraryException | TooManyFilterMissesException generationFailedException) {
 			return failed(effectiveConfiguration, generationFailedException);
 		}
 	}
 
+	private boolean isProfileRequested() {
+		return propertyLifecycleContext instanceof DefaultPropertyLifecycleContext
+			&& ((DefaultPropertyLifecycleContext) propertyLifecycleContext).isProfileRequested();
+	}
+
 	private PropertyCheckResult failed(PropertyConfiguration configuration, JqwikException exception) {
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), propertyName, 0, 0,
@@ -162,7 +177,9 @@ public class CheckedProperty {
 			);
 		}
 
-		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
+		// Try lifecycle context has no state of its own and can therefore be shared by all tries
+		TryLifecycleContext tryLifecycleContext = new DefaultTryLifecycleContext(propertyLifecycleContext);
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> tryLifecycleContext;
 		return new GenericProperty(propertyName, effectiveConfiguration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
 	}
 
@@ -8,6 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.hooks.lifecycle.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
@@ -24,6 +25,7 @@ public class CheckedPropertyFactory {
 
 		Method propertyMethod = propertyMethodDescriptor.getTargetMethod();
 		PropertyConfiguration configuration = propertyMethodDescriptor.getConfiguration();
+		checkTriesCanRunConcurrently(propertyMethodDescriptor, configuration);
 
 		TryLifecycleExecutor tryLifecycleExecutor = createTryExecutor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry, invokeMethod);
 		List<MethodParameter> propertyParameters = extractParameters(propertyMethod, propertyMethodDescriptor.getContainerClass());
@@ -49,6 +51,23 @@ public class CheckedPropertyFactory {
 		);
 	}
 
+	// Try lifecycle members change the single test instance that all concurrent tries share
+	private void checkTriesCanRunConcurrently(PropertyMethodDescriptor propertyMethodDescriptor, PropertyConfiguration configuration) {
+		if (configuration.getTryExecutionMode() != TryExecutionMode.VIRTUAL_THREADS) {
+			return;
+		}
+		Class<?> containerClass = propertyMethodDescriptor.getContainerClass();
+		if (BeforeTryMembersHook.hasBeforeTryFields(containerClass) || TryLifecycleMethodsHook.hasTryLifecycleMethods(containerClass)) {
+			String message = String.format(
+				"Property [%s] cannot run its tries concurrently because its container has @BeforeTry fields " +
+					"or @BeforeTry/@AfterTry methods, which would interfere with each other. " +
+					"Use tryExecution = TryExecutionMode.SEQUENTIAL or move per-try state into a store with Lifespan.TRY.",
+				propertyMethodDescriptor.extendedLabel()
+			);
+			throw new JqwikException(message);
+		}
+	}
+
 	private TryLifecycleExecutor createTryExecutor(
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
@@ -14,6 +14,7 @@ public class DefaultPropertyLifecycleContext extends AbstractLifecycleContext im
 	private final PropertyMethodDescriptor methodDescriptor;
 	private final Object testInstance;
 	private final ParameterSupplierResolver parameterSupplierResolver;
+	private volatile boolean profileRequested = false;
 
 	public DefaultPropertyLifecycleContext(
 		PropertyMethodDescriptor methodDescriptor,
@@ -77,6 +78,15 @@ public class DefaultPropertyLifecycleContext extends AbstractLifecycleContext im
 		return methodDescriptor.getConfiguration().getPropertyAttributes();
 	}
 
+	@Override
+	public void requestProfile() {
+		profileRequested = true;
+	}
+
+	public boolean isProfileRequested() {
+		return profileRequested;
+	}
+
 	@Override
 	public String toString() {
 		return toString(PropertyLifecycleContext.class);
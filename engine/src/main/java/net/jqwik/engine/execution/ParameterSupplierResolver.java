@@ -2,13 +2,15 @@ package net.jqwik.engine.execution;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.ResolveParameterHook.*;
 import net.jqwik.engine.support.*;
 
 class ParameterSupplierResolver {
-	private final Map<Parameter, Optional<ParameterSupplier>> resolvedSuppliers = new LinkedHashMap<>();
+	// Concurrent tries resolve parameters of lifecycle methods at the same time
+	private final Map<Parameter, Optional<ParameterSupplier>> resolvedSuppliers = new ConcurrentHashMap<>();
 	private final ResolveParameterHook resolveParameterHook;
 	private final LifecycleContext lifecycleContext;
 
@@ -21,6 +23,11 @@ class ParameterSupplierResolver {
 		Parameter[] parameters = executable.getParameters();
 		if (index >= 0 && index < parameters.length) {
 			Parameter parameter = parameters[index];
+			// Lookup cache first because creating method parameter requires generics resolution
+			Optional<ParameterSupplier> resolvedSupplier = resolvedSuppliers.get(parameter);
+			if (resolvedSupplier != null) {
+				return resolvedSupplier;
+			}
 			MethodParameter methodParameter = JqwikReflectionSupport.getMethodParameter(parameter, index, containerClass);
 			return resolveParameter(methodParameter);
 		} else {
@@ -29,7 +36,15 @@ class ParameterSupplierResolver {
 	}
 
 	Optional<ParameterSupplier> resolveParameter(MethodParameter methodParameter) {
-		return resolvedSuppliers.computeIfAbsent(methodParameter.getRawParameter(), ignore -> computeSupplier(methodParameter));
+		Parameter parameter = methodParameter.getRawParameter();
+		Optional<ParameterSupplier> resolvedSupplier = resolvedSuppliers.get(parameter);
+		if (resolvedSupplier != null) {
+			return resolvedSupplier;
+		}
+		// Resolving hooks are not called within computeIfAbsent because they might resolve other parameters
+		Optional<ParameterSupplier> computedSupplier = computeSupplier(methodParameter);
+		Optional<ParameterSupplier> previousSupplier = resolvedSuppliers.putIfAbsent(parameter, computedSupplier);
+		return previousSupplier != null ? previousSupplier : computedSupplier;
 	}
 
 	private Optional<ParameterSupplier> computeSupplier(MethodParameter methodParameter) {
@@ -29,9 +29,10 @@ class PropertyTaskCreator {
 				}
 
 				PropertyLifecycleContext propertyLifecycleContext;
+				DefaultReporter reporter = new DefaultReporter(listener::reportingEntryPublished, methodDescriptor, true);
 
 				try {
-					propertyLifecycleContext = createLifecycleContext(methodDescriptor, lifecycleSupplier, listener);
+					propertyLifecycleContext = createLifecycleContext(methodDescriptor, lifecycleSupplier, reporter);
 
 					SkipResult skipResult = CurrentTestDescriptor.runWithDescriptor(methodDescriptor, () -> {
 						SkipExecutionHook skipExecutionHook = lifecycleSupplier.skipExecutionHook(methodDescriptor);
@@ -51,10 +52,12 @@ class PropertyTaskCreator {
 							PropertyExecutionResult executionResult = executeTestMethod(
 								methodDescriptor, propertyLifecycleContext, lifecycleSupplier, reportOnlyFailures
 							);
+							reporter.flush();
 							listener.executionFinished(methodDescriptor, executionResult);
 							return null;
 						});
 					} finally {
+						reporter.flush();
 						StoreRepository.getCurrent().finishScope(methodDescriptor);
 					}
 
@@ -81,11 +84,10 @@ class PropertyTaskCreator {
 	private PropertyLifecycleContext createLifecycleContext(
 		PropertyMethodDescriptor methodDescriptor,
 		LifecycleHooksSupplier lifecycleSupplier,
-		PropertyExecutionListener listener
+		Reporter reporter
 	) {
 		PropertyLifecycleContext propertyLifecycleContext;
 		ResolveParameterHook resolveParameterHook = lifecycleSupplier.resolveParameterHook(methodDescriptor);
-		Reporter reporter = new DefaultReporter(listener::reportingEntryPublished, methodDescriptor);
 		Object testInstance = createTestInstance(methodDescriptor, lifecycleSupplier, reporter);
 		propertyLifecycleContext = new DefaultPropertyLifecycleContext(methodDescriptor, testInstance, reporter, resolveParameterHook);
 		return propertyLifecycleContext;
@@ -3,6 +3,7 @@ package net.jqwik.engine.execution;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.ResolveParameterHook.*;
 import net.jqwik.engine.properties.*;
@@ -12,6 +13,8 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 	private final List<MethodParameter> propertyParameters;
 	private final ForAllParametersGenerator forAllParametersGenerator;
 	private final ParameterSupplierResolver parameterSupplierResolver;
+	private final boolean[] forAllParameters;
+	private final Map<MethodParameter, Tuple2<ParameterSupplier, ParameterResolutionContext>> resolvedParameters = new HashMap<>();
 	private int currentGenerationIndex = 0;
 
 	public ResolvingParametersGenerator(
@@ -23,6 +26,15 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		this.propertyParameters = propertyParameters;
 		this.forAllParametersGenerator = forAllParametersGenerator;
 		this.parameterSupplierResolver = new ParameterSupplierResolver(resolveParameterHook, propertyLifecycleContext);
+		this.forAllParameters = determineForAllParameters(propertyParameters);
+	}
+
+	private static boolean[] determineForAllParameters(List<MethodParameter> propertyParameters) {
+		boolean[] forAllParameters = new boolean[propertyParameters.size()];
+		for (int i = 0; i < forAllParameters.length; i++) {
+			forAllParameters[i] = propertyParameters.get(i).isAnnotated(ForAll.class);
+		}
+		return forAllParameters;
 	}
 
 	@Override
@@ -32,15 +44,15 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 
 	@Override
 	public List<Shrinkable<Object>> next(TryLifecycleContext context) {
-		List<Shrinkable<Object>> next = new ArrayList<>();
-		List<Shrinkable<Object>> forAllShrinkables = new ArrayList<>(forAllParametersGenerator.next());
+		List<Shrinkable<Object>> next = new ArrayList<>(propertyParameters.size());
+		List<Shrinkable<Object>> forAllShrinkables = forAllParametersGenerator.next();
 
-		for (MethodParameter parameter : propertyParameters) {
-			if (parameter.isAnnotated(ForAll.class)) {
-				next.add(forAllShrinkables.get(0));
-				forAllShrinkables.remove(0);
+		int forAllIndex = 0;
+		for (int i = 0; i < forAllParameters.length; i++) {
+			if (forAllParameters[i]) {
+				next.add(forAllShrinkables.get(forAllIndex++));
 			} else {
-				next.add(findResolvableParameter(parameter, context));
+				next.add(findResolvableParameter(propertyParameters.get(i), context));
 			}
 		}
 
@@ -64,13 +76,19 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 	}
 
 	private Shrinkable<Object> findResolvableParameter(MethodParameter parameter, TryLifecycleContext tryLifecycleContext) {
+		Tuple2<ParameterSupplier, ParameterResolutionContext> supplierAndContext =
+			resolvedParameters.computeIfAbsent(parameter, this::resolveParameter);
+		return new ShrinkableResolvedParameter(supplierAndContext.get1(), supplierAndContext.get2(), tryLifecycleContext);
+	}
+
+	private Tuple2<ParameterSupplier, ParameterResolutionContext> resolveParameter(MethodParameter parameter) {
 		ParameterSupplier parameterSupplier =
 			parameterSupplierResolver.resolveParameter(parameter).orElseThrow(() -> {
 				String info = "No matching resolver could be found";
 				return new CannotResolveParameterException(parameter.getRawParameter(), info);
 			});
 		ParameterResolutionContext parameterContext = new DefaultParameterInjectionContext(parameter);
-		return new ShrinkableResolvedParameter(parameterSupplier, parameterContext, tryLifecycleContext);
+		return Tuple.of(parameterSupplier, parameterContext);
 	}
 
 	@Override
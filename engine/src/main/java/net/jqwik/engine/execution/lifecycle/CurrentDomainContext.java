@@ -3,6 +3,8 @@ package net.jqwik.engine.execution.lifecycle;
 import java.util.*;
 import java.util.function.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.configurators.*;
 import net.jqwik.api.domains.*;
 import net.jqwik.api.providers.*;
@@ -33,6 +35,23 @@ public class CurrentDomainContext {
 		}
 	}
 
+	/**
+	 * For code that cannot be wrapped in {@linkplain #runWithContext(DomainContext, Supplier)},
+	 * e.g. a coroutine that resumes on different threads.
+	 *
+	 * @return the context that was set before or null if there was none
+	 */
+	@Nullable
+	public static DomainContext set(@Nullable DomainContext context) {
+		DomainContext previousContext = currentContext.get();
+		if (context == null) {
+			currentContext.remove();
+		} else {
+			currentContext.set(context);
+		}
+		return previousContext;
+	}
+
 	private static class GlobalDomainContext implements DomainContext {
 
 		@Override
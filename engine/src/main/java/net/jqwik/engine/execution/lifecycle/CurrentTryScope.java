@@ -0,0 +1,59 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Tries that run concurrently must not share the values of {@linkplain net.jqwik.api.lifecycle.Lifespan#TRY} stores.
+ * Each of those tries therefore gets its own scope which is used
+ * when generating its parameters and when executing it.
+ * Outside of such a scope all tries share a store's single value.
+ */
+public class CurrentTryScope {
+
+	private static final ThreadLocal<Object> currentScope = new ThreadLocal<>();
+
+	public static Object newScope() {
+		return new Object();
+	}
+
+	public static <T> T runInScope(Object tryScope, Supplier<T> executable) {
+		Object previousScope = currentScope.get();
+		currentScope.set(tryScope);
+		try {
+			return executable.get();
+		} finally {
+			if (previousScope == null) {
+				currentScope.remove();
+			} else {
+				currentScope.set(previousScope);
+			}
+		}
+	}
+
+	/**
+	 * For code that cannot be wrapped in {@linkplain #runInScope(Object, Supplier)},
+	 * e.g. a coroutine that resumes on different threads.
+	 *
+	 * @return the scope that was current before
+	 */
+	@Nullable
+	public static Object set(@Nullable Object tryScope) {
+		Object previousScope = currentScope.get();
+		if (tryScope == null) {
+			currentScope.remove();
+		} else {
+			currentScope.set(tryScope);
+		}
+		return previousScope;
+	}
+
+	/**
+	 * @return the scope of the concurrent try running on the current thread or null if there is none
+	 */
+	@Nullable
+	public static Object get() {
+		return currentScope.get();
+	}
+}
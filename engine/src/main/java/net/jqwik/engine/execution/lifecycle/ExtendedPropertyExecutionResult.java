@@ -1,10 +1,12 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.properties.profiling.*;
 
 public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult {
 
@@ -21,6 +23,24 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesExecutionResult edgeCases();
 
+	/**
+	 * The time spent on generating and running tries, shrinking not included.
+	 */
+	Optional<Duration> triesDuration();
+
+	/**
+	 * Only present if generation profiling was switched on for the property.
+	 */
+	default Optional<GenerationProfiler> generationProfiler() {
+		return Optional.empty();
+	}
+
+	default Optional<Double> triesPerSecond() {
+		return triesDuration().filter(duration -> !duration.isZero()).map(
+			duration -> countTries() * 1_000_000_000.0 / duration.toNanos()
+		);
+	}
+
 	class EdgeCasesExecutionResult {
 
 		private final EdgeCasesMode mode;
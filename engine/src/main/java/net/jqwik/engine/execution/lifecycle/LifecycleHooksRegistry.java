@@ -2,6 +2,7 @@ package net.jqwik.engine.execution.lifecycle;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.logging.*;
 import java.util.stream.*;
 
@@ -25,10 +26,15 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return (a, b) -> 0;
 	}
 
-	private final List<HookRegistration> registrations = new ArrayList<>();
+	private final Set<HookRegistration> registrations = new LinkedHashSet<>();
+	private final Map<TestDescriptor, List<HookRegistration>> registrationsByDescriptor = new HashMap<>();
 	private final Map<Class<? extends LifecycleHook>, LifecycleHook> instances = new LinkedHashMap<>();
 	private final Set<Tuple2<TestDescriptor, Class<? extends RegistrarHook>>> appliedRegistrars = new HashSet<>();
 
+	// Hooks are resolved once per descriptor and hook type. Any new registration invalidates all resolved hooks.
+	private final Map<Tuple2<TestDescriptor, Class<? extends LifecycleHook>>, List<? extends LifecycleHook>> resolvedHooks =
+		new ConcurrentHashMap<>();
+
 	@Override
 	public AroundPropertyHook aroundPropertyHook(PropertyMethodDescriptor propertyMethodDescriptor) {
 		List<AroundPropertyHook> aroundPropertyHooks = findHooks(propertyMethodDescriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo);
@@ -67,7 +73,7 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 
 	@Override
 	public InvokePropertyMethodHook invokePropertyMethodHook(TestDescriptor testDescriptor) {
-		return getSingletonHook(testDescriptor, InvokePropertyMethodHook.class, InvokePropertyMethodHook.DEFAULT);
+		return getSingletonHook(testDescriptor, InvokePropertyMethodHook.class, JqwikReflectionSupport::invokeMethod);
 	}
 
 	@Override
@@ -94,7 +100,17 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return hookToApply;
 	}
 
+	@SuppressWarnings("unchecked")
 	private <T extends LifecycleHook> List<T> findHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
+		List<T> hooks = (List<T>) resolvedHooks.computeIfAbsent(
+			Tuple.of(descriptor, hookType),
+			ignore -> resolveHooks(descriptor, hookType, comparator)
+		);
+		// Callers are allowed to change the returned list
+		return new ArrayList<>(hooks);
+	}
+
+	private <T extends LifecycleHook> List<T> resolveHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
 		List<Class<T>> hookClasses = findHookClasses(descriptor, hookType);
 		return hookClasses
 			.stream()
@@ -130,12 +146,24 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return (T) instances.get(hookClass);
 	}
 
+	// Only registrations of the descriptor itself and its ancestors can match
 	@SuppressWarnings("unchecked")
 	private <T extends LifecycleHook> List<Class<T>> findHookClasses(TestDescriptor descriptor, Class<T> hookType) {
-		return registrations
+		List<HookRegistration> matchingRegistrations = new ArrayList<>();
+		TestDescriptor current = descriptor;
+		int nesting = 0;
+		while (current != null) {
+			for (HookRegistration registration : registrationsByDescriptor.getOrDefault(current, Collections.emptyList())) {
+				if (registration.propagatesTo(nesting) && registration.match(hookType)) {
+					matchingRegistrations.add(registration);
+				}
+			}
+			current = current.getParent().orElse(null);
+			nesting++;
+		}
+		return matchingRegistrations
 				   .stream()
-				   .filter(registration -> registration.match(descriptor))
-				   .filter(registration -> registration.match(hookType))
+				   .sorted(Comparator.comparingInt(registration -> registration.order))
 				   .map(registration -> (Class<T>) registration.hookClass)
 				   .distinct()
 				   .collect(Collectors.toList());
@@ -149,6 +177,7 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		createAndRegisterHook(descriptor, hookClass, hookInstance.propagateTo());
 		if (!instances.containsKey(hookClass)) {
 			instances.put(hookClass, hookInstance);
+			resolvedHooks.clear();
 		}
 		registerRegistrarHooks(descriptor, hookInstance);
 	}
@@ -158,9 +187,10 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		Class<? extends LifecycleHook> hookClass,
 		PropagationMode propagateTo
 	) {
-		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo);
-		if (!registrations.contains(registration)) {
-			registrations.add(registration);
+		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo, registrations.size());
+		if (registrations.add(registration)) {
+			registrationsByDescriptor.computeIfAbsent(descriptor, ignore -> new ArrayList<>()).add(registration);
+			resolvedHooks.clear();
 		}
 	}
 
@@ -219,11 +249,13 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		private final TestDescriptor descriptor;
 		private final Class<? extends LifecycleHook> hookClass;
 		private final PropagationMode propagationMode;
+		private final int order;
 
 		private HookRegistration(
 			TestDescriptor descriptor,
 			Class<? extends LifecycleHook> hookClass,
-			PropagationMode propagationMode
+			PropagationMode propagationMode,
+			int order
 		) {
 			if (propagationMode == NOT_SET) {
 				throw new IllegalArgumentException("propagation mode must be set by caller");
@@ -231,26 +263,17 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 			this.descriptor = descriptor;
 			this.hookClass = hookClass;
 			this.propagationMode = propagationMode;
+			this.order = order;
 		}
 
-		boolean match(TestDescriptor descriptor) {
-			return match(descriptor, 0);
-		}
-
-		private boolean match(TestDescriptor descriptor, int nesting) {
-			if (descriptor == null) {
-				return false;
-			}
+		/**
+		 * @param nesting 0 for the registration's own descriptor, 1 for its children and so on
+		 */
+		boolean propagatesTo(int nesting) {
 			if (nesting > 0 && (propagationMode == NO_DESCENDANTS)) {
 				return false;
 			}
-			if (nesting > 1 && (propagationMode != ALL_DESCENDANTS)) {
-				return false;
-			}
-			if (this.descriptor.equals(descriptor)) {
-				return true;
-			}
-			return match(descriptor.getParent().orElse(null), nesting + 1);
+			return nesting <= 1 || propagationMode == ALL_DESCENDANTS;
 		}
 
 		boolean match(Class<? extends LifecycleHook> hookType) {
@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -95,6 +96,11 @@ public class PlainExecutionResult implements ExtendedPropertyExecutionResult {
 		return new EdgeCasesExecutionResult(EdgeCasesMode.NOT_SET, 0, 0);
 	}
 
+	@Override
+	public Optional<Duration> triesDuration() {
+		return Optional.empty();
+	}
+
 	@Override
 	public GenerationInfo generationInfo() {
 		return generationInfo;
@@ -1,8 +1,12 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
 import java.util.function.*;
 import java.util.logging.*;
 
+import org.jspecify.annotations.*;
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
@@ -19,8 +23,10 @@ public class ScopedStore<T> implements Store<T> {
 	private final TestDescriptor scope;
 	private final Supplier<T> initialValueSupplier;
 
-	private T value;
-	private boolean initialized = false;
+	private final Value<T> value = new Value<>();
+
+	// Concurrently running tries each have their own value of a TRY store, see CurrentTryScope
+	private final Map<Object, Value<T>> valuesInTryScopes = new ConcurrentHashMap<>();
 
 	public ScopedStore(
 		Object identifier,
@@ -35,12 +41,22 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized T get() {
-		if (!initialized) {
-			value = initialValueSupplier.get();
-			initialized = true;
+	public T get() {
+		Value<T> current = currentValue();
+		current.lock.lock();
+		try {
+			return initializedValue(current);
+		} finally {
+			current.lock.unlock();
 		}
-		return value;
+	}
+
+	private T initializedValue(Value<T> current) {
+		if (!current.initialized) {
+			current.value = initialValueSupplier.get();
+			current.initialized = true;
+		}
+		return current.value;
 	}
 
 	@Override
@@ -49,17 +65,49 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+	public void update(Function<T, T> updater) {
+		Value<T> current = currentValue();
+		current.lock.lock();
+		try {
+			current.value = updater.apply(initializedValue(current));
+		} finally {
+			current.lock.unlock();
+		}
 	}
 
 	@Override
-	public synchronized void reset() {
-		close();
-		initialized = false;
+	public void reset() {
+		Object tryScope = currentTryScope();
+		if (tryScope != null) {
+			Value<T> valueInTryScope = valuesInTryScopes.remove(tryScope);
+			if (valueInTryScope != null) {
+				close(valueInTryScope);
+			}
+			return;
+		}
+		value.lock.lock();
+		try {
+			close(value);
+			value.initialized = false;
+
+			// Free memory as soon as possible, the store object might go live on for a while:
+			value.value = null;
+		} finally {
+			value.lock.unlock();
+		}
+	}
 
-		// Free memory as soon as possible, the store object might go live on for a while:
-		value = null;
+	private Value<T> currentValue() {
+		Object tryScope = currentTryScope();
+		if (tryScope == null) {
+			return value;
+		}
+		return valuesInTryScopes.computeIfAbsent(tryScope, ignore -> new Value<>());
+	}
+
+	@Nullable
+	private Object currentTryScope() {
+		return lifespan == Lifespan.TRY ? CurrentTryScope.get() : null;
 	}
 
 	public Object getIdentifier() {
@@ -88,28 +136,45 @@ public class ScopedStore<T> implements Store<T> {
 			displayString(identifier),
 			lifespan.name(),
 			scope.getUniqueId(),
-			displayString(value)
+			displayString(value.value)
 		);
 	}
 
 	public void close() {
-		if (!initialized) {
-			return;
+		close(value);
+		for (Object tryScope : new ArrayList<>(valuesInTryScopes.keySet())) {
+			Value<T> valueInTryScope = valuesInTryScopes.remove(tryScope);
+			if (valueInTryScope != null) {
+				close(valueInTryScope);
+			}
 		}
-		closeOnReset();
 	}
 
-	private void closeOnReset() {
-		if (value instanceof Store.CloseOnReset) {
-			try {
-				((Store.CloseOnReset) value).close();
-			} catch (Throwable throwable) {
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-				String message = String.format("Exception while closing store [%s]", this);
-				LOG.log(Level.SEVERE, message, throwable);
+	private void close(Value<T> storedValue) {
+		storedValue.lock.lock();
+		try {
+			if (!storedValue.initialized) {
+				return;
+			}
+			if (storedValue.value instanceof Store.CloseOnReset) {
+				try {
+					((Store.CloseOnReset) storedValue.value).close();
+				} catch (Throwable throwable) {
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					String message = String.format("Exception while closing store [%s]", this);
+					LOG.log(Level.SEVERE, message, throwable);
+				}
 			}
+		} finally {
+			storedValue.lock.unlock();
 		}
 	}
 
+	private static class Value<T> {
+		// Not synchronized because initializers and updaters may block,
+		// which would pin the carrier thread of a virtual thread
+		private final ReentrantLock lock = new ReentrantLock();
+		private T value;
+		private boolean initialized = false;
+	}
 }
-
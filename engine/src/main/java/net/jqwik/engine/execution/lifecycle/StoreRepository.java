@@ -11,6 +11,12 @@ import net.jqwik.api.lifecycle.*;
 
 /**
  * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ *
+ * <p>
+ * Tries of a single property may run concurrently though.
+ * That's why access to the repository is synchronized
+ * and why stores are reset and closed outside of the repository's lock.
+ * </p>
  */
 public class StoreRepository {
 
@@ -29,7 +35,7 @@ public class StoreRepository {
 
 	private final Map<Object, IdentifiedStores> storesByIdentifier = new LinkedHashMap<>();
 
-	public <T> ScopedStore<T> create(
+	public synchronized <T> ScopedStore<T> create(
 		TestDescriptor scope,
 		Object identifier,
 		Lifespan lifespan,
@@ -80,7 +86,33 @@ public class StoreRepository {
 		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
 	}
 
-	public <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
+	/**
+	 * Getting and creating happen atomically so that concurrently running tries
+	 * cannot create the same store twice.
+	 */
+	public synchronized <T> ScopedStore<T> getOrCreate(
+		TestDescriptor retriever,
+		Object identifier,
+		Lifespan lifespan,
+		Supplier<T> initialValueSupplier
+	) {
+		Optional<ScopedStore<T>> existingStore = get(retriever, identifier);
+		if (!existingStore.isPresent()) {
+			return create(retriever, identifier, lifespan, initialValueSupplier);
+		}
+		ScopedStore<T> store = existingStore.get();
+		if (!store.lifespan().equals(lifespan)) {
+			String message = String.format(
+				"Trying to recreate existing store [%s] with different lifespan [%s]",
+				store,
+				lifespan
+			);
+			throw new JqwikException(message);
+		}
+		return store;
+	}
+
+	public synchronized <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
@@ -103,16 +135,23 @@ public class StoreRepository {
 	}
 
 	public void finishScope(TestDescriptor scope) {
+		List<ScopedStore<?>> storesToRemove = removeStoresIn(scope);
+		for (ScopedStore<?> store : storesToRemove) {
+			store.close();
+		}
+	}
+
+	private synchronized List<ScopedStore<?>> removeStoresIn(TestDescriptor scope) {
 		List<ScopedStore<?>> storesToRemove =
-			streamAllStores()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
+			allStores().stream()
+					   .filter(store -> isStoreIn(store, scope))
+					   .collect(Collectors.toList());
 
 		// forEach does not work because map underlying the stream is changed
 		for (ScopedStore<?> store : storesToRemove) {
-			store.close();
 			removeStore(store);
 		}
+		return storesToRemove;
 	}
 
 	private void removeStore(ScopedStore<?> store) {
@@ -123,19 +162,12 @@ public class StoreRepository {
 		}
 	}
 
-	private Stream<ScopedStore<?>> streamAllStores() {
-		Collection<IdentifiedStores> values = new ArrayList<>(storesByIdentifier.values());
-		return values
-			.stream()
-			.flatMap(identifiedStores -> new ArrayList<>(identifiedStores.values()).stream());
-
-		// TODO: Above implementation tries to get rid of ConcurrentModificationException
-		//       reported in https://github.com/jqwik-team/jqwik/issues/210.
-		//       Evaluate if it really does.
-		// return storesByIdentifier
-		// 		   .values()
-		// 		   .stream()
-		// 		   .flatMap(identifiedStores -> identifiedStores.values().stream());
+	private synchronized List<ScopedStore<?>> allStores() {
+		List<ScopedStore<?>> allStores = new ArrayList<>();
+		for (IdentifiedStores identifiedStores : storesByIdentifier.values()) {
+			allStores.addAll(identifiedStores.values());
+		}
+		return allStores;
 	}
 
 	private boolean isStoreIn(ScopedStore<?> store, TestDescriptor scope) {
@@ -143,20 +175,23 @@ public class StoreRepository {
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		allStores().stream()
+				   .filter(store -> store.lifespan() == Lifespan.PROPERTY)
+				   .filter(store -> store.isVisibleFor(scope))
+				   .forEach(Store::reset);
 	}
 
+	/**
+	 * Within a {@linkplain CurrentTryScope try scope} only the values of that scope are reset.
+	 */
 	public void finishTry(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		allStores().stream()
+				   .filter(store -> store.lifespan() == Lifespan.TRY)
+				   .filter(store -> store.isVisibleFor(scope))
+				   .forEach(Store::reset);
 	}
 
-	public int size() {
+	public synchronized int size() {
 		return storesByIdentifier.values().stream().mapToInt(HashMap::size).sum();
 	}
 }
@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution.reporting;
 
+import java.lang.reflect.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -12,64 +13,22 @@ public class ArrayReportingFormat implements SampleReportingFormat {
 
 	@Override
 	public Object report(Object value) {
-		Class<?> arrayClass = value.getClass();
-		if (arrayClass.equals(byte[].class)) {
-			List<Byte> list = new ArrayList<>();
-			for (byte v : ((byte[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(short[].class)) {
-			List<Short> list = new ArrayList<>();
-			for (short v : ((short[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(int[].class)) {
-			List<Integer> list = new ArrayList<>();
-			for (int v : ((int[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(long[].class)) {
-			List<Long> list = new ArrayList<>();
-			for (long v : ((long[]) value)) {
-				list.add(v);
-			}
-			return list;
+		if (value instanceof Object[]) {
+			return Arrays.asList((Object[]) value);
 		}
-		if (arrayClass.equals(char[].class)) {
-			List<Character> list = new ArrayList<>();
-			for (char v : ((char[]) value)) {
-				list.add(v);
+		// A view instead of a copy because usually only the first elements of large arrays are reported
+		int length = Array.getLength(value);
+		return new AbstractList<Object>() {
+			@Override
+			public Object get(int index) {
+				return Array.get(value, index);
 			}
-			return list;
-		}
-		if (arrayClass.equals(float[].class)) {
-			List<Float> list = new ArrayList<>();
-			for (float v : ((float[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(double[].class)) {
-			List<Double> list = new ArrayList<>();
-			for (double v : ((double[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(boolean[].class)) {
-			List<Boolean> list = new ArrayList<>();
-			for (boolean v : ((boolean[]) value)) {
-				list.add(v);
+
+			@Override
+			public int size() {
+				return length;
 			}
-			return list;
-		}
-		return Arrays.asList((Object[]) value);
+		};
 	}
 
 	@Override
@@ -1,30 +1,66 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.reporting.*;
 
 import net.jqwik.api.*;
-
+import net.jqwik.engine.support.*;
+
+/**
+ * Publishes report entries to the engine's execution listener.
+ *
+ * <p>
+ * If created with {@code formatInBackground}, reports of samples - e.g. the reports for {@linkplain Reporting#GENERATED} -
+ * are formatted on a background thread and published later, but always in the order of publishing.
+ * That only happens for samples of which a {@linkplain ReportSnapshot snapshot} can be taken,
+ * i.e. immutable values and collections, maps, arrays and optionals thereof.
+ * Samples to which any user-defined {@linkplain SampleReportingFormat} applies are always formatted on the publishing thread
+ * because user formats may depend on the current descriptor, domain context or store values.
+ * All other entries are published immediately after any pending ones.
+ * Call {@linkplain #flush()} to publish pending entries before the property finishes.
+ * </p>
+ */
 public class DefaultReporter implements Reporter {
 
+	// Handing over reports one by one would cost more than formatting them
+	private static final int REPORTS_PER_BATCH = 64;
+
+	// Formatting may fall behind fast tries; then publishing has to wait
+	private static final int MAX_PENDING_BATCHES = 16;
+
+	private static final ExecutorService FORMATTER = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "jqwik-report-formatter");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	private final BiConsumer<TestDescriptor, ReportEntry> listener;
 	private final TestDescriptor descriptor;
+	private final boolean formatInBackground;
+	private final Deque<Future<List<ReportEntry>>> pendingBatches = new ArrayDeque<>();
+	private List<Callable<ReportEntry>> currentBatch = new ArrayList<>();
 
 	public DefaultReporter(BiConsumer<TestDescriptor, ReportEntry> listener, TestDescriptor descriptor) {
+		this(listener, descriptor, false);
+	}
+
+	public DefaultReporter(BiConsumer<TestDescriptor, ReportEntry> listener, TestDescriptor descriptor, boolean formatInBackground) {
 		this.listener = listener;
 		this.descriptor = descriptor;
+		this.formatInBackground = formatInBackground;
 	}
 
 	@Override
-	public void publishValue(String key, String value) {
+	public synchronized void publishValue(String key, String value) {
 		publish(ReportEntry.from(key, value));
 	}
 
 	@Override
-	public void publishReport(String key, Object object) {
+	public synchronized void publishReport(String key, Object object) {
 		publish(ReportEntry.from(key, buildReport(object)));
 	}
 
@@ -46,16 +82,102 @@ public class DefaultReporter implements Reporter {
 	}
 
 	@Override
-	public void publishReports(String key, Map<String, Object> objects) {
-		publish(ReportEntry.from(key, buildReports(objects)));
+	public synchronized void publishReports(String key, Map<String, Object> objects) {
+		Collection<SampleReportingFormat> formats = getSampleReportingFormats();
+		Optional<Map<String, Object>> snapshot = formatInBackground
+			? ReportSnapshot.of(objects, value -> hasUserFormat(value, formats))
+			: Optional.empty();
+		if (!snapshot.isPresent()) {
+			publish(ReportEntry.from(key, buildReports(objects, formats)));
+			return;
+		}
+		Map<String, Object> reports = snapshot.get();
+		currentBatch.add(() -> ReportEntry.from(key, buildReportsInBackground(reports, formats)));
+		if (currentBatch.size() == REPORTS_PER_BATCH) {
+			List<Callable<ReportEntry>> batch = currentBatch;
+			currentBatch = new ArrayList<>();
+			pendingBatches.addLast(FORMATTER.submit(() -> formatBatch(batch)));
+		}
+		publishFinishedBatches();
+	}
+
+	// The engine's formats for arrays and optionals only depend on the copied value itself
+	private boolean hasUserFormat(Object value, Collection<SampleReportingFormat> formats) {
+		for (SampleReportingFormat format : formats) {
+			if (format instanceof ArrayReportingFormat || format instanceof OptionalReportingFormat) {
+				continue;
+			}
+			if (format.appliesTo(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<ReportEntry> formatBatch(List<Callable<ReportEntry>> batch) throws Exception {
+		List<ReportEntry> entries = new ArrayList<>(batch.size());
+		for (Callable<ReportEntry> report : batch) {
+			entries.add(report.call());
+		}
+		return entries;
+	}
+
+	// Failing to format must not fail the property at some later point
+	private String buildReportsInBackground(Map<String, Object> reports, Collection<SampleReportingFormat> formats) {
+		try {
+			return buildReports(reports, formats);
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			return String.format("Cannot format report: %s", throwable);
+		}
+	}
+
+	/**
+	 * Publish all pending entries.
+	 */
+	public synchronized void flush() {
+		while (!pendingBatches.isEmpty()) {
+			publishNextPendingBatch();
+		}
+		if (currentBatch.isEmpty()) {
+			return;
+		}
+		List<Callable<ReportEntry>> batch = currentBatch;
+		currentBatch = new ArrayList<>();
+		try {
+			formatBatch(batch).forEach(entry -> listener.accept(descriptor, entry));
+		} catch (Exception exception) {
+			JqwikExceptionSupport.throwAsUncheckedException(exception);
+		}
+	}
+
+	private void publishFinishedBatches() {
+		while (!pendingBatches.isEmpty()) {
+			boolean tooManyPending = pendingBatches.size() > MAX_PENDING_BATCHES;
+			if (!tooManyPending && !pendingBatches.peekFirst().isDone()) {
+				return;
+			}
+			publishNextPendingBatch();
+		}
+	}
+
+	private void publishNextPendingBatch() {
+		Future<List<ReportEntry>> nextBatch = pendingBatches.pollFirst();
+		try {
+			nextBatch.get().forEach(entry -> listener.accept(descriptor, entry));
+		} catch (ExecutionException executionException) {
+			JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
 	}
 
 	private Collection<SampleReportingFormat> getSampleReportingFormats() {
 		return SampleReportingFormats.getReportingFormats();
 	}
 
-	private String buildReports(Map<String, Object> reports) {
-		SampleReporter sampleReporter = new SampleReporter(null, reports, getSampleReportingFormats());
+	private String buildReports(Map<String, Object> reports, Collection<SampleReportingFormat> formats) {
+		SampleReporter sampleReporter = new SampleReporter(null, reports, formats);
 		StringBuilder stringBuilder = new StringBuilder();
 		LineReporter lineReporter = new BuilderBasedLineReporter(stringBuilder, 0);
 		sampleReporter.reportTo(lineReporter);
@@ -64,6 +186,7 @@ public class DefaultReporter implements Reporter {
 	}
 
 	private void publish(ReportEntry entry) {
+		flush();
 		listener.accept(descriptor, entry);
 	}
 
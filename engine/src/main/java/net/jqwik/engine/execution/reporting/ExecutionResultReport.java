@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -8,8 +9,10 @@ import org.opentest4j.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.support.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.profiling.*;
 import net.jqwik.engine.support.*;
 
 public class ExecutionResultReport {
@@ -22,10 +25,20 @@ public class ExecutionResultReport {
 	private static final String EDGE_CASES_TRIED_KEY = "edge-cases#tried";
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String FIXED_SEED_KEY = "when-fixed-seed";
+	private static final String MAX_DURATION_KEY = "max-duration";
+	private static final String TRIES_PER_SECOND_KEY = "tries-per-second";
 	private static final String SEED_KEY = "seed";
+	private static final String SETUP_TIME_KEY = "time#setup";
+	private static final String GENERATION_TIME_KEY = "time#generation";
+	private static final String EXECUTION_TIME_KEY = "time#execution";
+	private static final String SHRINKING_TIME_KEY = "time#shrinking";
+	private static final String FILTER_MISSES_KEY = "filter-misses";
+	private static final String SHRINK_ATTEMPTS_KEY = "shrink-attempts";
+	private static final String RETAINED_SAMPLES_KEY = "retained-samples";
 	private static final String SAMPLE_HEADLINE = "Sample";
 	private static final String SHRUNK_SAMPLE_HEADLINE = "Shrunk Sample";
 	private static final String ORIGINAL_SAMPLE_HEADLINE = "Original Sample";
+	private static final String GENERATION_PROFILE_HEADLINE = "Generation Profile";
 
 	public static String from(
 		PropertyMethodDescriptor methodDescriptor,
@@ -35,15 +48,28 @@ public class ExecutionResultReport {
 		return buildJqwikReport(
 			methodDescriptor.getConfiguration().getAfterFailureMode(),
 			methodDescriptor.getConfiguration().getFixedSeedMode(),
+			maxDurationIfValid(methodDescriptor.getConfiguration()),
+			Reporting.PROFILE.containedIn(methodDescriptor.getReporting()),
 			methodDescriptor.getTargetMethod(),
 			executionResult,
 			reportingFormats
 		);
 	}
 
+	// An invalid max duration has already failed the property, which is reported anyway
+	private static Optional<Duration> maxDurationIfValid(PropertyConfiguration configuration) {
+		try {
+			return configuration.getMaxDuration();
+		} catch (JqwikException invalidMaxDuration) {
+			return Optional.empty();
+		}
+	}
+
 	private static String buildJqwikReport(
 		AfterFailureMode afterFailureMode,
 		FixedSeedMode fixedSeedMode,
+		Optional<Duration> maxDuration,
+		boolean reportProfile,
 		Method propertyMethod,
 		ExtendedPropertyExecutionResult executionResult,
 		Collection<SampleReportingFormat> sampleReportingFormats
@@ -51,7 +77,10 @@ public class ExecutionResultReport {
 		StringBuilder reportBuilder = new StringBuilder();
 
 		appendThrowableMessage(reportBuilder, executionResult);
-		appendFixedSizedProperties(reportBuilder, executionResult, afterFailureMode, fixedSeedMode);
+		appendFixedSizedProperties(reportBuilder, executionResult, afterFailureMode, fixedSeedMode, maxDuration, reportProfile);
+		if (reportProfile) {
+			executionResult.generationProfiler().ifPresent(profiler -> appendGenerationProfile(reportBuilder, profiler));
+		}
 		appendSamples(reportBuilder, propertyMethod, executionResult, sampleReportingFormats);
 
 		return reportBuilder.toString();
@@ -91,6 +120,39 @@ public class ExecutionResultReport {
 		});
 	}
 
+	private static void appendGenerationProfile(StringBuilder reportBuilder, GenerationProfiler profiler) {
+		if (profiler.root().children().isEmpty()) {
+			return;
+		}
+		reportBuilder.append(String.format("%n%s%n%s%n", GENERATION_PROFILE_HEADLINE, GENERATION_PROFILE_HEADLINE.replaceAll(".", "-")));
+		String allocationsHeader = profiler.measuresAllocations() ? "alloc[kB]" : "";
+		reportBuilder.append(String.format(
+			"  %-30s %10s %12s %12s %12s %14s%n",
+			"arbitrary", "calls", "total[ms]", "self[ms]", allocationsHeader, "filter-misses"
+		));
+		for (GenerationProfiler.Node child : profiler.root().children()) {
+			appendGenerationProfileNode(reportBuilder, child, 0, profiler.measuresAllocations());
+		}
+	}
+
+	private static void appendGenerationProfileNode(StringBuilder reportBuilder, GenerationProfiler.Node node, int depth, boolean withAllocations) {
+		String indentedLabel = String.join("", Collections.nCopies(depth, "  ")) + node.label();
+		String allocations = withAllocations ? String.format(Locale.ROOT, "%.1f", node.allocatedBytes() / 1024.0) : "";
+		reportBuilder.append(String.format(
+			Locale.ROOT,
+			"  %-30s %10d %12.3f %12.3f %12s %14d%n",
+			indentedLabel,
+			node.invocations(),
+			node.totalNanos() / 1_000_000.0,
+			node.selfNanos() / 1_000_000.0,
+			allocations,
+			node.filterMisses()
+		));
+		for (GenerationProfiler.Node child : node.children()) {
+			appendGenerationProfileNode(reportBuilder, child, depth + 1, withAllocations);
+		}
+	}
+
 	private static void reportFootnotes(StringBuilder reportBuilder, List<String> footnotes) {
 		if (footnotes.isEmpty()) {
 			return;
@@ -149,7 +211,9 @@ public class ExecutionResultReport {
 		StringBuilder reportBuilder,
 		ExtendedPropertyExecutionResult executionResult,
 		AfterFailureMode afterFailureMode,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		Optional<Duration> maxDuration,
+		boolean reportProfile
 	) {
 		List<String> propertiesLines = new ArrayList<>();
 		int countTries = 0;
@@ -172,6 +236,13 @@ public class ExecutionResultReport {
 
 		appendProperty(propertiesLines, TRIES_KEY, Integer.toString(countTries), "# of calls to property");
 		appendProperty(propertiesLines, CHECKS_KEY, Integer.toString(countChecks), "# of not rejected calls");
+		if (maxDuration.isPresent()) {
+			appendProperty(propertiesLines, MAX_DURATION_KEY, DurationSupport.format(maxDuration.get()), "maximum duration of tries");
+			executionResult.triesPerSecond().ifPresent(triesPerSecond -> {
+				String formattedTriesPerSecond = String.format(Locale.ROOT, "%.0f", triesPerSecond);
+				appendProperty(propertiesLines, TRIES_PER_SECOND_KEY, formattedTriesPerSecond, "# of calls to property per second");
+			});
+		}
 		appendProperty(propertiesLines, GENERATION_KEY, generationMode, helpGenerationMode);
 		if (afterFailureMode != AfterFailureMode.NOT_SET) {
 			appendProperty(propertiesLines, AFTER_FAILURE_KEY, afterFailureMode.name(), helpAfterFailureMode(afterFailureMode));
@@ -186,12 +257,44 @@ public class ExecutionResultReport {
 																				 .tried(), "# of edge cases tried in current run");
 		}
 		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
+		if (reportProfile) {
+			executionResult.profile().ifPresent(profile -> appendProfile(propertiesLines, profile));
+		}
 
 		prependFixedSizedPropertiesHeader(reportBuilder, propertiesLines);
 		propertiesLines.forEach(reportBuilder::append);
 
 	}
 
+	private static void appendProfile(List<String> propertiesLines, PropertyProfile profile) {
+		appendProperty(propertiesLines, SETUP_TIME_KEY, formatDuration(profile.setupDuration()), "time to create generators and edge cases");
+		appendProperty(propertiesLines, GENERATION_TIME_KEY, formatDuration(profile.generationDuration()), "time to generate parameters");
+		appendProperty(propertiesLines, EXECUTION_TIME_KEY, formatDuration(profile.executionDuration()), "time to run tries including hooks");
+		if (!profile.shrinkingDuration().isZero()) {
+			appendProperty(propertiesLines, SHRINKING_TIME_KEY, formatDuration(profile.shrinkingDuration()), "time to shrink falsified sample");
+		}
+		if (profile.countFilterAttempts() > 0) {
+			String filterMisses = String.format(
+				Locale.ROOT, "%d/%d (%.1f%%)",
+				profile.countFilterMisses(), profile.countFilterAttempts(), profile.filterMissRatio() * 100
+			);
+			appendProperty(propertiesLines, FILTER_MISSES_KEY, filterMisses, "# of values rejected by filters");
+		}
+		Map<String, Integer> shrinkAttemptsPerPhase = profile.shrinkAttemptsPerPhase();
+		if (!shrinkAttemptsPerPhase.isEmpty()) {
+			int totalShrinkAttempts = shrinkAttemptsPerPhase.values().stream().mapToInt(Integer::intValue).sum();
+			String attemptsPerPhase = shrinkAttemptsPerPhase.entrySet().stream()
+															.map(entry -> String.format("%s: %d", entry.getKey(), entry.getValue()))
+															.collect(Collectors.joining(", "));
+			appendProperty(propertiesLines, SHRINK_ATTEMPTS_KEY, totalShrinkAttempts, attemptsPerPhase);
+		}
+		appendProperty(propertiesLines, RETAINED_SAMPLES_KEY, profile.peakRetainedSamples(), "max # of samples kept in memory");
+	}
+
+	private static String formatDuration(Duration duration) {
+		return String.format(Locale.ROOT, "%.3fms", duration.toNanos() / 1_000_000.0);
+	}
+
 	private static void prependFixedSizedPropertiesHeader(StringBuilder reportBuilder, List<String> propertiesLines) {
 		int halfBorderLength =
 			(propertiesLines.stream().mapToInt(String::length).max().orElse(50) - 37) / 2 + 1;
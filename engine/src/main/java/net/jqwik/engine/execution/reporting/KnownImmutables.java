@@ -0,0 +1,51 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.lang.reflect.*;
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Recognizes values whose report cannot change after they have been generated.
+ */
+class KnownImmutables {
+
+	private static final Set<Class<?>> IMMUTABLE_CLASSES = new HashSet<>(Arrays.asList(
+		String.class, Boolean.class, Character.class,
+		Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+		BigInteger.class, BigDecimal.class, UUID.class, Class.class
+	));
+
+	private static final Map<Class<?>, Boolean> enumsWithoutInstanceFields = new ConcurrentHashMap<>();
+
+	private KnownImmutables() {
+	}
+
+	static boolean isImmutable(Object value) {
+		if (value == null) {
+			return true;
+		}
+		Class<?> valueClass = value.getClass();
+		if (value instanceof Enum) {
+			// Enum constants are singletons but can still have mutable state
+			return enumsWithoutInstanceFields.computeIfAbsent(valueClass, KnownImmutables::hasNoInstanceFields);
+		}
+		if (IMMUTABLE_CLASSES.contains(valueClass)) {
+			return true;
+		}
+		// All public value types in java.time are immutable
+		return valueClass.getName().startsWith("java.time.");
+	}
+
+	private static boolean hasNoInstanceFields(Class<?> enumClass) {
+		// Constants with a body are instances of an anonymous subclass
+		for (Class<?> current = enumClass; current != Enum.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
@@ -15,7 +15,7 @@ class MapValueReport extends ValueReport {
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String createSingleLineReport() {
 		return label.orElse("") + "{" + singleLineEntries() + "}";
 	}
 
@@ -23,7 +23,11 @@ class MapValueReport extends ValueReport {
 		return reportEntries.stream().map(this::singleLineEntry).collect(Collectors.joining(", "));
 	}
 
+	// An entry without value stands for entries that are not reported
 	private String singleLineEntry(final Map.Entry<ValueReport, ValueReport> entry) {
+		if (entry.getValue() == null) {
+			return entry.getKey().singleLineReport();
+		}
 		return String.format("%s=%s", entry.getKey().singleLineReport(), entry.getValue().singleLineReport());
 	}
 
@@ -40,7 +44,7 @@ class MapValueReport extends ValueReport {
 			Map.Entry<ValueReport, ValueReport> reportEntry = reportEntries.get(i);
 			String optionalComma = isNotLast ? ", " : "";
 			String singleLineEntry = singleLineEntry(reportEntry);
-			if (singleLineEntry.length() + indentLevel * 2 <= MAX_LINE_LENGTH) {
+			if (singleLineEntry.length() + indentLevel * 2 <= MAX_LINE_LENGTH || reportEntry.getValue() == null) {
 				lineReporter.addLine(indentLevel, singleLineEntry + optionalComma);
 			} else {
 				lineReporter.addLine(indentLevel, String.format("%s=", reportEntry.getKey().singleLineReport()));
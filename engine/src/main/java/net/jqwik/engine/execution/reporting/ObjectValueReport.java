@@ -14,12 +14,17 @@ class ObjectValueReport extends ValueReport {
 	}
 
 	private List<String> toStringLines(Object value) {
+		// The full string has to be built before it can be truncated
 		String s = JqwikStringSupport.displayString(value);
+		if (s.length() > ReportBudget.MAX_CHARACTERS_PER_VALUE) {
+			int moreCharacters = s.length() - ReportBudget.MAX_CHARACTERS_PER_VALUE;
+			s = String.format("%s...<%s more characters>", s.substring(0, ReportBudget.MAX_CHARACTERS_PER_VALUE), moreCharacters);
+		}
 		return JqwikStringSupport.toLines(s);
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String createSingleLineReport() {
 		return label.orElse("") + String.join(" ", lines);
 	}
 
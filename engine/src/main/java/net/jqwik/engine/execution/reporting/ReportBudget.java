@@ -0,0 +1,22 @@
+package net.jqwik.engine.execution.reporting;
+
+/**
+ * Limits the cost of reporting a single value, however large or deeply nested it is.
+ */
+class ReportBudget {
+
+	static final int MAX_ELEMENTS_PER_CONTAINER = 1_000;
+	static final int MAX_ELEMENTS = 10_000;
+	static final int MAX_DEPTH = 32;
+	static final int MAX_CHARACTERS_PER_VALUE = 10_000;
+
+	private int elementsLeft = MAX_ELEMENTS;
+
+	void useElement() {
+		elementsLeft--;
+	}
+
+	boolean hasElementsLeft() {
+		return elementsLeft > 0;
+	}
+}
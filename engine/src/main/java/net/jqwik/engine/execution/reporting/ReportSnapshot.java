@@ -0,0 +1,146 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Creates shallow copies of samples so that they can be formatted later and still be reported
+ * in the state they had when they were published.
+ *
+ * <p>
+ * Only {@linkplain KnownImmutables known immutable values} and collections, maps, arrays and optionals
+ * thereof can be copied. Collections become lists and maps become linked maps,
+ * which are reported the same way as long as their iteration order is kept.
+ * Values with too many elements are not copied because formatting them on the spot is cheaper.
+ * </p>
+ */
+class ReportSnapshot {
+
+	private static final Object NO_SNAPSHOT = new Object();
+
+	private final Predicate<Object> needsFormattingOnPublishingThread;
+	private int elementsLeft = ReportBudget.MAX_ELEMENTS;
+
+	private ReportSnapshot(Predicate<Object> needsFormattingOnPublishingThread) {
+		this.needsFormattingOnPublishingThread = needsFormattingOnPublishingThread;
+	}
+
+	/**
+	 * @param needsFormattingOnPublishingThread true for values whose report must not be created later,
+	 *                                          e.g. because a user-defined reporting format applies to them
+	 * @return a copy of all values or empty if any of them cannot be copied
+	 */
+	static Optional<Map<String, Object>> of(Map<String, Object> values, Predicate<Object> needsFormattingOnPublishingThread) {
+		ReportSnapshot snapshot = new ReportSnapshot(needsFormattingOnPublishingThread);
+		Map<String, Object> copy = new LinkedHashMap<>();
+		for (Map.Entry<String, Object> entry : values.entrySet()) {
+			Object valueCopy = snapshot.copy(entry.getValue(), 0);
+			if (valueCopy == NO_SNAPSHOT) {
+				return Optional.empty();
+			}
+			copy.put(entry.getKey(), valueCopy);
+		}
+		return Optional.of(copy);
+	}
+
+	private Object copy(Object value, int depth) {
+		if (value == null) {
+			return null;
+		}
+		if (depth > ReportBudget.MAX_DEPTH || elementsLeft-- <= 0) {
+			return NO_SNAPSHOT;
+		}
+		if (needsFormattingOnPublishingThread.test(value)) {
+			return NO_SNAPSHOT;
+		}
+		if (KnownImmutables.isImmutable(value)) {
+			return value;
+		}
+		if (value instanceof Optional) {
+			return copyOptional((Optional<?>) value, depth);
+		}
+		if (value instanceof Collection) {
+			return copyCollection((Collection<?>) value, depth);
+		}
+		if (value instanceof Map) {
+			return copyMap((Map<?, ?>) value, depth);
+		}
+		if (value.getClass().isArray()) {
+			return copyArray(value, depth);
+		}
+		return NO_SNAPSHOT;
+	}
+
+	private Object copyOptional(Optional<?> optional, int depth) {
+		if (!optional.isPresent()) {
+			return optional;
+		}
+		Object valueCopy = copy(optional.get(), depth + 1);
+		if (valueCopy == NO_SNAPSHOT) {
+			return NO_SNAPSHOT;
+		}
+		return Optional.of(valueCopy);
+	}
+
+	private Object copyCollection(Collection<?> collection, int depth) {
+		if (collection.size() > ReportBudget.MAX_ELEMENTS_PER_CONTAINER) {
+			return NO_SNAPSHOT;
+		}
+		List<Object> copy = new ArrayList<>(collection.size());
+		for (Object element : collection) {
+			Object elementCopy = copy(element, depth + 1);
+			if (elementCopy == NO_SNAPSHOT) {
+				return NO_SNAPSHOT;
+			}
+			copy.add(elementCopy);
+		}
+		return copy;
+	}
+
+	private Object copyMap(Map<?, ?> map, int depth) {
+		if (map.size() > ReportBudget.MAX_ELEMENTS_PER_CONTAINER) {
+			return NO_SNAPSHOT;
+		}
+		Map<Object, Object> copy = new LinkedHashMap<>();
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			Object keyCopy = copy(entry.getKey(), depth + 1);
+			Object valueCopy = copy(entry.getValue(), depth + 1);
+			if (keyCopy == NO_SNAPSHOT || valueCopy == NO_SNAPSHOT) {
+				return NO_SNAPSHOT;
+			}
+			copy.put(keyCopy, valueCopy);
+		}
+		// Copied keys can be equal although the original ones are not, e.g. a set and a list
+		if (copy.size() != map.size()) {
+			return NO_SNAPSHOT;
+		}
+		return copy;
+	}
+
+	private Object copyArray(Object array, int depth) {
+		int length = Array.getLength(array);
+		if (length > ReportBudget.MAX_ELEMENTS_PER_CONTAINER) {
+			return NO_SNAPSHOT;
+		}
+		if (!(array instanceof Object[])) {
+			Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+			System.arraycopy(array, 0, copy, 0, length);
+			return copy;
+		}
+		Object[] copy = Arrays.copyOf((Object[]) array, length);
+		Class<?> componentType = array.getClass().getComponentType();
+		for (int i = 0; i < length; i++) {
+			Object elementCopy = copy(copy[i], depth + 1);
+			if (elementCopy == NO_SNAPSHOT) {
+				return NO_SNAPSHOT;
+			}
+			// E.g. the copy of a set is a list, which a Set[] cannot hold
+			if (elementCopy != null && !componentType.isInstance(elementCopy)) {
+				return NO_SNAPSHOT;
+			}
+			copy[i] = elementCopy;
+		}
+		return copy;
+	}
+}
@@ -0,0 +1,30 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+/**
+ * Stands in for the parts of a value that are not reported because of its {@linkplain ReportBudget}.
+ */
+class TruncatedValueReport extends ValueReport {
+
+	static TruncatedValueReport moreElements(int count) {
+		return new TruncatedValueReport(Optional.empty(), String.format("...<%s more>", count));
+	}
+
+	private final String text;
+
+	TruncatedValueReport(Optional<String> label, String text) {
+		super(label);
+		this.text = text;
+	}
+
+	@Override
+	protected String createSingleLineReport() {
+		return label.orElse("") + text;
+	}
+
+	@Override
+	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
+		lineReporter.addLine(indentLevel, singleLineReport() + appendix);
+	}
+}
@@ -1,7 +1,6 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.util.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
 
@@ -22,50 +21,66 @@ public abstract class ValueReport {
 	}
 
 	private static ValueReport of(Object value, ReportingFormatFinder formatFinder) {
-		final Set<Object> visited = visitedSet(Collections.emptySet());
-		return of(value, formatFinder, visited);
-	}
-
-	private static Set<Object> visitedSet(Set<Object> from) {
-		Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
-		objects.addAll(from);
-		return objects;
+		// Identity set of the values on the path from the root to the current value
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		return of(value, formatFinder, visited, new ReportBudget(), 0);
 	}
 
 	@SuppressWarnings("unchecked")
-	private static ValueReport of(Object value, ReportingFormatFinder formatFinder, Set<Object> visited) {
+	private static ValueReport of(
+		Object value,
+		ReportingFormatFinder formatFinder,
+		Set<Object> visited,
+		ReportBudget budget,
+		int depth
+	) {
 		SampleReportingFormat format = formatFinder.find(value);
 		if (visited.contains(value)) {
 			return new CircularDependencyReport(format.label(value), value);
-		} else {
-			visited.add(value);
 		}
+		budget.useElement();
 		Object reportedValue = format.report(value);
-		if (reportedValue instanceof Collection) {
-			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited);
+		if (isContainer(reportedValue) && depth >= ReportBudget.MAX_DEPTH) {
+			return new TruncatedValueReport(format.label(value), "...");
 		}
-		if (reportedValue instanceof Map) {
-			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited);
+		if (!isContainer(reportedValue)) {
+			return new ObjectValueReport(format.label(value), reportedValue);
 		}
-		if (reportedValue instanceof Tuple) {
-			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited);
+		visited.add(value);
+		try {
+			if (reportedValue instanceof Collection) {
+				return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited, budget, depth + 1);
+			}
+			if (reportedValue instanceof Map) {
+				return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited, budget, depth + 1);
+			}
+			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited, budget, depth + 1);
+		} finally {
+			visited.remove(value);
 		}
-		visited.remove(value);
-		return new ObjectValueReport(format.label(value), reportedValue);
+	}
+
+	private static boolean isContainer(Object reportedValue) {
+		return reportedValue instanceof Collection || reportedValue instanceof Map || reportedValue instanceof Tuple;
 	}
 
 	private static ValueReport createTupleReport(
 		Optional<String> label,
 		Tuple tuple,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		Set<Object> visited,
+		ReportBudget budget,
+		int depth
 	) {
-		List<ValueReport> tupleReports =
-			tuple.items()
-				 .stream()
-				 .map(value -> of(value, formatFinder, visitedSet(visited)))
-				 .collect(Collectors.toList());
-
+		List<ValueReport> tupleReports = new ArrayList<>();
+		List<Object> items = tuple.items();
+		for (int i = 0; i < items.size(); i++) {
+			if (!budget.hasElementsLeft()) {
+				tupleReports.add(TruncatedValueReport.moreElements(items.size() - i));
+				break;
+			}
+			tupleReports.add(of(items.get(i), formatFinder, visited, budget, depth));
+		}
 		return new TupleValueReport(label, tupleReports);
 	}
 
@@ -73,32 +88,23 @@ public abstract class ValueReport {
 		final Optional<String> label,
 		final Map<Object, Object> map,
 		final ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		final Set<Object> visited,
+		final ReportBudget budget,
+		final int depth
 	) {
-		List<Map.Entry<ValueReport, ValueReport>> reportEntries =
-			map.entrySet()
-			   .stream()
-			   .map(entry -> {
-				   ValueReport keyReport = of(entry.getKey(), formatFinder, visitedSet(visited));
-				   ValueReport valueReport = of(entry.getValue(), formatFinder, visitedSet(visited));
-				   return new Map.Entry<ValueReport, ValueReport>() {
-					   @Override
-					   public ValueReport getKey() {
-						   return keyReport;
-					   }
-
-					   @Override
-					   public ValueReport getValue() {
-						   return valueReport;
-					   }
-
-					   @Override
-					   public ValueReport setValue(ValueReport value) {
-						   throw new UnsupportedOperationException();
-					   }
-				   };
-			   })
-			   .collect(Collectors.toList());
+		List<Map.Entry<ValueReport, ValueReport>> reportEntries = new ArrayList<>();
+		int reported = 0;
+		for (Map.Entry<Object, Object> entry : map.entrySet()) {
+			if (reported == ReportBudget.MAX_ELEMENTS_PER_CONTAINER || !budget.hasElementsLeft()) {
+				ValueReport moreEntries = TruncatedValueReport.moreElements(map.size() - reported);
+				reportEntries.add(new AbstractMap.SimpleImmutableEntry<>(moreEntries, null));
+				break;
+			}
+			ValueReport keyReport = of(entry.getKey(), formatFinder, visited, budget, depth);
+			ValueReport valueReport = of(entry.getValue(), formatFinder, visited, budget, depth);
+			reportEntries.add(new AbstractMap.SimpleImmutableEntry<>(keyReport, valueReport));
+			reported++;
+		}
 		return new MapValueReport(label, reportEntries);
 	}
 
@@ -106,13 +112,20 @@ public abstract class ValueReport {
 		Optional<String> label,
 		Collection<Object> collection,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		Set<Object> visited,
+		ReportBudget budget,
+		int depth
 	) {
-		List<ValueReport> reportCollection =
-			collection
-				.stream()
-				.map(element -> of(element, formatFinder, visitedSet(visited)))
-				.collect(Collectors.toList());
+		List<ValueReport> reportCollection = new ArrayList<>();
+		int reported = 0;
+		for (Object element : collection) {
+			if (reported == ReportBudget.MAX_ELEMENTS_PER_CONTAINER || !budget.hasElementsLeft()) {
+				reportCollection.add(TruncatedValueReport.moreElements(collection.size() - reported));
+				break;
+			}
+			reportCollection.add(of(element, formatFinder, visited, budget, depth));
+			reported++;
+		}
 		return new CollectionValueReport(label, reportCollection);
 	}
 
@@ -137,11 +150,24 @@ public abstract class ValueReport {
 		this.label = label;
 	}
 
+	private String singleLineReport;
+
 	int singleLineLength() {
 		return singleLineReport().length();
 	}
 
-	public abstract String singleLineReport();
+	/**
+	 * Nested reports are asked for their single line report repeatedly,
+	 * therefore it is only created once.
+	 */
+	public String singleLineReport() {
+		if (singleLineReport == null) {
+			singleLineReport = createSingleLineReport();
+		}
+		return singleLineReport;
+	}
+
+	protected abstract String createSingleLineReport();
 
 	public abstract void report(LineReporter lineReporter, int indentLevel, String appendix);
 }
@@ -6,12 +6,14 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.jfr.*;
 import net.jqwik.engine.support.*;
 
 public class Memoize {
 
 	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
-		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, () -> new LruCache<>(500));
+		// Concurrent tries share the property's cache, and even get() changes an LruCache's order
+		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, () -> Collections.synchronizedMap(new LruCache<>(500)));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -26,29 +28,17 @@ public class Memoize {
 		}
 
 		Tuple3<Arbitrary<?>, Integer, Boolean> key = Tuple.of(arbitrary, genSize, withEdgeCases);
-		RandomGenerator<?> generator = computeIfAbsent(
-				generatorStore().get(),
-				key,
-				ignore -> generatorSupplier.get()
-		);
-		return (RandomGenerator<U>) generator;
-	}
-
-	// Had to roll my on computeIfAbsent because HashMap.computeIfAbsent()
-	// does not allow modifications of the map within the mapping function
-	private static <K, V> V computeIfAbsent(
-			Map<K, V> cache,
-			K key,
-			Function<? super K, ? extends V> mappingFunction
-	) {
-		V result = cache.get(key);
-
-		if (result == null) {
-			result = mappingFunction.apply(key);
-			cache.put(key, result);
+		// Not using HashMap.computeIfAbsent() because it does not allow
+		// modifications of the map within the mapping function.
+		// Two threads might create a generator for the same key, which is harmless.
+		Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>> generators = generatorStore().get();
+		RandomGenerator<?> generator = generators.get(key);
+		JqwikEvents.memoizedGeneratorLookup(arbitrary, generator != null);
+		if (generator == null) {
+			generator = generatorSupplier.get();
+			generators.put(key, generator);
 		}
-
-		return result;
+		return (RandomGenerator<U>) generator;
 	}
 
 }
@@ -1,5 +1,7 @@
 package net.jqwik.engine.facades;
 
+import java.lang.reflect.*;
+
 import net.jqwik.api.facades.*;
 import net.jqwik.engine.support.*;
 
@@ -14,4 +16,9 @@ public class ReflectionSupportFacadeImpl extends ReflectionSupportFacade {
 	public <T> T newInstanceWithDefaultConstructor(Class<T> clazz) {
 		return JqwikReflectionSupport.newInstanceWithDefaultConstructor(clazz);
 	}
+
+	@Override
+	public Object invokeMethod(Method method, Object target, Object... args) {
+		return JqwikReflectionSupport.invokeMethod(method, target, args);
+	}
 }
@@ -26,7 +26,8 @@ class SampleStreamFacade {
 		}
 	};
 
-	private static final Map<Arbitrary<Object>, RandomGenerator<Object>> generators = new LruCache<>(500);
+	// Sampling can happen on many threads at once, and even get() changes an LruCache's order
+	private static final Map<Arbitrary<Object>, RandomGenerator<Object>> generators = Collections.synchronizedMap(new LruCache<>(500));
 
 	@SuppressWarnings("unchecked")
 	private static <T> RandomGenerator<T> getGeneratorForSampling(Arbitrary<T> arbitrary) {
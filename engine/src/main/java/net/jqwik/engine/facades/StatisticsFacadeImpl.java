@@ -23,4 +23,10 @@ public class StatisticsFacadeImpl extends Statistics.StatisticsFacade {
 	public StatisticsCollector defaultCollector() {
 		return collectorByLabel(DEFAULT_LABEL);
 	}
+
+	@Override
+	public NumberStatistics numberStatisticsByLabel(String label) {
+		Store<Map<String, NumberStatistics>> numberStatisticsStore = Store.get(NumberStatisticsImpl.NUMBER_STATISTICS_ID);
+		return numberStatisticsStore.get().get(label);
+	}
 }
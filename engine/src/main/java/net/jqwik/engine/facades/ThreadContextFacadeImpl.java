@@ -0,0 +1,76 @@
+package net.jqwik.engine.facades;
+
+import org.jspecify.annotations.*;
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.api.facades.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class ThreadContextFacadeImpl extends ThreadContextFacade {
+
+	@Override
+	public Object capture() {
+		TestDescriptor descriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		return new ThreadContext(descriptor, CurrentTryScope.get(), CurrentDomainContext.get());
+	}
+
+	@Override
+	public Object install(Object capturedContext) {
+		ThreadContext context = (ThreadContext) capturedContext;
+		if (context.descriptor != null) {
+			CurrentTestDescriptor.push(context.descriptor);
+		}
+		Object previousTryScope = CurrentTryScope.set(context.tryScope);
+		DomainContext previousDomainContext = CurrentDomainContext.set(context.domainContext);
+		return new PreviousThreadContext(context.descriptor, previousTryScope, previousDomainContext);
+	}
+
+	@Override
+	public void restore(Object previousState) {
+		PreviousThreadContext previous = (PreviousThreadContext) previousState;
+		CurrentDomainContext.set(previous.domainContext);
+		CurrentTryScope.set(previous.tryScope);
+		if (previous.pushedDescriptor != null
+				&& !CurrentTestDescriptor.isEmpty()
+				&& CurrentTestDescriptor.get() == previous.pushedDescriptor) {
+			CurrentTestDescriptor.pop();
+		}
+	}
+
+	private static class ThreadContext {
+		@Nullable
+		private final TestDescriptor descriptor;
+		@Nullable
+		private final Object tryScope;
+		private final DomainContext domainContext;
+
+		private ThreadContext(@Nullable TestDescriptor descriptor, @Nullable Object tryScope, DomainContext domainContext) {
+			this.descriptor = descriptor;
+			this.tryScope = tryScope;
+			this.domainContext = domainContext;
+		}
+	}
+
+	private static class PreviousThreadContext {
+		@Nullable
+		private final TestDescriptor pushedDescriptor;
+		@Nullable
+		private final Object tryScope;
+		@Nullable
+		private final DomainContext domainContext;
+
+		private PreviousThreadContext(
+			@Nullable TestDescriptor pushedDescriptor,
+			@Nullable Object tryScope,
+			@Nullable DomainContext domainContext
+		) {
+			this.pushedDescriptor = pushedDescriptor;
+			this.tryScope = tryScope;
+			this.domainContext = domainContext;
+		}
+	}
+}
@@ -16,13 +16,20 @@ import static org.junit.platform.commons.support.AnnotationSupport.*;
 
 public class BeforeTryMembersHook implements AroundTryHook {
 
-	private static List<Field> findBeforeTryFields(Class<?> testClass) {
-		Predicate<Field> isAnnotated = method -> isAnnotated(method, BeforeTry.class);
-		return JqwikReflectionSupport.findFieldsPotentiallyOuter(testClass, isAnnotated, HierarchyTraversalMode.TOP_DOWN);
+	private static final ClassValue<List<Field>> findBeforeTryFields = new ClassValue<List<Field>>() {
+		@Override
+		protected List<Field> computeValue(Class<?> testClass) {
+			Predicate<Field> isAnnotated = method -> isAnnotated(method, BeforeTry.class);
+			return JqwikReflectionSupport.findFieldsPotentiallyOuter(testClass, isAnnotated, HierarchyTraversalMode.TOP_DOWN);
+		}
+	};
+
+	public static boolean hasBeforeTryFields(Class<?> containerClass) {
+		return !findBeforeTryFields.get(containerClass).isEmpty();
 	}
 
 	private void beforeTry(TryLifecycleContext context) {
-		List<Field> beforeTryFields = findBeforeTryFields(context.containerClass());
+		List<Field> beforeTryFields = findBeforeTryFields.get(context.containerClass());
 		initializeFields(beforeTryFields, context);
 	}
 
@@ -3,11 +3,11 @@ package net.jqwik.engine.hooks.lifecycle;
 import java.lang.reflect.*;
 import java.util.*;
 
-import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.support.hierarchical.*;
 
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.hooks.*;
+import net.jqwik.engine.support.*;
 
 public class ContainerLifecycleMethodsHook implements AroundContainerHook {
 
@@ -29,7 +29,7 @@ public class ContainerLifecycleMethodsHook implements AroundContainerHook {
 	}
 
 	private void callStaticMethod(Method method, Object[] parameters) {
-		ReflectionSupport.invokeMethod(method, null, parameters);
+		JqwikReflectionSupport.invokeMethod(method, null, parameters);
 	}
 
 	@Override
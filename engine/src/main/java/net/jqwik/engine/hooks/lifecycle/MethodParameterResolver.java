@@ -13,8 +13,8 @@ class MethodParameterResolver {
 			context instanceof TryLifecycleContext
 				? Optional.of((TryLifecycleContext) context)
 				: Optional.empty();
-		List<Object> parameters = new ArrayList<>();
-		for (int i = 0; i < method.getParameters().length; i++) {
+		Object[] parameters = new Object[method.getParameterCount()];
+		for (int i = 0; i < parameters.length; i++) {
 			final int index = i;
 			ParameterSupplier supplier =
 				context
@@ -23,9 +23,9 @@ class MethodParameterResolver {
 						String info = "No matching resolver could be found";
 						return new CannotResolveParameterException(method.getParameters()[index], info);
 					});
-			parameters.add(supplier.get(optionalTry));
+			parameters[i] = supplier.get(optionalTry);
 		}
-		return parameters.toArray();
+		return parameters;
 	}
 
 }
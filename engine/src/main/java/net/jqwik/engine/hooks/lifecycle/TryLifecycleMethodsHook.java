@@ -11,6 +11,11 @@ import net.jqwik.engine.support.*;
 
 public class TryLifecycleMethodsHook implements AroundTryHook {
 
+	public static boolean hasTryLifecycleMethods(Class<?> containerClass) {
+		return !LifecycleMethods.findBeforeTryMethods(containerClass).isEmpty()
+				   || !LifecycleMethods.findAfterTryMethods(containerClass).isEmpty();
+	}
+
 	private void beforeTry(TryLifecycleContext context) {
 		List<Method> beforeTryMethods = LifecycleMethods.findBeforeTryMethods(context.containerClass());
 		callTryMethods(beforeTryMethods, context);
@@ -0,0 +1,190 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.statistics.*;
+
+/**
+ * Records numeric values for one statistics label in constant memory.
+ *
+ * <p>
+ * Mean and variance are updated with Welford's algorithm, percentiles are estimated
+ * through a {@linkplain QuantileSketch}. Recording is thread-safe.
+ * </p>
+ */
+public class NumberStatisticsImpl implements NumberStatistics {
+	public static final Object NUMBER_STATISTICS_ID = Tuple.of(NumberStatisticsImpl.class, "numberStatistics");
+
+	static final double[] REPORTED_PERCENTILES = {50, 90, 95, 99};
+
+	private final String label;
+	private final QuantileSketch sketch = new QuantileSketch();
+	private final List<Consumer<NumberStatisticsCoverage>> coverageCheckers = new ArrayList<>();
+
+	private int count = 0;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+	private double mean = 0.0;
+	private double sumOfSquaredDeviations = 0.0;
+
+	public NumberStatisticsImpl(String label) {
+		this.label = label;
+	}
+
+	@Override
+	public NumberStatistics record(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			String message = String.format("NumberStatistics[%s] can only record finite values but got %s", label, value);
+			throw new IllegalArgumentException(message);
+		}
+		synchronized (this) {
+			count++;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			double delta = value - mean;
+			mean += delta / count;
+			sumOfSquaredDeviations += delta * (value - mean);
+			sketch.add(value);
+		}
+		return this;
+	}
+
+	@Override
+	public synchronized void coverage(Consumer<NumberStatisticsCoverage> checker) {
+		// The same checker shall only be used once
+		if (!coverageCheckers.contains(checker)) {
+			coverageCheckers.add(checker);
+		}
+	}
+
+	public void checkCoverage() {
+		for (Consumer<NumberStatisticsCoverage> checker : coverageCheckers) {
+			checker.accept(new NumberStatisticsCoverageImpl());
+		}
+	}
+
+	public synchronized int count() {
+		return count;
+	}
+
+	public synchronized double min() {
+		return count == 0 ? Double.NaN : min;
+	}
+
+	public synchronized double max() {
+		return count == 0 ? Double.NaN : max;
+	}
+
+	public synchronized double mean() {
+		return count == 0 ? Double.NaN : mean;
+	}
+
+	/**
+	 * The sample standard deviation, which is 0.0 for a single value.
+	 */
+	public synchronized double standardDeviation() {
+		if (count == 0) {
+			return Double.NaN;
+		}
+		if (count == 1) {
+			return 0.0;
+		}
+		return Math.sqrt(sumOfSquaredDeviations / (count - 1));
+	}
+
+	/**
+	 * @param percentile a value between 0.0 and 100.0
+	 */
+	public synchronized double percentile(double percentile) {
+		if (percentile < 0.0 || percentile > 100.0) {
+			String message = String.format("Percentile must be between 0.0 and 100.0 but was %s", percentile);
+			throw new IllegalArgumentException(message);
+		}
+		if (count == 0) {
+			return Double.NaN;
+		}
+		if (percentile == 0.0) {
+			return min;
+		}
+		if (percentile == 100.0) {
+			return max;
+		}
+		double estimate = sketch.quantile(percentile / 100.0);
+		return Math.max(min, Math.min(max, estimate));
+	}
+
+	/**
+	 * One entry per bucket of the percentile sketch so that formats like {@linkplain NumberRangeHistogram}
+	 * can be used. Values of an entry are within 1% of the bucket's representative value.
+	 */
+	public synchronized List<StatisticsEntryImpl> bucketEntries() {
+		List<StatisticsEntryImpl> entries = new ArrayList<>();
+		sketch.forEachBucket((value, bucketCount) -> {
+			double percentage = bucketCount * 100.0 / count;
+			String name = NumberSummaryReportFormat.displayNumber(value);
+			entries.add(new StatisticsEntryImpl(Collections.singletonList(value), name, (int) bucketCount, percentage));
+		});
+		return entries;
+	}
+
+	String label() {
+		return label;
+	}
+
+	private class NumberStatisticsCoverageImpl implements NumberStatisticsCoverage {
+
+		@Override
+		public void count(Predicate<Integer> countChecker) {
+			int count = NumberStatisticsImpl.this.count();
+			check("Count", count, countChecker.test(count));
+		}
+
+		@Override
+		public void min(Predicate<Double> minChecker) {
+			double min = NumberStatisticsImpl.this.min();
+			check("Minimum", min, minChecker.test(min));
+		}
+
+		@Override
+		public void max(Predicate<Double> maxChecker) {
+			double max = NumberStatisticsImpl.this.max();
+			check("Maximum", max, maxChecker.test(max));
+		}
+
+		@Override
+		public void mean(Predicate<Double> meanChecker) {
+			double mean = NumberStatisticsImpl.this.mean();
+			check("Mean", mean, meanChecker.test(mean));
+		}
+
+		@Override
+		public void standardDeviation(Predicate<Double> standardDeviationChecker) {
+			double standardDeviation = NumberStatisticsImpl.this.standardDeviation();
+			check("Standard deviation", standardDeviation, standardDeviationChecker.test(standardDeviation));
+		}
+
+		@Override
+		public void percentile(double percentile, Predicate<Double> percentileChecker) {
+			double value = NumberStatisticsImpl.this.percentile(percentile);
+			String what = String.format("Percentile %s", NumberSummaryReportFormat.displayNumber(percentile));
+			check(what, value, percentileChecker.test(value));
+		}
+
+		private void check(String what, Object value, boolean fulfilled) {
+			if (fulfilled) {
+				return;
+			}
+			String message = String.format(
+				"%s of %s does not fulfill condition for label \"%s\"",
+				what,
+				value,
+				label
+			);
+			throw new AssertionFailedError(message);
+		}
+	}
+}
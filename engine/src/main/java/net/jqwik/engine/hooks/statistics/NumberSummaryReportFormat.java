@@ -0,0 +1,44 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.statistics.*;
+
+/**
+ * The standard report for {@linkplain NumberStatistics}.
+ * It ignores the bucket entries and reports a summary of all recorded values instead.
+ */
+class NumberSummaryReportFormat implements StatisticsReportFormat {
+
+	private static final MathContext SIGNIFICANT_DIGITS = new MathContext(6);
+
+	private final NumberStatisticsImpl numberStatistics;
+
+	NumberSummaryReportFormat(NumberStatisticsImpl numberStatistics) {
+		this.numberStatistics = numberStatistics;
+	}
+
+	static String displayNumber(double value) {
+		return new BigDecimal(value).round(SIGNIFICANT_DIGITS).stripTrailingZeros().toPlainString();
+	}
+
+	@Override
+	public List<String> formatReport(List<StatisticsEntry> entries) {
+		List<String> lines = new ArrayList<>();
+		lines.add(line("count", String.valueOf(numberStatistics.count())));
+		lines.add(line("min", displayNumber(numberStatistics.min())));
+		lines.add(line("max", displayNumber(numberStatistics.max())));
+		lines.add(line("mean", displayNumber(numberStatistics.mean())));
+		lines.add(line("std dev", displayNumber(numberStatistics.standardDeviation())));
+		for (double percentile : NumberStatisticsImpl.REPORTED_PERCENTILES) {
+			String name = "p" + displayNumber(percentile);
+			lines.add(line(name, "~" + displayNumber(numberStatistics.percentile(percentile))));
+		}
+		return lines;
+	}
+
+	private String line(String name, String value) {
+		return String.format(Locale.US, "%-7s : %s", name, value);
+	}
+}
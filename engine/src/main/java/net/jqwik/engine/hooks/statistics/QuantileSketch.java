@@ -0,0 +1,153 @@
+package net.jqwik.engine.hooks.statistics;
+
+/**
+ * Estimates quantiles of a stream of numbers in bounded memory.
+ *
+ * <p>
+ * Values are counted in logarithmically sized buckets so that the representative value of a bucket
+ * is within {@linkplain #RELATIVE_ACCURACY} of every value it counts.
+ * Positive and negative values use separate buckets, values very close to zero are counted as zero.
+ * If the values span more than {@linkplain #MAX_BUCKETS} buckets, the buckets closest to zero are merged,
+ * which only affects the accuracy of the lowest quantiles.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe.
+ * </p>
+ */
+class QuantileSketch {
+
+	static final double RELATIVE_ACCURACY = 0.01;
+
+	private static final int MAX_BUCKETS = 2048;
+	private static final int INITIAL_BUCKETS = 64;
+
+	private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+	private static final double LOG_GAMMA = Math.log(GAMMA);
+
+	private final Buckets positive = new Buckets();
+	private final Buckets negative = new Buckets();
+	private long zeroCount = 0;
+	private long count = 0;
+
+	void add(double value) {
+		if (value >= Double.MIN_NORMAL) {
+			positive.add(index(value));
+		} else if (value <= -Double.MIN_NORMAL) {
+			negative.add(index(-value));
+		} else {
+			zeroCount++;
+		}
+		count++;
+	}
+
+	long count() {
+		return count;
+	}
+
+	/**
+	 * @param quantile a value between 0.0 and 1.0
+	 * @return the estimated quantile or {@code NaN} if no values have been added
+	 */
+	double quantile(double quantile) {
+		if (count == 0) {
+			return Double.NaN;
+		}
+		long rank = (long) Math.floor(quantile * (count - 1));
+		long seen = 0;
+		for (int i = negative.counts.length - 1; i >= 0; i--) {
+			seen += negative.counts[i];
+			if (seen > rank) {
+				return -valueOf(negative.offset + i);
+			}
+		}
+		seen += zeroCount;
+		if (seen > rank) {
+			return 0.0;
+		}
+		for (int i = 0; i < positive.counts.length; i++) {
+			seen += positive.counts[i];
+			if (seen > rank) {
+				return valueOf(positive.offset + i);
+			}
+		}
+		throw new IllegalStateException("Sum of bucket counts must be equal to count");
+	}
+
+	/**
+	 * Visit all non-empty buckets in ascending order of their representative values.
+	 */
+	void forEachBucket(BucketVisitor visitor) {
+		for (int i = negative.counts.length - 1; i >= 0; i--) {
+			if (negative.counts[i] > 0) {
+				visitor.visit(-valueOf(negative.offset + i), negative.counts[i]);
+			}
+		}
+		if (zeroCount > 0) {
+			visitor.visit(0.0, zeroCount);
+		}
+		for (int i = 0; i < positive.counts.length; i++) {
+			if (positive.counts[i] > 0) {
+				visitor.visit(valueOf(positive.offset + i), positive.counts[i]);
+			}
+		}
+	}
+
+	private static int index(double absoluteValue) {
+		return (int) Math.ceil(Math.log(absoluteValue) / LOG_GAMMA);
+	}
+
+	private static double valueOf(int index) {
+		return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+	}
+
+	interface BucketVisitor {
+		void visit(double value, long count);
+	}
+
+	private static class Buckets {
+		private long[] counts = new long[0];
+		// Index of counts[0]
+		private int offset = 0;
+
+		void add(int index) {
+			if (counts.length == 0) {
+				counts = new long[INITIAL_BUCKETS];
+				offset = index - INITIAL_BUCKETS / 2;
+			}
+			if (index < offset || index >= offset + counts.length) {
+				index = extendTo(index);
+			}
+			counts[index - offset]++;
+		}
+
+		/**
+		 * @return the index to count the value in, which may have been merged with higher ones
+		 */
+		private int extendTo(int index) {
+			int oldMin = offset;
+			int oldMax = offset + counts.length - 1;
+			int newMin = Math.min(oldMin, index);
+			int newMax = Math.max(oldMax, index);
+			long span = (long) newMax - newMin + 1;
+			int length = (int) Math.min(MAX_BUCKETS, Math.max(span, 2L * counts.length));
+
+			int newOffset;
+			if (span > MAX_BUCKETS) {
+				newOffset = newMax - MAX_BUCKETS + 1;
+			} else if (index < oldMin) {
+				newOffset = newMax - length + 1;
+			} else {
+				newOffset = newMin;
+			}
+
+			long[] newCounts = new long[length];
+			for (int i = 0; i < counts.length; i++) {
+				newCounts[Math.max(oldMin + i, newOffset) - newOffset] += counts[i];
+			}
+			counts = newCounts;
+			offset = newOffset;
+			return Math.max(index, newOffset);
+		}
+	}
+}
@@ -2,6 +2,7 @@ package net.jqwik.engine.hooks.statistics;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.logging.*;
 import java.util.regex.*;
 import java.util.stream.*;
 
@@ -12,58 +13,118 @@ import net.jqwik.api.statistics.*;
 import net.jqwik.api.statistics.StatisticsCoverage.*;
 import net.jqwik.engine.facades.*;
 
+/**
+ * Counts collected values for one statistics label.
+ *
+ * <p>
+ * Collecting is thread-safe so that concurrently running tries can share a collector.
+ * Single values are counted without wrapping them in a list.
+ * At most {@code maxDistinctValues} different values are counted separately;
+ * any further values only contribute to {@linkplain #countAllCollects()}.
+ * They show up as a single line in the report, and coverage checks that might depend on them fail.
+ * </p>
+ */
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
-	private final Map<List<Object>, Integer> counts = new LinkedHashMap<>();
+	public static final int DEFAULT_MAX_DISTINCT_VALUES = 10_000;
+
+	private static final Logger LOG = Logger.getLogger(StatisticsCollectorImpl.class.getName());
+
+	// Keys are the value itself for single values and a list of values otherwise
+	private final Map<Object, Count> counts = new LinkedHashMap<>();
 	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new ArrayList<>();
 	private final String label;
+	private final int maxDistinctValues;
+
+	// 0 as long as nothing has been collected
+	private int numberOfValues = 0;
+	private int countAll = 0;
+	private int countOthers = 0;
 
-	private List<StatisticsEntryImpl> statisticsEntries = null;
+	private volatile List<StatisticsEntryImpl> statisticsEntries = null;
 
 	public StatisticsCollectorImpl(String label) {
+		this(label, DEFAULT_MAX_DISTINCT_VALUES);
+	}
+
+	public StatisticsCollectorImpl(String label, int maxDistinctValues) {
 		this.label = label;
+		this.maxDistinctValues = maxDistinctValues;
 	}
 
 	@Override
 	public StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
-		List<Object> key = keyFrom(values);
-		ensureSameNumberOfValues(key);
-		updateCounts(key);
+		int valuesCount = values == null ? 1 : values.length;
+		Object key = keyFrom(values);
+		synchronized (this) {
+			ensureSameNumberOfValues(valuesCount);
+			updateCounts(key);
+		}
 		return this;
 	}
 
-	private void updateCounts(List<Object> key) {
-		int count = counts.computeIfAbsent(key, any -> 0);
-		counts.put(key, ++count);
+	private void updateCounts(Object key) {
+		countAll++;
 		statisticsEntries = null;
+		Count count = counts.get(key);
+		if (count != null) {
+			count.value++;
+			return;
+		}
+		if (counts.size() >= maxDistinctValues) {
+			if (countOthers++ == 0) {
+				warnAboutTooManyDistinctValues();
+			}
+			return;
+		}
+		counts.put(key, new Count());
+	}
+
+	private void warnAboutTooManyDistinctValues() {
+		String message = String.format(
+			"StatisticsCollector[%s] has collected more than %s distinct values. Further values are no longer counted separately.",
+			label,
+			maxDistinctValues
+		);
+		LOG.warning(message);
 	}
 
 	private void ensureAtLeastOneParameter(Object[] values) {
-		if (Arrays.equals(values, new Object[0])) {
+		if (values != null && values.length == 0) {
 			String message = String.format("StatisticsCollector[%s] must be called with at least one value", label);
 			throw new IllegalArgumentException(message);
 		}
 	}
 
-	private void ensureSameNumberOfValues(List<Object> keyCandidate) {
-		if (counts.isEmpty()) {
+	private void ensureSameNumberOfValues(int valuesCount) {
+		if (numberOfValues == 0) {
+			numberOfValues = valuesCount;
 			return;
 		}
-		List<Object> anyKey = counts.keySet().iterator().next();
-		if (anyKey.size() != keyCandidate.size()) {
+		if (numberOfValues != valuesCount) {
 			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
 			throw new IllegalArgumentException(message);
 		}
 	}
 
-	private List<Object> keyFrom(Object[] values) {
-		if (values != null) {
-			return Arrays.asList(values);
-		} else {
-			return Collections.singletonList(null);
+	private Object keyFrom(Object[] values) {
+		if (values == null) {
+			return null;
+		}
+		if (values.length == 1) {
+			return values[0];
+		}
+		return Arrays.asList(values);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> valuesOf(Object key) {
+		if (numberOfValues == 1) {
+			return Collections.singletonList(key);
 		}
+		return (List<Object>) key;
 	}
 
 	// Currently only used for testing
@@ -71,13 +132,13 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return statisticsEntry(values).percentage();
 	}
 
-	private StatisticsEntry statisticsEntry(Object[] values) {
-		List<Object> key = keyFrom(values);
-		return statisticsEntries()
-				   .stream()
-				   .filter(entry -> entry.values().equals(key))
-				   .findFirst()
-				   .orElse(StatisticsEntryImpl.nullFor(key));
+	private synchronized StatisticsEntry statisticsEntry(Object[] values) {
+		List<Object> valuesList = values == null ? Collections.singletonList(null) : Arrays.asList(values);
+		Count count = valuesList.size() == numberOfValues ? counts.get(keyFrom(values)) : null;
+		if (count == null) {
+			return StatisticsEntryImpl.nullFor(valuesList);
+		}
+		return new StatisticsEntryImpl(valuesList, displayKey(valuesList), count.value, count.value * 100.0 / countAll);
 	}
 
 	private StatisticsEntry query(Predicate<List<Object>> query, int countAll) {
@@ -114,8 +175,8 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 				   );
 	}
 
-	public int countAllCollects() {
-		return counts.values().stream().mapToInt(aCount -> aCount).sum();
+	public synchronized int countAllCollects() {
+		return countAll;
 	}
 
 	// Currently only used for testing
@@ -124,7 +185,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public void coverage(Consumer<StatisticsCoverage> checker) {
+	public synchronized void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
 		if (!coverageCheckers.contains(checker)) {
 			coverageCheckers.add(checker);
@@ -132,48 +193,72 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public void checkCoverage() {
-		for (Consumer<StatisticsCoverage> checker : coverageCheckers) {
+		List<Consumer<StatisticsCoverage>> checkers;
+		synchronized (this) {
+			checkers = new ArrayList<>(coverageCheckers);
+		}
+		for (Consumer<StatisticsCoverage> checker : checkers) {
 			StatisticsCoverage coverage = new StatisticsCoverageImpl();
 			checker.accept(coverage);
 		}
 	}
 
-	public Map<List<Object>, Integer> getCounts() {
-		return counts;
+	// Currently only used for testing
+	public synchronized Map<List<Object>, Integer> getCounts() {
+		Map<List<Object>, Integer> countsByValues = new LinkedHashMap<>();
+		counts.forEach((key, count) -> countsByValues.put(valuesOf(key), count.value));
+		return countsByValues;
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
-		if (statisticsEntries != null) {
-			return statisticsEntries;
+	public synchronized int countOthers() {
+		return countOthers;
+	}
+
+	/**
+	 * @return a report line for all values that have not been counted separately, if there are any
+	 */
+	public synchronized Optional<String> otherValuesReportLine() {
+		if (countOthers == 0) {
+			return Optional.empty();
 		}
-		statisticsEntries = calculateStatistics();
-		return statisticsEntries;
+		String line = String.format(
+			Locale.US,
+			"<other values> (%d) : %.2f %% (only the first %d distinct values are counted separately)",
+			countOthers,
+			countOthers * 100.0 / countAll,
+			maxDistinctValues
+		);
+		return Optional.of(line);
 	}
 
-	private List<StatisticsEntryImpl> calculateStatistics() {
-		int sum = countAllCollects();
-		return counts.entrySet()
-					 .stream()
-					 .sorted(this::compareStatisticsEntries)
-					 .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
-					 .map(entry -> {
-						 double percentage = entry.getValue() * 100.0 / sum;
-						 return new StatisticsEntryImpl(
-							 entry.getKey(),
-							 displayKey(entry.getKey()),
-							 entry.getValue(), percentage
-						 );
-					 })
-					 .collect(Collectors.toList());
+	private synchronized boolean isCountedSeparately(Object[] values) {
+		int valuesCount = values == null ? 1 : values.length;
+		return valuesCount == numberOfValues && counts.containsKey(keyFrom(values));
+	}
+
+	public List<StatisticsEntryImpl> statisticsEntries() {
+		List<StatisticsEntryImpl> entries = statisticsEntries;
+		if (entries != null) {
+			return entries;
+		}
+		synchronized (this) {
+			entries = calculateStatistics();
+			statisticsEntries = entries;
+			return entries;
+		}
 	}
 
-	private int compareStatisticsEntries(Map.Entry<List<Object>, Integer> e1, Map.Entry<List<Object>, Integer> e2) {
-		List<Object> k1 = e1.getKey();
-		List<Object> k2 = e2.getKey();
-		if (k1.size() != k2.size()) {
-			return Integer.compare(k1.size(), k2.size());
+	private List<StatisticsEntryImpl> calculateStatistics() {
+		List<StatisticsEntryImpl> entries = new ArrayList<>(counts.size());
+		for (Map.Entry<Object, Count> entry : counts.entrySet()) {
+			List<Object> values = valuesOf(entry.getKey());
+			int count = entry.getValue().value;
+			double percentage = count * 100.0 / countAll;
+			entries.add(new StatisticsEntryImpl(values, displayKey(values), count, percentage));
 		}
-		return e2.getValue().compareTo(e1.getValue());
+		// Stable sort keeps values with same count in order of first appearance
+		entries.sort((e1, e2) -> Integer.compare(e2.count(), e1.count()));
+		return entries;
 	}
 
 	private String displayKey(List<Object> key) {
@@ -188,10 +273,17 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return label.equals(StatisticsFacadeImpl.DEFAULT_LABEL) ? "" : String.format(" for label \"%s\"", label);
 	}
 
+	private static class Count {
+		private int value = 1;
+	}
+
 	private class StatisticsCoverageImpl implements StatisticsCoverage {
 
 		@Override
 		public CoverageChecker check(Object... values) {
+			if (!isCountedSeparately(values)) {
+				ensureAllValuesCounted();
+			}
 			StatisticsEntry entry = statisticsEntry(values);
 			return new CoverageCheckerImpl(label, entry, countAllCollects());
 		}
@@ -199,6 +291,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		@SuppressWarnings("unchecked")
 		@Override
 		public CoverageChecker checkQuery(Predicate<? extends List<?>> query) {
+			ensureAllValuesCounted();
 			int countAll = countAllCollects();
 			StatisticsEntry entry = query((Predicate<List<Object>>) query, countAll);
 			return new CoverageCheckerImpl(label, entry, countAll);
@@ -206,11 +299,28 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 
 		@Override
 		public CoverageChecker checkPattern(String regex) {
+			ensureAllValuesCounted();
 			int countAll = countAllCollects();
 			StatisticsEntry entry = matchPattern(regex, countAll);
 			return new CoverageCheckerImpl(label, entry, countAll);
 		}
 
+		// Counts would be too low if values that were not counted separately match
+		private void ensureAllValuesCounted() {
+			int countOthers = countOthers();
+			if (countOthers == 0) {
+				return;
+			}
+			String message = String.format(
+				"Coverage of StatisticsCollector[%s] cannot be checked because more than %d distinct values have been collected. " +
+					"Values not counted separately: %d",
+				label,
+				maxDistinctValues,
+				countOthers
+			);
+			throw new JqwikException(message);
+		}
+
 	}
 
 	private static class CoverageCheckerImpl implements CoverageChecker {
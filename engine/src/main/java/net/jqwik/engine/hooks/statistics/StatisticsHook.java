@@ -17,43 +17,93 @@ public class StatisticsHook implements AroundPropertyHook {
 
 	private static final Logger LOG = Logger.getLogger(StatisticsHook.class.getName());
 
-	private static final Supplier<Map<String, StatisticsCollectorImpl>> STATISTICS_MAP_SUPPLIER =
-		() -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
+	private static final Supplier<Map<String, NumberStatisticsImpl>> NUMBER_STATISTICS_MAP_SUPPLIER =
+		labeledMapSupplier(NumberStatisticsImpl::new);
+
+	private static <T> Supplier<Map<String, T>> labeledMapSupplier(Function<String, T> creator) {
+		return () -> new LinkedHashMap<String, T>() {
+			// Concurrently running tries may look up collectors at the same time
 			@Override
-			public StatisticsCollectorImpl get(Object key) {
-				return this.computeIfAbsent((String) key, StatisticsCollectorImpl::new);
+			public synchronized T get(Object key) {
+				return this.computeIfAbsent((String) key, creator);
 			}
 		};
+	}
 
 	@Override
 	public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) throws Throwable {
+		List<StatisticsReport> statisticsReportAnnotations = findStatisticsReportAnnotations(context);
 		Store<Map<String, StatisticsCollectorImpl>> collectorsStore =
 			Store.create(
 				StatisticsCollectorImpl.COLLECTORS_ID,
 				Lifespan.PROPERTY,
-				STATISTICS_MAP_SUPPLIER
+				labeledMapSupplier(label -> new StatisticsCollectorImpl(label, maxDistinctValues(label, statisticsReportAnnotations)))
+			);
+
+		Store<Map<String, NumberStatisticsImpl>> numberStatisticsStore =
+			Store.create(
+				NumberStatisticsImpl.NUMBER_STATISTICS_ID,
+				Lifespan.PROPERTY,
+				NUMBER_STATISTICS_MAP_SUPPLIER
 			);
 
 		PropertyExecutionResult testExecutionResult = property.execute();
 
 		Map<String, StatisticsCollectorImpl> collectors = collectorsStore.get();
+		Map<String, NumberStatisticsImpl> numberStatistics = numberStatisticsStore.get();
 		if (testExecutionResult.status() == PropertyExecutionResult.Status.SUCCESSFUL) {
-			testExecutionResult = checkCoverages(testExecutionResult, collectors.values());
+			testExecutionResult = checkCoverages(testExecutionResult, collectors.values(), numberStatistics.values());
 		}
 
-		createStatisticsReports(collectors, context, testExecutionResult);
+		createStatisticsReports(collectors, numberStatistics, statisticsReportAnnotations, context, testExecutionResult);
 
 		return testExecutionResult;
 	}
 
+	private List<StatisticsReport> findStatisticsReportAnnotations(PropertyLifecycleContext context) {
+		List<StatisticsReport> annotations = JqwikAnnotationSupport.findRepeatableAnnotationOnElementOrContainer(
+			context.targetMethod(),
+			StatisticsReport.class
+		);
+		for (StatisticsReport annotation : annotations) {
+			if (annotation.maxDistinctValues() < 0) {
+				String message = String.format(
+					"@StatisticsReport(maxDistinctValues = %d) must not be negative",
+					annotation.maxDistinctValues()
+				);
+				throw new JqwikException(message);
+			}
+		}
+		return annotations;
+	}
+
+	private int maxDistinctValues(String label, List<StatisticsReport> statisticsReportAnnotations) {
+		Optional<StatisticsReport> forLabel = findMaxDistinctValuesAnnotation(label, statisticsReportAnnotations);
+		Optional<StatisticsReport> forAllLabels = findMaxDistinctValuesAnnotation(StatisticsReport.ALL_LABELS, statisticsReportAnnotations);
+		return forLabel.map(Optional::of).orElse(forAllLabels)
+					   .map(StatisticsReport::maxDistinctValues)
+					   .orElse(StatisticsCollectorImpl.DEFAULT_MAX_DISTINCT_VALUES);
+	}
+
+	private Optional<StatisticsReport> findMaxDistinctValuesAnnotation(String label, List<StatisticsReport> statisticsReportAnnotations) {
+		return statisticsReportAnnotations.stream()
+										  .filter(annotation -> annotation.label().equals(label))
+										  .filter(annotation -> annotation.maxDistinctValues() != StatisticsReport.MAX_DISTINCT_VALUES_NOT_SET)
+										  .findFirst();
+	}
+
 	private PropertyExecutionResult checkCoverages(
 		PropertyExecutionResult testExecutionResult,
-		Collection<StatisticsCollectorImpl> collectors
+		Collection<StatisticsCollectorImpl> collectors,
+		Collection<NumberStatisticsImpl> numberStatistics
 	) {
 		try {
 			for (StatisticsCollectorImpl collector : collectors) {
 				collector.checkCoverage();
 			}
+			for (NumberStatisticsImpl numbers : numberStatistics) {
+				numbers.checkCoverage();
+			}
 			return testExecutionResult;
 		} catch (Throwable throwable) {
 			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
@@ -63,14 +113,11 @@ public class StatisticsHook implements AroundPropertyHook {
 
 	private void createStatisticsReports(
 		Map<String, StatisticsCollectorImpl> collectors,
+		Map<String, NumberStatisticsImpl> numberStatistics,
+		List<StatisticsReport> statisticsReportAnnotations,
 		PropertyLifecycleContext context,
 		PropertyExecutionResult testExecutionResult
 	) {
-		List<StatisticsReport> statisticsReportAnnotations = JqwikAnnotationSupport.findRepeatableAnnotationOnElementOrContainer(
-			context.targetMethod(),
-			StatisticsReport.class
-		);
-
 		boolean isFailure = testExecutionResult.status() == PropertyExecutionResult.Status.FAILED;
 		Set<Tuple3<String, StatisticsCollectorImpl, StatisticsReportFormat>> reports =
 			collectors.entrySet().stream()
@@ -81,6 +128,21 @@ public class StatisticsHook implements AroundPropertyHook {
 					  .collect(CollectorsSupport.toLinkedHashSet());
 
 		report(reports, context.reporter(), context.extendedLabel());
+
+		for (Map.Entry<String, NumberStatisticsImpl> entry : numberStatistics.entrySet()) {
+			NumberStatisticsImpl numbers = entry.getValue();
+			if (numbers.count() == 0) {
+				continue;
+			}
+			StatisticsReportFormat format = determineFormat(entry.getKey(), statisticsReportAnnotations, context, isFailure);
+			if (format == null) {
+				continue;
+			}
+			if (format instanceof StandardStatisticsReportFormat) {
+				format = new NumberSummaryReportFormat(numbers);
+			}
+			new StatisticsPublisher(numbers, format).publish(context.reporter(), context.extendedLabel());
+		}
 	}
 
 	private StatisticsReportFormat determineFormat(
@@ -10,6 +10,7 @@ public class StatisticsPublisher {
 	private final List<StatisticsEntry> entries;
 	private final int countCollects;
 	private final String label;
+	private final Optional<String> otherValuesLine;
 
 	public StatisticsPublisher(
 		StatisticsCollectorImpl statisticsCollector,
@@ -19,7 +20,21 @@ public class StatisticsPublisher {
 			statisticsReportFormat,
 			statisticsCollector.statisticsEntries(),
 			statisticsCollector.countAllCollects(),
-			statisticsCollector.label()
+			statisticsCollector.label(),
+			statisticsCollector.otherValuesReportLine()
+		);
+	}
+
+	public StatisticsPublisher(
+		NumberStatisticsImpl numberStatistics,
+		StatisticsReportFormat statisticsReportFormat
+	) {
+		this(
+			statisticsReportFormat,
+			numberStatistics.bucketEntries(),
+			numberStatistics.count(),
+			numberStatistics.label(),
+			Optional.empty()
 		);
 	}
 
@@ -28,12 +43,14 @@ public class StatisticsPublisher {
 		StatisticsReportFormat statisticsReportFormat,
 		List<? extends StatisticsEntry> entries,
 		int countCollects,
-		String label
+		String label,
+		Optional<String> otherValuesLine
 	) {
 		this.statisticsReportFormat = statisticsReportFormat;
 		this.entries = (List<StatisticsEntry>) entries;
 		this.countCollects = countCollects;
 		this.label = label;
+		this.otherValuesLine = otherValuesLine;
 	}
 
 	public void publish(Reporter reporter, String propertyName) {
@@ -52,6 +69,10 @@ public class StatisticsPublisher {
 		for (String reportLine : reportLines) {
 			report.append(formatReportLine(reportLine));
 		}
+		// Added after the format's lines so that custom formats only get entries of values that were counted
+		if (!reportLines.isEmpty()) {
+			otherValuesLine.ifPresent(line -> report.append(formatReportLine(line)));
+		}
 		return report.toString();
 	}
 
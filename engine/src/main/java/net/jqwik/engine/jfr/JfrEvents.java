@@ -0,0 +1,133 @@
+package net.jqwik.engine.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * The JDK Flight Recorder events emitted by jqwik.
+ *
+ * <p>
+ * This class must only be loaded if {@linkplain JqwikEvents} has detected that JFR is available.
+ * Fine-grained events are disabled by default and must be switched on in the recording's settings,
+ * e.g. {@code jfr configure +net.jqwik.Try#enabled=true}.
+ * </p>
+ */
+class JfrEvents {
+
+	private static final String CATEGORY = "jqwik";
+
+	private JfrEvents() {
+	}
+
+	@Name("net.jqwik.Property")
+	@Label("Property")
+	@Description("Generating and running the tries of a property including shrinking")
+	@Category(CATEGORY)
+	static class PropertyEvent extends Event implements JqwikEvents.PropertyEvent {
+		@Label("Property")
+		String property;
+
+		@Label("Status")
+		String status;
+
+		@Label("Tries")
+		int tries;
+
+		@Label("Checks")
+		int checks;
+
+		@Label("Seed")
+		String seed;
+
+		@Override
+		public void commit(String status, int tries, int checks, String seed) {
+			end();
+			if (shouldCommit()) {
+				this.status = status;
+				this.tries = tries;
+				this.checks = checks;
+				this.seed = seed;
+				commit();
+			}
+		}
+	}
+
+	@Name("net.jqwik.Try")
+	@Label("Try")
+	@Description("Generating the parameters of a single try and executing it")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class TryEvent extends Event {
+		@Label("Status")
+		String status;
+
+		@Label("Generation Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long generationTime;
+
+		@Label("Execution Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long executionTime;
+	}
+
+	@Name("net.jqwik.FilterMisses")
+	@Label("Filter Misses")
+	@Description("Values that had to be generated again because they were filtered out or were not unique")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class FilterMissesEvent extends Event {
+		@Label("Generator")
+		String generator;
+
+		@Label("Misses")
+		long misses;
+
+		@Label("Exhausted")
+		@Description("True if generation gave up after too many misses")
+		boolean exhausted;
+	}
+
+	@Name("net.jqwik.MemoizedGenerator")
+	@Label("Memoized Generator Lookup")
+	@Description("Looking up the memoized generator of an arbitrary")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class MemoizedGeneratorEvent extends Event {
+		@Label("Arbitrary")
+		String arbitrary;
+
+		@Label("Hit")
+		boolean hit;
+	}
+
+	@Name("net.jqwik.ShrinkingPhase")
+	@Label("Shrinking Phase")
+	@Description("One phase of shrinking a falsified sample")
+	@Category(CATEGORY)
+	static class ShrinkingPhaseEvent extends Event implements JqwikEvents.ShrinkingPhaseEvent {
+		@Label("Phase")
+		String phase;
+
+		@Label("Improved")
+		@Description("True if the phase found a smaller falsified sample")
+		boolean improved;
+
+		@Override
+		public void commit(boolean improved) {
+			end();
+			if (shouldCommit()) {
+				this.improved = improved;
+				commit();
+			}
+		}
+	}
+
+	@Name("net.jqwik.ShrinkStep")
+	@Label("Shrink Step")
+	@Description("Running the property with a shrink candidate")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class ShrinkStepEvent extends Event {
+		@Label("Status")
+		String status;
+	}
+}
@@ -0,0 +1,101 @@
+package net.jqwik.engine.jfr;
+
+import java.util.*;
+
+import jdk.jfr.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Creates and commits the events in {@linkplain JfrEvents}.
+ * Checking if an event type is enabled is cheap, creating an event is only done when it is.
+ *
+ * <p>
+ * This class must only be loaded if {@linkplain JqwikEvents} has detected that JFR is available.
+ * </p>
+ */
+class JfrRecorder {
+
+	private static final EventType PROPERTY = EventType.getEventType(JfrEvents.PropertyEvent.class);
+	private static final EventType TRY = EventType.getEventType(JfrEvents.TryEvent.class);
+	private static final EventType FILTER_MISSES = EventType.getEventType(JfrEvents.FilterMissesEvent.class);
+	private static final EventType MEMOIZED_GENERATOR = EventType.getEventType(JfrEvents.MemoizedGeneratorEvent.class);
+	private static final EventType SHRINKING_PHASE = EventType.getEventType(JfrEvents.ShrinkingPhaseEvent.class);
+	private static final EventType SHRINK_STEP = EventType.getEventType(JfrEvents.ShrinkStepEvent.class);
+
+	private JfrRecorder() {
+	}
+
+	static JqwikEvents.PropertyEvent beginProperty(String propertyName) {
+		if (!PROPERTY.isEnabled()) {
+			return JqwikEvents.NO_PROPERTY_EVENT;
+		}
+		JfrEvents.PropertyEvent event = new JfrEvents.PropertyEvent();
+		event.property = propertyName;
+		event.begin();
+		return event;
+	}
+
+	static boolean tryEventsEnabled() {
+		return TRY.isEnabled();
+	}
+
+	static void tryFinished(TryExecutionResult.Status status, long generationNanos, long executionNanos) {
+		JfrEvents.TryEvent event = new JfrEvents.TryEvent();
+		if (event.shouldCommit()) {
+			event.status = status.name();
+			event.generationTime = generationNanos;
+			event.executionTime = executionNanos;
+			event.commit();
+		}
+	}
+
+	static void filterMisses(Object generator, long misses, boolean exhausted) {
+		if (!FILTER_MISSES.isEnabled()) {
+			return;
+		}
+		JfrEvents.FilterMissesEvent event = new JfrEvents.FilterMissesEvent();
+		event.generator = generator.toString();
+		event.misses = misses;
+		event.exhausted = exhausted;
+		event.commit();
+	}
+
+	static void memoizedGeneratorLookup(Arbitrary<?> arbitrary, boolean hit) {
+		if (!MEMOIZED_GENERATOR.isEnabled()) {
+			return;
+		}
+		JfrEvents.MemoizedGeneratorEvent event = new JfrEvents.MemoizedGeneratorEvent();
+		event.arbitrary = arbitrary.getClass().getName();
+		event.hit = hit;
+		event.commit();
+	}
+
+	static JqwikEvents.ShrinkingPhaseEvent beginShrinkingPhase(String phase) {
+		if (!SHRINKING_PHASE.isEnabled()) {
+			return JqwikEvents.NO_SHRINKING_PHASE_EVENT;
+		}
+		JfrEvents.ShrinkingPhaseEvent event = new JfrEvents.ShrinkingPhaseEvent();
+		event.phase = phase;
+		event.begin();
+		return event;
+	}
+
+	static Falsifier<List<Object>> recordingShrinkSteps(Falsifier<List<Object>> falsifier) {
+		if (!SHRINK_STEP.isEnabled()) {
+			return falsifier;
+		}
+		return sample -> {
+			JfrEvents.ShrinkStepEvent event = new JfrEvents.ShrinkStepEvent();
+			event.begin();
+			TryExecutionResult result = falsifier.execute(sample);
+			event.end();
+			if (event.shouldCommit()) {
+				event.status = result.status().name();
+				event.commit();
+			}
+			return result;
+		};
+	}
+}
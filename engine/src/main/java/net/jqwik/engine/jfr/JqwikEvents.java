@@ -0,0 +1,92 @@
+package net.jqwik.engine.jfr;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Entry point for emitting JDK Flight Recorder events from the engine.
+ *
+ * <p>
+ * The engine still runs on JVMs without JFR. Therefore, no class that references {@code jdk.jfr}
+ * is loaded unless JFR is available. Without JFR or with disabled events all methods return immediately
+ * or hand out no-op objects.
+ * </p>
+ */
+public class JqwikEvents {
+
+	public interface PropertyEvent {
+		void commit(String status, int tries, int checks, String seed);
+	}
+
+	public interface ShrinkingPhaseEvent {
+		void commit(boolean improved);
+	}
+
+	static final PropertyEvent NO_PROPERTY_EVENT = (status, tries, checks, seed) -> {};
+	static final ShrinkingPhaseEvent NO_SHRINKING_PHASE_EVENT = improved -> {};
+
+	private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder", false, JqwikEvents.class.getClassLoader());
+			return (boolean) flightRecorder.getMethod("isAvailable").invoke(null);
+		} catch (Throwable jfrNotAvailable) {
+			return false;
+		}
+	}
+
+	private JqwikEvents() {
+	}
+
+	public static PropertyEvent beginProperty(String propertyName) {
+		if (!JFR_AVAILABLE) {
+			return NO_PROPERTY_EVENT;
+		}
+		return JfrRecorder.beginProperty(propertyName);
+	}
+
+	/**
+	 * Measuring generation and execution time of tries is only worth it if this returns true.
+	 */
+	public static boolean tryEventsEnabled() {
+		return JFR_AVAILABLE && JfrRecorder.tryEventsEnabled();
+	}
+
+	public static void tryFinished(TryExecutionResult.Status status, long generationNanos, long executionNanos) {
+		if (JFR_AVAILABLE) {
+			JfrRecorder.tryFinished(status, generationNanos, executionNanos);
+		}
+	}
+
+	/**
+	 * Only call if there were any misses, i.e. {@code misses > 0} or generation is {@code exhausted}.
+	 */
+	public static void filterMisses(Object generator, long misses, boolean exhausted) {
+		if (JFR_AVAILABLE) {
+			JfrRecorder.filterMisses(generator, misses, exhausted);
+		}
+	}
+
+	public static void memoizedGeneratorLookup(Arbitrary<?> arbitrary, boolean hit) {
+		if (JFR_AVAILABLE) {
+			JfrRecorder.memoizedGeneratorLookup(arbitrary, hit);
+		}
+	}
+
+	public static ShrinkingPhaseEvent beginShrinkingPhase(String phase) {
+		if (!JFR_AVAILABLE) {
+			return NO_SHRINKING_PHASE_EVENT;
+		}
+		return JfrRecorder.beginShrinkingPhase(phase);
+	}
+
+	public static Falsifier<List<Object>> recordingShrinkSteps(Falsifier<List<Object>> falsifier) {
+		if (!JFR_AVAILABLE) {
+			return falsifier;
+		}
+		return JfrRecorder.recordingShrinkSteps(falsifier);
+	}
+}
@@ -0,0 +1,261 @@
+package net.jqwik.engine.properties;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.logging.*;
+
+import org.jspecify.annotations.*;
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.jfr.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Runs the tries of a property concurrently while handing out their results in submission order.
+ *
+ * <p>
+ * Tries run on virtual threads if the JVM supports them, otherwise on a pool of platform threads.
+ * At most {@code concurrency} tries run at the same time.
+ * Each try sees the same current test descriptor and domain context as the thread that created this instance.
+ * It runs in the {@linkplain CurrentTryScope try scope} its parameters were generated in
+ * so that it has its own values of {@linkplain Lifespan#TRY} stores.
+ * As soon as a try fails or wants the property to finish early, {@linkplain #stopRequested()} becomes true
+ * so that no further tries need to be generated.
+ * </p>
+ */
+class ConcurrentTries implements AutoCloseable {
+
+	private static final Logger LOG = Logger.getLogger(ConcurrentTries.class.getName());
+
+	// Completed but not yet consumed tries may pile up behind a slow one
+	private static final int MAX_PENDING_PER_CONCURRENT_TRY = 4;
+
+	@Nullable
+	private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = virtualThreadPerTaskExecutorFactory();
+
+	@Nullable
+	private static Method virtualThreadPerTaskExecutorFactory() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException javaVersionBefore21) {
+			return null;
+		}
+	}
+
+	private final TryLifecycleExecutor tryLifecycleExecutor;
+	private final boolean recordTries;
+	@Nullable
+	private final PropertyProfiler profiler;
+	private final int maxPending;
+	private final Semaphore runningTries;
+	private final ExecutorService executor;
+	private final Deque<PendingTry> pendingTries = new ArrayDeque<>();
+	private final AtomicBoolean stopRequested = new AtomicBoolean(false);
+
+	@Nullable
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+
+	ConcurrentTries(TryLifecycleExecutor tryLifecycleExecutor, int concurrency, boolean recordTries, @Nullable PropertyProfiler profiler) {
+		if (concurrency <= 0) {
+			throw new IllegalArgumentException("concurrency must be at least 1 but was " + concurrency);
+		}
+		int maxConcurrentTries = concurrency;
+		this.tryLifecycleExecutor = tryLifecycleExecutor;
+		this.recordTries = recordTries;
+		this.profiler = profiler;
+		this.maxPending = maxConcurrentTries * MAX_PENDING_PER_CONCURRENT_TRY;
+		this.runningTries = new Semaphore(maxConcurrentTries);
+		this.executor = createExecutor(maxConcurrentTries);
+		this.currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		this.currentDomainContext = CurrentDomainContext.get();
+	}
+
+	private static ExecutorService createExecutor(int maxConcurrentTries) {
+		if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+			try {
+				return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+			} catch (Exception cannotCreateVirtualThreads) {
+				LOG.log(Level.WARNING, "Cannot run tries on virtual threads. Using platform threads instead.", cannotCreateVirtualThreads);
+			}
+		}
+		AtomicInteger threadCount = new AtomicInteger(0);
+		return Executors.newFixedThreadPool(maxConcurrentTries, runnable -> {
+			Thread thread = new Thread(runnable, "jqwik-try-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	boolean stopRequested() {
+		return stopRequested.get();
+	}
+
+	boolean canSubmit() {
+		return pendingTries.size() < maxPending;
+	}
+
+	/**
+	 * Blocks until one of the concurrently running tries has finished if necessary.
+	 */
+	void submit(
+		Object tryScope,
+		TryLifecycleContext tryLifecycleContext,
+		List<Shrinkable<Object>> shrinkableParams,
+		List<Object> sample,
+		long generationNanos
+	) {
+		try {
+			runningTries.acquire();
+		} catch (InterruptedException interruptedException) {
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+		PendingTry pendingTry = new PendingTry(tryScope, tryLifecycleContext, shrinkableParams, sample, generationNanos);
+		pendingTry.future = executor.submit(() -> {
+			try {
+				CurrentDomainContext.runWithContext(currentDomainContext, () -> runWithCurrentDescriptor(pendingTry));
+			} finally {
+				runningTries.release();
+			}
+		});
+		pendingTries.addLast(pendingTry);
+		PropertyProfiler.recordRetainedSamples(pendingTries.size());
+	}
+
+	private Object runWithCurrentDescriptor(PendingTry pendingTry) {
+		if (currentDescriptor == null) {
+			return CurrentTryScope.runInScope(pendingTry.tryScope, () -> runTry(pendingTry));
+		}
+		return CurrentTestDescriptor.runWithDescriptor(
+			currentDescriptor,
+			() -> CurrentTryScope.runInScope(pendingTry.tryScope, () -> runTry(pendingTry))
+		);
+	}
+
+	private Object runTry(PendingTry pendingTry) {
+		try {
+			long executionStart = recordTries || profiler != null ? System.nanoTime() : 0L;
+			TryExecutionResult result;
+			try {
+				result = tryLifecycleExecutor.execute(pendingTry.context, pendingTry.sample);
+			} finally {
+				if (profiler != null) {
+					profiler.addExecutionNanos(System.nanoTime() - executionStart);
+				}
+			}
+			if (recordTries) {
+				JqwikEvents.tryFinished(result.status(), pendingTry.generationNanos, System.nanoTime() - executionStart);
+			}
+			if (result.status() == TryExecutionResult.Status.FALSIFIED || result.shouldPropertyFinishEarly()) {
+				stopRequested.set(true);
+			}
+			pendingTry.result = result;
+		} catch (Throwable throwable) {
+			stopRequested.set(true);
+			pendingTry.throwable = throwable;
+		}
+		return pendingTry;
+	}
+
+	/**
+	 * @return the oldest pending try if it has already finished, otherwise null
+	 */
+	@Nullable
+	PendingTry pollFinished() {
+		PendingTry oldest = pendingTries.peekFirst();
+		if (oldest == null || !oldest.future.isDone()) {
+			return null;
+		}
+		return takeNext();
+	}
+
+	/**
+	 * Waits for the oldest pending try to finish.
+	 *
+	 * @return the oldest pending try or null if there is none
+	 */
+	@Nullable
+	PendingTry takeNext() {
+		PendingTry oldest = pendingTries.pollFirst();
+		if (oldest == null) {
+			return null;
+		}
+		try {
+			oldest.future.get();
+		} catch (InterruptedException | ExecutionException exception) {
+			JqwikExceptionSupport.throwAsUncheckedException(exception);
+		}
+		return oldest;
+	}
+
+	/**
+	 * Cancels all pending tries and waits for running ones to finish.
+	 */
+	@Override
+	public void close() {
+		List<PendingTry> cancelledTries = new ArrayList<>(pendingTries);
+		for (PendingTry pendingTry : cancelledTries) {
+			pendingTry.future.cancel(true);
+		}
+		pendingTries.clear();
+		executor.shutdownNow();
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+				LOG.fine("Waiting for cancelled tries to finish");
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		}
+		// Tries cancelled before they started have not reset the store values of their try scope
+		if (currentDescriptor != null) {
+			for (PendingTry cancelledTry : cancelledTries) {
+				CurrentTryScope.runInScope(cancelledTry.tryScope, () -> {
+					StoreRepository.getCurrent().finishTry(currentDescriptor);
+					return null;
+				});
+			}
+		}
+	}
+
+	static class PendingTry {
+		private final Object tryScope;
+		final TryLifecycleContext context;
+		final List<Shrinkable<Object>> shrinkableParams;
+		final List<Object> sample;
+		private final long generationNanos;
+
+		private Future<?> future;
+		private volatile TryExecutionResult result;
+		private volatile Throwable throwable;
+
+		private PendingTry(
+			Object tryScope,
+			TryLifecycleContext context,
+			List<Shrinkable<Object>> shrinkableParams,
+			List<Object> sample,
+			long generationNanos
+		) {
+			this.tryScope = tryScope;
+			this.context = context;
+			this.shrinkableParams = shrinkableParams;
+			this.sample = sample;
+			this.generationNanos = generationNanos;
+		}
+
+		/**
+		 * @throws Throwable whatever the try threw instead of returning a result
+		 */
+		TryExecutionResult result() throws Throwable {
+			if (throwable != null) {
+				throw throwable;
+			}
+			return result;
+		}
+	}
+}
@@ -1,10 +1,13 @@
 package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
@@ -12,6 +15,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.jfr.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
@@ -37,8 +41,35 @@ public class GenericProperty {
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
 	}
 
+	/**
+	 * A profile is only recorded if a {@linkplain PropertyProfiler} is bound to the current thread.
+	 */
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
-		int maxTries = configuration.getTries();
+		PropertyProfiler profiler = PropertyProfiler.current();
+		JqwikEvents.PropertyEvent propertyEvent = JqwikEvents.beginProperty(name);
+		long startNanos = System.nanoTime();
+		PropertyCheckResult checkResult = checkTries(reporter, reporting, startNanos, profiler).withProfile(profiler);
+		propertyEvent.commit(
+			checkResult.checkStatus().name(),
+			checkResult.countTries(),
+			checkResult.countChecks(),
+			checkResult.generationInfo().randomSeed().orElse(null)
+		);
+		if (checkResult.triesDuration().isPresent()) {
+			return checkResult;
+		}
+		return checkResult.withTriesDuration(Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+
+	private PropertyCheckResult checkTries(Reporter reporter, Reporting[] reporting, long startNanos, @Nullable PropertyProfiler profiler) {
+		int maxTries = configuration.getMaxTries();
+		// Examples have exactly one try
+		if (maxTries > 1 && configuration.getTryExecutionMode() == TryExecutionMode.VIRTUAL_THREADS) {
+			return checkTriesConcurrently(reporter, reporting, startNanos, profiler);
+		}
+		TriesDeadline deadline = configuration.getMaxDuration().map(TriesDeadline::after).orElse(null);
+		boolean recordTries = JqwikEvents.tryEventsEnabled();
+		boolean timeTries = recordTries || profiler != null;
 		int countChecks = 0;
 		int countTries = 0;
 		boolean finishEarly = false;
@@ -46,6 +77,9 @@ public class GenericProperty {
 			if (finishEarly) {
 				break;
 			}
+			if (deadline != null && deadline.isReached()) {
+				break;
+			}
 			if (!parametersGenerator.hasNext()) {
 				break;
 			}
@@ -53,6 +87,10 @@ public class GenericProperty {
 
 			List<Shrinkable<Object>> shrinkableParams;
 			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+			long generationStart = timeTries ? System.nanoTime() : 0L;
+			if (profiler != null) {
+				profiler.startGeneration();
+			}
 			try {
 				shrinkableParams = parametersGenerator.next(tryLifecycleContext);
 			} catch (Throwable throwable) {
@@ -60,30 +98,39 @@ public class GenericProperty {
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
 
 				return exhaustedCheckResult(countTries, countChecks, throwable);
+			} finally {
+				if (profiler != null) {
+					profiler.stopGeneration();
+					profiler.addGenerationNanos(System.nanoTime() - generationStart);
+				}
+			}
+			if (countTries == 1) {
+				PropertyProfiler.recordRetainedSamples(1);
 			}
 
 			List<Object> sample = extractParams(shrinkableParams);
 			try {
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				long executionStart = timeTries ? System.nanoTime() : 0L;
+				TryExecutionResult tryExecutionResult;
+				try {
+					tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				} finally {
+					if (profiler != null) {
+						profiler.addExecutionNanos(System.nanoTime() - executionStart);
+					}
+				}
+				if (recordTries) {
+					JqwikEvents.tryFinished(tryExecutionResult.status(), executionStart - generationStart, System.nanoTime() - executionStart);
+				}
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
 						continue;
 					case FALSIFIED:
-						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-							sample,
-							shrinkableParams,
-							tryExecutionResult.throwable(),
-							tryExecutionResult.footnotes()
-						);
-						return shrinkAndCreateCheckResult(
-							reporter,
-							reporting,
-							countChecks,
-							countTries,
-							falsifiedSample,
-							tryLifecycleContext.targetMethod()
+						return falsifiedCheckResult(
+							reporter, reporting, countChecks, countTries, startNanos,
+							tryLifecycleContext, shrinkableParams, sample, tryExecutionResult
 						);
 					case INVALID:
 						countChecks--;
@@ -107,23 +154,172 @@ public class GenericProperty {
 			} catch (Throwable throwable) {
 				// Only not AssertionErrors and non Exceptions get here
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					sample,
-					shrinkableParams,
-					Optional.of(throwable),
-					Collections.emptyList()
-				);
-				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
-				return PropertyCheckResult.failed(
-					configuration.getStereotype(), name, countTries, countChecks, generationInfo,
-					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-					falsifiedSample, null, throwable
-				);
+				return erroneousCheckResult(countTries, countChecks, shrinkableParams, sample, throwable);
 			}
 		}
+		return finishedCheckResult(deadline == null ? maxTries : countTries, countTries, countChecks);
+	}
+
+	/**
+	 * Parameters are generated on the current thread in the same order as in sequential execution.
+	 * Results are evaluated in that order, too, so that the first failing try in generation order is reported.
+	 * Tries generated after it may have run already but are neither counted nor reported.
+	 */
+	private PropertyCheckResult checkTriesConcurrently(
+		Reporter reporter,
+		Reporting[] reporting,
+		long startNanos,
+		@Nullable PropertyProfiler profiler
+	) {
+		int maxTries = configuration.getMaxTries();
+		TriesDeadline deadline = configuration.getMaxDuration().map(TriesDeadline::after).orElse(null);
+		int countGenerated = 0;
+		int countChecks = 0;
+		int countTries = 0;
+		Throwable generationError = null;
+		boolean recordTries = JqwikEvents.tryEventsEnabled();
+		boolean timeTries = recordTries || profiler != null;
+		try (ConcurrentTries concurrentTries = new ConcurrentTries(tryLifecycleExecutor, configuration.getConcurrency(), recordTries, profiler)) {
+			while (true) {
+				ConcurrentTries.PendingTry finishedTry;
+				if (generationError == null && !concurrentTries.stopRequested() && concurrentTries.canSubmit()
+						&& countGenerated < maxTries
+						&& (deadline == null || !deadline.isReached())
+						&& parametersGenerator.hasNext()) {
+					TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+					// Generators may use TRY stores, which must belong to the try the parameters are generated for
+					Object tryScope = CurrentTryScope.newScope();
+					long generationStart = timeTries ? System.nanoTime() : 0L;
+					List<Shrinkable<Object>> shrinkableParams;
+					List<Object> sample;
+					if (profiler != null) {
+						profiler.startGeneration();
+					}
+					try {
+						shrinkableParams = CurrentTryScope.runInScope(tryScope, () -> parametersGenerator.next(tryLifecycleContext));
+						sample = CurrentTryScope.runInScope(tryScope, () -> extractParams(shrinkableParams));
+					} catch (Throwable throwable) {
+						JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+						// Earlier tries must be evaluated first since one of them might fail
+						generationError = throwable;
+						if (profiler != null) {
+							profiler.addGenerationNanos(System.nanoTime() - generationStart);
+						}
+						continue;
+					} finally {
+						if (profiler != null) {
+							profiler.stopGeneration();
+						}
+					}
+					// Formatting the generated report is not part of generation
+					long generationNanos = timeTries ? System.nanoTime() - generationStart : 0L;
+					if (profiler != null) {
+						profiler.addGenerationNanos(generationNanos);
+					}
+					countGenerated++;
+					reportGenerated(tryLifecycleContext, sample, reporter, reporting);
+					concurrentTries.submit(tryScope, tryLifecycleContext, shrinkableParams, sample, generationNanos);
+					finishedTry = concurrentTries.pollFinished();
+					if (finishedTry == null) {
+						continue;
+					}
+				} else {
+					finishedTry = concurrentTries.takeNext();
+					if (finishedTry == null) {
+						break;
+					}
+				}
+
+				countTries++;
+				countChecks++;
+				TryExecutionResult tryExecutionResult;
+				try {
+					tryExecutionResult = finishedTry.result();
+				} catch (Throwable throwable) {
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					return erroneousCheckResult(countTries, countChecks, finishedTry.shrinkableParams, finishedTry.sample, throwable);
+				}
+				switch (tryExecutionResult.status()) {
+					case SATISFIED:
+						if (tryExecutionResult.shouldPropertyFinishEarly()) {
+							return finishedCheckResult(deadline == null ? maxTries : countTries, countTries, countChecks);
+						}
+						break;
+					case FALSIFIED:
+						// Shrinking must not compete with tries that are still running
+						concurrentTries.close();
+						return falsifiedCheckResult(
+							reporter, reporting, countChecks, countTries, startNanos,
+							finishedTry.context, finishedTry.shrinkableParams, finishedTry.sample, tryExecutionResult
+						);
+					case INVALID:
+						countChecks--;
+						break;
+					default:
+						String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
+						throw new RuntimeException(message);
+				}
+			}
+		}
+		if (generationError != null) {
+			return exhaustedCheckResult(countTries + 1, countChecks, generationError);
+		}
+		return finishedCheckResult(deadline == null ? maxTries : countTries, countTries, countChecks);
+	}
+
+	private PropertyCheckResult falsifiedCheckResult(
+		Reporter reporter,
+		Reporting[] reporting,
+		int countChecks,
+		int countTries,
+		long startNanos,
+		TryLifecycleContext tryLifecycleContext,
+		List<Shrinkable<Object>> shrinkableParams,
+		List<Object> sample,
+		TryExecutionResult tryExecutionResult
+	) {
+		FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+			sample,
+			shrinkableParams,
+			tryExecutionResult.throwable(),
+			tryExecutionResult.footnotes()
+		);
+		Duration triesDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+		return shrinkAndCreateCheckResult(
+			reporter,
+			reporting,
+			countChecks,
+			countTries,
+			falsifiedSample,
+			tryLifecycleContext.targetMethod()
+		).withTriesDuration(triesDuration);
+	}
+
+	private PropertyCheckResult erroneousCheckResult(
+		int countTries,
+		int countChecks,
+		List<Shrinkable<Object>> shrinkableParams,
+		List<Object> sample,
+		Throwable throwable
+	) {
+		FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+			sample,
+			shrinkableParams,
+			Optional.of(throwable),
+			Collections.emptyList()
+		);
+		GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
+		return PropertyCheckResult.failed(
+			configuration.getStereotype(), name, countTries, countChecks, generationInfo,
+			configuration.getGenerationMode(),
+			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+			falsifiedSample, null, throwable
+		);
+	}
+
+	private PropertyCheckResult finishedCheckResult(int exhaustedTries, int countTries, int countChecks) {
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
-			return exhaustedCheckResult(maxTries, countChecks, null);
+			return exhaustedCheckResult(exhaustedTries, countChecks, null);
 		}
 		return PropertyCheckResult.successful(
 			configuration.getStereotype(),
@@ -159,11 +355,15 @@ public class GenericProperty {
 		Reporter reporter,
 		Reporting[] reporting
 	) {
+		reportGenerated(tryLifecycleContext, sample, reporter, reporting);
+		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+	}
+
+	private void reportGenerated(TryLifecycleContext tryLifecycleContext, List<Object> sample, Reporter reporter, Reporting[] reporting) {
 		if (Reporting.GENERATED.containedIn(reporting)) {
 			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -180,7 +380,16 @@ public class GenericProperty {
 		int countTries, FalsifiedSample originalSample,
 		Method targetMethod
 	) {
-		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple = shrink(reporter, reporting, originalSample, targetMethod);
+		long shrinkingStart = System.nanoTime();
+		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple;
+		try {
+			tuple = shrink(reporter, reporting, originalSample, targetMethod);
+		} finally {
+			PropertyProfiler profiler = PropertyProfiler.current();
+			if (profiler != null) {
+				profiler.addShrinkingNanos(System.nanoTime() - shrinkingStart);
+			}
+		}
 		ShrunkFalsifiedSample shrunkSample = tuple.get1();
 		GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed())
 														   .appendShrinkingSequence(tuple.get2());
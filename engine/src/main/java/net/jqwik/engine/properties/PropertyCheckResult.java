@@ -1,7 +1,9 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 
+import org.jspecify.annotations.*;
 import org.opentest4j.*;
 
 import net.jqwik.api.*;
@@ -9,6 +11,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.properties.profiling.*;
 
 public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 
@@ -42,6 +45,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
+			null,
 			null
 		);
 	}
@@ -77,7 +82,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			null,
+			null
 		);
 	}
 
@@ -108,7 +115,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null,
+			null
 		);
 	}
 
@@ -137,7 +146,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null,
+			null
 		);
 	}
 
@@ -154,6 +165,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final Duration triesDuration;
+	private final PropertyProfiler profile;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -167,7 +180,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		Duration triesDuration,
+		PropertyProfiler profile
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -182,6 +197,48 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.triesDuration = triesDuration;
+		this.profile = profile;
+	}
+
+	public PropertyCheckResult withTriesDuration(Duration triesDuration) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			generationInfo,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			triesDuration,
+			profile
+		);
+	}
+
+	public PropertyCheckResult withProfile(@Nullable PropertyProfiler profile) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			generationInfo,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			triesDuration,
+			profile
+		);
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -236,7 +293,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					triesDuration,
+					profile
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -252,7 +311,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					triesDuration,
+					profile
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -296,6 +357,21 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return generation;
 	}
 
+	@Override
+	public Optional<Duration> triesDuration() {
+		return Optional.ofNullable(triesDuration);
+	}
+
+	@Override
+	public Optional<PropertyProfile> profile() {
+		return Optional.ofNullable(profile);
+	}
+
+	@Override
+	public Optional<GenerationProfiler> generationProfiler() {
+		return Optional.ofNullable(profile).flatMap(PropertyProfiler::generationProfiler);
+	}
+
 	@Override
 	public EdgeCasesExecutionResult edgeCases() {
 		return new EdgeCasesExecutionResult(edgeCasesMode, edgeCasesTotal, edgeCasesTried);
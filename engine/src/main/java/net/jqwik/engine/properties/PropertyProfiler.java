@@ -0,0 +1,180 @@
+package net.jqwik.engine.properties;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.profiling.*;
+
+/**
+ * Collects the performance profile of a single property run.
+ *
+ * <p>
+ * The profiler is bound to the thread that runs the property so that code deep down in
+ * generation and shrinking can contribute without having to pass it around.
+ * Only the execution duration and shrink attempts can be added from other threads.
+ * </p>
+ */
+public class PropertyProfiler implements PropertyProfile {
+
+	private static final ThreadLocal<PropertyProfiler> currentProfiler = new ThreadLocal<>();
+
+	@Nullable
+	public static PropertyProfiler current() {
+		return currentProfiler.get();
+	}
+
+	public static <T> T runWith(PropertyProfiler profiler, Supplier<T> runnable) {
+		PropertyProfiler previous = currentProfiler.get();
+		currentProfiler.set(profiler);
+		try {
+			return runnable.get();
+		} finally {
+			if (previous == null) {
+				currentProfiler.remove();
+			} else {
+				currentProfiler.set(previous);
+			}
+		}
+	}
+
+	public static void recordFilterMisses(int attempts, int misses) {
+		PropertyProfiler profiler = currentProfiler.get();
+		if (profiler != null) {
+			profiler.filterAttempts += attempts;
+			profiler.filterMisses += misses;
+			if (profiler.generationProfiler != null && misses > 0) {
+				profiler.generationProfiler.recordFilterMisses(misses);
+			}
+		}
+	}
+
+	public static void recordShrinkAttempts(String phaseName, int attempts) {
+		PropertyProfiler profiler = currentProfiler.get();
+		if (profiler != null) {
+			synchronized (profiler.shrinkAttemptsPerPhase) {
+				profiler.shrinkAttemptsPerPhase.merge(phaseName, attempts, Integer::sum);
+			}
+		}
+	}
+
+	public static void recordRetainedSamples(int retainedSamples) {
+		PropertyProfiler profiler = currentProfiler.get();
+		if (profiler != null) {
+			profiler.peakRetainedSamples = Math.max(profiler.peakRetainedSamples, retainedSamples);
+		}
+	}
+
+	@Nullable
+	private final GenerationProfiler generationProfiler;
+	private final LongAdder executionNanos = new LongAdder();
+	private final Map<String, Integer> shrinkAttemptsPerPhase = new LinkedHashMap<>();
+	private long setupNanos = 0L;
+	private long generationNanos = 0L;
+	private long shrinkingNanos = 0L;
+	private int filterAttempts = 0;
+	private int filterMisses = 0;
+	private volatile int peakRetainedSamples = 0;
+
+	public PropertyProfiler() {
+		this(false);
+	}
+
+	/**
+	 * @param profileGeneration if true, generators of composite arbitraries created while this profiler is bound
+	 *                          will be instrumented, which slows down generation
+	 */
+	public PropertyProfiler(boolean profileGeneration) {
+		this.generationProfiler = profileGeneration ? new GenerationProfiler() : null;
+	}
+
+	public Optional<GenerationProfiler> generationProfiler() {
+		return Optional.ofNullable(generationProfiler);
+	}
+
+	public void startGeneration() {
+		if (generationProfiler != null) {
+			generationProfiler.startGeneration();
+		}
+	}
+
+	public void stopGeneration() {
+		if (generationProfiler != null) {
+			generationProfiler.stopGeneration();
+		}
+	}
+
+	public void addSetupNanos(long nanos) {
+		setupNanos += nanos;
+	}
+
+	public void addGenerationNanos(long nanos) {
+		generationNanos += nanos;
+	}
+
+	/**
+	 * Can be called from any thread.
+	 */
+	public void addExecutionNanos(long nanos) {
+		executionNanos.add(nanos);
+	}
+
+	public void addShrinkingNanos(long nanos) {
+		shrinkingNanos += nanos;
+	}
+
+	@Override
+	public Duration setupDuration() {
+		return Duration.ofNanos(setupNanos);
+	}
+
+	@Override
+	public Duration generationDuration() {
+		return Duration.ofNanos(generationNanos);
+	}
+
+	@Override
+	public Duration executionDuration() {
+		return Duration.ofNanos(executionNanos.sum());
+	}
+
+	@Override
+	public Duration shrinkingDuration() {
+		return Duration.ofNanos(shrinkingNanos);
+	}
+
+	@Override
+	public int countFilterAttempts() {
+		return filterAttempts;
+	}
+
+	@Override
+	public int countFilterMisses() {
+		return filterMisses;
+	}
+
+	@Override
+	public Map<String, Integer> shrinkAttemptsPerPhase() {
+		synchronized (shrinkAttemptsPerPhase) {
+			return Collections.unmodifiableMap(new LinkedHashMap<>(shrinkAttemptsPerPhase));
+		}
+	}
+
+	@Override
+	public int peakRetainedSamples() {
+		return peakRetainedSamples;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"PropertyProfile[setup=%s, generation=%s, execution=%s, shrinking=%s, filterMisses=%d/%d, shrinkAttempts=%s, peakRetainedSamples=%d]",
+			setupDuration(), generationDuration(), executionDuration(), shrinkingDuration(),
+			filterMisses, filterAttempts, shrinkAttemptsPerPhase(), peakRetainedSamples
+		);
+	}
+}
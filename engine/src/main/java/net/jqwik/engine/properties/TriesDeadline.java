@@ -0,0 +1,55 @@
+package net.jqwik.engine.properties;
+
+import java.time.*;
+import java.util.concurrent.*;
+
+/**
+ * Decides when a time-boxed property has to stop generating tries.
+ *
+ * <p>
+ * Reading the clock can be more expensive than a very fast try.
+ * Therefore the clock is only checked every n-th try with n adapting to the speed of tries,
+ * so that the deadline is overshot by a few milliseconds at most.
+ * </p>
+ */
+class TriesDeadline {
+
+	private static final long MIN_NANOS_BETWEEN_CHECKS = TimeUnit.MILLISECONDS.toNanos(2);
+	private static final int MAX_TRIES_BETWEEN_CHECKS = 1024;
+
+	static TriesDeadline after(Duration maxDuration) {
+		return new TriesDeadline(System.nanoTime(), maxDuration.toNanos());
+	}
+
+	private final long deadlineNanos;
+	private long lastCheckNanos;
+	private int triesBetweenChecks = 1;
+	private int triesUntilNextCheck = 1;
+
+	private TriesDeadline(long startNanos, long durationNanos) {
+		this.deadlineNanos = startNanos + durationNanos;
+		this.lastCheckNanos = startNanos;
+	}
+
+	boolean isReached() {
+		if (--triesUntilNextCheck > 0) {
+			return false;
+		}
+		long now = System.nanoTime();
+		if (now - deadlineNanos >= 0) {
+			return true;
+		}
+		adaptCheckInterval(now - lastCheckNanos);
+		lastCheckNanos = now;
+		triesUntilNextCheck = triesBetweenChecks;
+		return false;
+	}
+
+	private void adaptCheckInterval(long nanosSinceLastCheck) {
+		if (nanosSinceLastCheck < MIN_NANOS_BETWEEN_CHECKS) {
+			triesBetweenChecks = Math.min(triesBetweenChecks * 2, MAX_TRIES_BETWEEN_CHECKS);
+		} else if (nanosSinceLastCheck > 2 * MIN_NANOS_BETWEEN_CHECKS) {
+			triesBetweenChecks = Math.max(triesBetweenChecks / 2, 1);
+		}
+	}
+}
@@ -6,6 +6,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.properties.profiling.*;
 
 public class ArbitraryFilter<T> extends ArbitraryDelegator<T> {
 	private final Predicate<T> filterPredicate;
@@ -19,12 +20,12 @@ public class ArbitraryFilter<T> extends ArbitraryDelegator<T> {
 
 	@Override
 	public RandomGenerator<T> generator(int genSize) {
-		return super.generator(genSize).filter(filterPredicate, maxMisses);
+		return GenerationProfiler.profile(this, "filter", super.generator(genSize).filter(filterPredicate, maxMisses));
 	}
 
 	@Override
 	public RandomGenerator<T> generatorWithEmbeddedEdgeCases(int genSize) {
-		return super.generatorWithEmbeddedEdgeCases(genSize).filter(filterPredicate, maxMisses);
+		return GenerationProfiler.profile(this, "filter", super.generatorWithEmbeddedEdgeCases(genSize).filter(filterPredicate, maxMisses));
 	}
 
 	@Override
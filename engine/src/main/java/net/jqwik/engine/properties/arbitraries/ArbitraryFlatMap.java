@@ -6,6 +6,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.profiling.*;
 
 public class ArbitraryFlatMap<T, U> implements Arbitrary<U> {
 	private final Arbitrary<T> self;
@@ -18,12 +19,12 @@ public class ArbitraryFlatMap<T, U> implements Arbitrary<U> {
 
 	@Override
 	public RandomGenerator<U> generator(int genSize) {
-		return self.generator(genSize).flatMap(mapper, genSize, false);
+		return GenerationProfiler.profileFlatMap(this, self.generator(genSize), mapper, genSize, false);
 	}
 
 	@Override
 	public RandomGenerator<U> generatorWithEmbeddedEdgeCases(int genSize) {
-		return self.generatorWithEmbeddedEdgeCases(genSize).flatMap(mapper, genSize, true);
+		return GenerationProfiler.profileFlatMap(this, self.generatorWithEmbeddedEdgeCases(genSize), mapper, genSize, true);
 	}
 
 	@Override
@@ -5,6 +5,7 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.support.*;
+import net.jqwik.engine.properties.profiling.*;
 
 public class ArbitraryMap<T, U> implements Arbitrary<U> {
 	private final Arbitrary<T> self;
@@ -17,12 +18,12 @@ public class ArbitraryMap<T, U> implements Arbitrary<U> {
 
 	@Override
 	public RandomGenerator<U> generator(int genSize) {
-		return self.generator(genSize).map(mapper);
+		return GenerationProfiler.profile(this, "map", self.generator(genSize).map(mapper));
 	}
 
 	@Override
 	public RandomGenerator<U> generatorWithEmbeddedEdgeCases(int genSize) {
-		return self.generatorWithEmbeddedEdgeCases(genSize).map(mapper);
+		return GenerationProfiler.profile(this, "map", self.generatorWithEmbeddedEdgeCases(genSize).map(mapper));
 	}
 
 	@Override
@@ -11,12 +11,9 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.api.support.*;
-import net.jqwik.engine.support.types.*;
 
 import static org.junit.platform.commons.support.ModifierSupport.*;
 
-import static net.jqwik.engine.support.JqwikReflectionSupport.*;
-
 public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implements TraverseArbitrary<T> {
 
 	private final Class<T> targetType;
@@ -125,12 +122,13 @@ public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implement
 		Executable creator
 	) {
 		List<Arbitrary<Object>> parameterArbitraries =
-			getMethodParameters(creator, targetType)
-				.stream()
-				.map(methodParameter -> arbitraryFor(TypeUsageImpl.forParameter(methodParameter)))
-				.collect(Collectors.toList());
+			TypeCreators.of(targetType).parameterTypes(creator)
+						.stream()
+						.map(this::arbitraryFor)
+						.collect(Collectors.toList());
 
-		Function<List<Object>, T> combinator = paramList -> combinator(creator).apply(paramList.toArray());
+		TypeCreators.Creator typeCreator = TypeCreators.creator(creator);
+		Function<List<Object>, T> combinator = paramList -> generateNext(paramList.toArray(), typeCreator);
 		Arbitrary<T> arbitrary = Combinators.combine(parameterArbitraries).as(combinator);
 		return arbitrary.ignoreException(GenerationError.class);
 	}
@@ -158,40 +156,14 @@ public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implement
 	}
 
 	@SuppressWarnings("unchecked")
-	private Function<Object[], T> combinator(Executable creator) {
-		if (creator instanceof Method) {
-			return combinatorForMethod((Method) creator);
-		}
-		if (creator instanceof Constructor) {
-			return combinatorForConstructor((Constructor<T>) creator);
-		}
-		throw new JqwikException(String.format("Creator %s is not supported", creator));
-	}
-
-	private Function<Object[], T> combinatorForMethod(Method method) {
-		method.setAccessible(true);
-		return params -> generateNext(params, p -> method.invoke(null, p));
-	}
-
-	private Function<Object[], T> combinatorForConstructor(Constructor<T> constructor) {
-		constructor.setAccessible(true);
-		return params -> generateNext(params, constructor::newInstance);
-	}
-
-	@SuppressWarnings("unchecked")
-	private T generateNext(Object[] params, Combinator combinator) {
+	private T generateNext(Object[] params, TypeCreators.Creator creator) {
 		try {
-			return (T) combinator.combine(params);
+			return (T) creator.create(params);
 		} catch (Throwable throwable) {
 			throw new GenerationError(throwable);
 		}
 	}
 
-	@FunctionalInterface
-	private interface Combinator {
-		Object combine(Object[] params) throws Throwable;
-	}
-
 	private static class GenerationError extends RuntimeException {
 		GenerationError(Throwable throwable) {
 			super(throwable);
@@ -10,8 +10,6 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.providers.*;
 
-import static org.junit.platform.commons.support.ModifierSupport.*;
-
 public class DefaultTypeArbitrary<T> extends ArbitraryDecorator<T> implements TypeArbitrary<T> {
 
 	private final Class<T> targetType;
@@ -144,21 +142,20 @@ public class DefaultTypeArbitrary<T> extends ArbitraryDecorator<T> implements Ty
 		}
 
 		private void appendConstructors(Set<Executable> creators, TypeUsage target, Predicate<? super Constructor<?>> filter) {
-			if (isAbstract(target.getRawType())) {
-				return;
-			}
-			Arrays.stream(target.getRawType().getDeclaredConstructors())
-				  .filter(filter)
-				  .forEach(creators::add);
-
+			TypeCreators.of(target.getRawType())
+						.constructors()
+						.stream()
+						.filter(filter)
+						.forEach(creators::add);
 		}
 
 		private void appendFactoryMethods(Set<Executable> creators, TypeUsage target, Predicate<Method> filter) {
-			Arrays.stream(target.getRawType().getDeclaredMethods())
-				  .filter(ModifierSupport::isStatic)
-				  .filter(creator -> hasFittingReturnType(creator, target))
-				  .filter(filter)
-				  .forEach(creators::add);
+			TypeCreators.of(target.getRawType())
+						.staticMethods()
+						.stream()
+						.filter(creator -> hasFittingReturnType(creator, target))
+						.filter(filter)
+						.forEach(creators::add);
 		}
 
 		private boolean hasFittingReturnType(Executable creator, TypeUsage target) {
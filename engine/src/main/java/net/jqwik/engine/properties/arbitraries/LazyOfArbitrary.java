@@ -9,6 +9,7 @@ import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.profiling.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
@@ -51,13 +52,14 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 
 	@Override
 	public RandomGenerator<T> generator(int genSize) {
-		return random -> {
+		RandomGenerator<T> generator = random -> {
 			int index = random.nextInt(suppliers.size());
 			long seed = random.nextLong();
 
 			Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts = generateCurrent(genSize, index, seed);
 			return createShrinkable(shrinkableAndParts, genSize, seed, Collections.singleton(index));
 		};
+		return GenerationProfiler.profile(this, "lazyOf", generator);
 	}
 
 	private LazyOfShrinkable<T> createShrinkable(
@@ -0,0 +1,124 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.commons.support.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.support.types.*;
+
+import static java.util.stream.Collectors.*;
+
+import static net.jqwik.engine.support.JqwikReflectionSupport.*;
+
+/**
+ * Reflective information about the creators - constructors and static factory methods - of a type.
+ *
+ * <p>
+ * The information is computed once per class and shared by all type arbitraries
+ * and traverse arbitraries, including the ones created recursively for parameter types.
+ * </p>
+ */
+class TypeCreators {
+
+	private static final ClassValue<TypeCreators> typeCreators = new ClassValue<TypeCreators>() {
+		@Override
+		protected TypeCreators computeValue(Class<?> type) {
+			return new TypeCreators(type);
+		}
+	};
+
+	static TypeCreators of(Class<?> type) {
+		return typeCreators.get(type);
+	}
+
+	@FunctionalInterface
+	interface Creator {
+		Object create(Object[] params) throws Throwable;
+	}
+
+	private final Class<?> type;
+	private final List<Constructor<?>> constructors;
+	private final List<Method> staticMethods;
+	// Enhancers are part of the key because they change the resolved type usages
+	private final Map<Tuple2<Executable, List<TypeUsage.Enhancer>>, List<TypeUsage>> parameterTypes = new ConcurrentHashMap<>();
+	private final Map<Executable, Creator> creators = new ConcurrentHashMap<>();
+
+	private TypeCreators(Class<?> type) {
+		this.type = type;
+		this.constructors = ModifierSupport.isAbstract(type)
+								? Collections.emptyList()
+								: Arrays.asList(type.getDeclaredConstructors());
+		this.staticMethods = Arrays.stream(type.getDeclaredMethods())
+								   .filter(ModifierSupport::isStatic)
+								   .collect(toList());
+	}
+
+	/**
+	 * All declared constructors or an empty list if the type is abstract.
+	 */
+	List<Constructor<?>> constructors() {
+		return constructors;
+	}
+
+	/**
+	 * All declared static methods regardless of their return type.
+	 */
+	List<Method> staticMethods() {
+		return staticMethods;
+	}
+
+	/**
+	 * The parameter types of a creator resolved in the context of this type
+	 * and passed through the currently registered enhancers.
+	 */
+	List<TypeUsage> parameterTypes(Executable creator) {
+		return parameterTypes(creator, RegisteredTypeUsageEnhancers.getEnhancers());
+	}
+
+	List<TypeUsage> parameterTypes(Executable creator, List<TypeUsage.Enhancer> enhancers) {
+		return parameterTypes.computeIfAbsent(
+			Tuple.of(creator, enhancers),
+			key -> getMethodParameters(creator, type).stream()
+													 .map(parameter -> TypeUsageImpl.forParameter(parameter, enhancers))
+													 .collect(toList())
+		);
+	}
+
+	/**
+	 * A creator invokes a constructor or static method through a method handle
+	 * or - if access rules do not allow a handle - through reflection.
+	 */
+	static Creator creator(Executable executable) {
+		return of(executable.getDeclaringClass()).creators.computeIfAbsent(executable, TypeCreators::createCreator);
+	}
+
+	private static Creator createCreator(Executable executable) {
+		executable.setAccessible(true);
+		try {
+			MethodHandle handle = executable instanceof Constructor
+									  ? MethodHandles.lookup().unreflectConstructor((Constructor<?>) executable)
+									  : MethodHandles.lookup().unreflect((Method) executable);
+			int parameterCount = executable.getParameterCount();
+			MethodHandle spreader = handle.asFixedArity()
+										  .asType(MethodType.genericMethodType(parameterCount))
+										  .asSpreader(Object[].class, parameterCount);
+			return params -> (Object) spreader.invokeExact(params);
+		} catch (IllegalAccessException accessNotPossible) {
+			return reflectiveCreator(executable);
+		}
+	}
+
+	private static Creator reflectiveCreator(Executable executable) {
+		if (executable instanceof Constructor) {
+			return ((Constructor<?>) executable)::newInstance;
+		}
+		return params -> ((Method) executable).invoke(null, params);
+	}
+}
@@ -8,6 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.profiling.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class CombineArbitrary<R> implements Arbitrary<R> {
@@ -23,12 +24,12 @@ public class CombineArbitrary<R> implements Arbitrary<R> {
 
 	@Override
 	public RandomGenerator<R> generator(int genSize) {
-		return combineGenerator(genSize, combinator, arbitraries);
+		return GenerationProfiler.profile(this, "combine", combineGenerator(genSize, combinator, arbitraries));
 	}
 
 	@Override
 	public RandomGenerator<R> generatorWithEmbeddedEdgeCases(int genSize) {
-		return combineGeneratorWithEmbeddedEdgeCases(genSize, combinator, arbitraries);
+		return GenerationProfiler.profile(this, "combine", combineGeneratorWithEmbeddedEdgeCases(genSize, combinator, arbitraries));
 	}
 
 	@Override
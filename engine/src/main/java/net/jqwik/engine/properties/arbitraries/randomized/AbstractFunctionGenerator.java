@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
-import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
@@ -37,24 +36,27 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 
 	private F constantFunction(R constant) {
 		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
+			FunctionProxyMethod proxyMethod = proxyMethod(method);
+			switch (proxyMethod.kind) {
+				case EQUALS:
+					return handleEqualsMethod(proxy, args);
+				case TO_STRING:
+					return handleToStringOfConstantMethod(constant);
+				case HASH_CODE:
+					return HashCodeSupport.hash(constant);
+				case DEFAULT:
+					return proxyMethod.invokeDefault(proxy, args);
+				default:
+					return conditionalResult(args).orElse(new Object[]{constant})[0];
 			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToStringOfConstantMethod(constant);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return HashCodeSupport.hash(constant);
-			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
-			}
-
-			return conditionalResult(args).orElse(new Object[]{constant})[0];
 		};
 		return createFunctionProxy(handler);
 	}
 
+	FunctionProxyMethod proxyMethod(Method method) {
+		return FunctionProxyMethod.of(functionalType, method);
+	}
+
 	protected Object handleEqualsMethod(final Object proxy, Object[] args) {
 		return proxy == args[0];
 	}
@@ -69,25 +71,17 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 
 	// Returns result wrapped in array to allow null as result
 	protected Optional<Object[]> conditionalResult(Object[] args) {
-		Optional<Object[]> conditionalResult = Optional.empty();
+		if (conditions.isEmpty()) {
+			return Optional.empty();
+		}
+		List<Object> params = args == null ? Collections.emptyList() : Arrays.asList(args);
 		for (Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition : conditions) {
-			List<Object> params = Arrays.asList(args);
 			if (condition.get1().test(params)) {
 				Object[] result = new Object[]{condition.get2().apply(params)};
-				conditionalResult = Optional.of(result);
-				break;
+				return Optional.of(result);
 			}
 		}
-		return conditionalResult;
-	}
-
-	protected Object handleDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable {
-		MethodHandle handle = handleForDefaultMethod(method);
-		return handle.bindTo(proxy).invokeWithArguments(args);
-	}
-
-	protected MethodHandle handleForDefaultMethod(Method method) throws Throwable {
-		return new DefaultMethodHandleFactory().create(method);
+		return Optional.empty();
 	}
 
 }
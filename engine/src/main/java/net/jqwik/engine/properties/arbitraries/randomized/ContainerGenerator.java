@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.jfr.*;
 import net.jqwik.engine.properties.*;
 
 import static net.jqwik.engine.properties.UniquenessChecker.*;
@@ -114,12 +115,21 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 				continue;
 			}
 			existingValues.add(value);
+			if (i > 0) {
+				JqwikEvents.filterMisses(this, i, false);
+			}
 			return next;
 		}
+		JqwikEvents.filterMisses(this, maxAttempts, true);
 		String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxAttempts);
 		throw new TooManyFilterMissesException(message);
 	}
 
+	@Override
+	public String toString() {
+		return String.format("Container of [%s]", elementGenerator);
+	}
+
 	private boolean checkSpecifiedUniqueness(Collection<T> elements, T value) {
 		return checkValueUniqueIn(uniquenessExtractors, value, elements);
 	}
@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.jfr.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class FilteredGenerator<T> implements RandomGenerator<T> {
@@ -31,9 +33,15 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		for (int i = 0; i < maxMisses; i++) {
 			Shrinkable<T> value = fetchShrinkable.apply(random);
 			if (filterPredicate.test(value.value())) {
+				if (i > 0) {
+					JqwikEvents.filterMisses(this, i, false);
+				}
+				PropertyProfiler.recordFilterMisses(i + 1, i);
 				return new FilteredShrinkable<>(value, filterPredicate);
 			}
 		}
+		JqwikEvents.filterMisses(this, maxMisses, true);
+		PropertyProfiler.recordFilterMisses(maxMisses, maxMisses);
 		String message = String.format("%s missed more than %s times.", toString(), maxMisses);
 		throw new TooManyFilterMissesException(message);
 	}
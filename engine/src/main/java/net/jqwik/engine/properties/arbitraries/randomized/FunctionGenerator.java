@@ -13,6 +13,8 @@ import net.jqwik.engine.support.*;
 
 public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
+	private static final int MAX_MEMOIZED_RESULTS = 1000;
+
 	private final AtomicReference<Shrinkable<R>> lastResult = new AtomicReference<>();
 
 	public FunctionGenerator(
@@ -30,29 +32,39 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private F createFunction(Random random) {
 		long baseSeed = random.nextLong();
+		// Results only depend on the seed for the arguments so they can be memoized by seed
+		Map<Long, Shrinkable<R>> memoizedResults = new LruCache<>(MAX_MEMOIZED_RESULTS);
 		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
-			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToString(baseSeed);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return handleHashCode((int) baseSeed);
-			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
+			FunctionProxyMethod proxyMethod = proxyMethod(method);
+			switch (proxyMethod.kind) {
+				case EQUALS:
+					return handleEqualsMethod(proxy, args);
+				case TO_STRING:
+					return handleToString(baseSeed);
+				case HASH_CODE:
+					return handleHashCode((int) baseSeed);
+				case DEFAULT:
+					return proxyMethod.invokeDefault(proxy, args);
+				default:
+					return conditionalResult(args).orElseGet(() -> {
+						Shrinkable<R> shrinkableResult = memoizedResult(memoizedResults, seedForArgs(baseSeed, args));
+						storeLastResult(shrinkableResult);
+						return new Object[]{shrinkableResult.value()};
+					})[0];
 			}
-			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
-				storeLastResult(shrinkableResult);
-				return new Object[]{shrinkableResult.value()};
-			})[0];
 		};
 		return createFunctionProxy(handler);
 	}
 
+	private Shrinkable<R> memoizedResult(Map<Long, Shrinkable<R>> memoizedResults, long seed) {
+		synchronized (memoizedResults) {
+			return memoizedResults.computeIfAbsent(
+				seed,
+				ignore -> resultGenerator.next(SourceOfRandomness.newRandom(seed))
+			);
+		}
+	}
+
 	private int handleHashCode(final int baseSeed) {
 		return baseSeed;
 	}
@@ -0,0 +1,80 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * A method invoked on a generated function proxy together with how to handle it.
+ *
+ * <p>
+ * Proxy classes hand the same {@linkplain Method} instances to every invocation.
+ * Classifying a method and looking up the handle for a default method
+ * is therefore done only once per functional type and method.
+ * </p>
+ */
+class FunctionProxyMethod {
+
+	enum Kind {
+		EQUALS, TO_STRING, HASH_CODE, DEFAULT, FUNCTION
+	}
+
+	private static final ClassValue<Map<Method, FunctionProxyMethod>> proxyMethods = new ClassValue<Map<Method, FunctionProxyMethod>>() {
+		@Override
+		protected Map<Method, FunctionProxyMethod> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	static FunctionProxyMethod of(Class<?> functionalType, Method method) {
+		return proxyMethods.get(functionalType).computeIfAbsent(method, FunctionProxyMethod::new);
+	}
+
+	final Kind kind;
+
+	// Of type (Object, Object[])Object if kind is DEFAULT
+	@Nullable
+	private final MethodHandle defaultMethodHandle;
+
+	private FunctionProxyMethod(Method method) {
+		this.kind = kind(method);
+		this.defaultMethodHandle = kind == Kind.DEFAULT ? spreadingHandleForDefaultMethod(method) : null;
+	}
+
+	private static Kind kind(Method method) {
+		if (JqwikReflectionSupport.isEqualsMethod(method)) {
+			return Kind.EQUALS;
+		}
+		if (JqwikReflectionSupport.isToStringMethod(method)) {
+			return Kind.TO_STRING;
+		}
+		if (JqwikReflectionSupport.isHashCodeMethod(method)) {
+			return Kind.HASH_CODE;
+		}
+		if (method.isDefault()) {
+			return Kind.DEFAULT;
+		}
+		return Kind.FUNCTION;
+	}
+
+	private static MethodHandle spreadingHandleForDefaultMethod(Method method) {
+		try {
+			int parameterCount = method.getParameterCount();
+			return new DefaultMethodHandleFactory().create(method)
+												   .asFixedArity()
+												   .asType(MethodType.genericMethodType(parameterCount + 1))
+												   .asSpreader(Object[].class, parameterCount);
+		} catch (Throwable throwable) {
+			return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		}
+	}
+
+	Object invokeDefault(Object proxy, Object[] args) throws Throwable {
+		return (Object) defaultMethodHandle.invokeExact(proxy, args);
+	}
+}
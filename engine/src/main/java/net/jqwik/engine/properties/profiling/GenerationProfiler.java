@@ -0,0 +1,190 @@
+package net.jqwik.engine.properties.profiling;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.support.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Attributes the cost of generating parameters to the arbitraries that make up a composite arbitrary.
+ *
+ * <p>
+ * Generators are only wrapped if generation profiling has been switched on for the current property.
+ * Nodes are identified by their arbitrary's equality - the same way generators are memoized.
+ * Arbitraries created on the fly in {@code flatMap} are never equal, so they are identified by their label.
+ * Recursive usage of an arbitrary, e.g. through {@code lazyOf}, is folded into the outermost node.
+ * </p>
+ *
+ * <p>
+ * Only the generation of parameters on the thread that runs the property is profiled,
+ * i.e. neither shrinking nor using generated values in the property.
+ * </p>
+ */
+public class GenerationProfiler {
+
+	public static <T> RandomGenerator<T> profile(Arbitrary<?> arbitrary, String label, RandomGenerator<T> generator) {
+		GenerationProfiler profiler = current();
+		if (profiler == null) {
+			return generator;
+		}
+		return new ProfilingGenerator<>(new ProfilingGenerator.NodeLookup(profiler, arbitrary, label), generator);
+	}
+
+	/**
+	 * The right side of a flat mapped value is generated when the value is needed,
+	 * so its generators must be attributed to the flatMap node, too.
+	 */
+	public static <T, U> RandomGenerator<U> profileFlatMap(
+		Arbitrary<U> arbitrary,
+		RandomGenerator<T> self,
+		Function<T, Arbitrary<U>> mapper,
+		int genSize,
+		boolean withEmbeddedEdgeCases
+	) {
+		GenerationProfiler profiler = current();
+		if (profiler == null) {
+			return self.flatMap(mapper, genSize, withEmbeddedEdgeCases);
+		}
+		ProfilingGenerator.NodeLookup nodeLookup = new ProfilingGenerator.NodeLookup(profiler, arbitrary, "flatMap");
+		RandomGenerator<U> flatMapped = self.flatMap(
+			t -> new ProfilingGenerator<>(nodeLookup, mapper.apply(t).generator(genSize, withEmbeddedEdgeCases), true)
+		);
+		return new ProfilingGenerator<>(nodeLookup, flatMapped);
+	}
+
+	@Nullable
+	private static GenerationProfiler current() {
+		PropertyProfiler propertyProfiler = PropertyProfiler.current();
+		if (propertyProfiler == null) {
+			return null;
+		}
+		return propertyProfiler.generationProfiler().orElse(null);
+	}
+
+	private final Thread owner = Thread.currentThread();
+	private final Node root = new Node(null, "generation");
+	private final Deque<Node> activeNodes = new ArrayDeque<>();
+	private boolean generating = false;
+	private int flatMappedDepth = 0;
+
+	public GenerationProfiler() {
+		activeNodes.push(root);
+	}
+
+	public Node root() {
+		return root;
+	}
+
+	public boolean measuresAllocations() {
+		return ThreadAllocations.isAvailable();
+	}
+
+	public void startGeneration() {
+		generating = true;
+	}
+
+	public void stopGeneration() {
+		generating = false;
+	}
+
+	public void recordFilterMisses(int misses) {
+		if (isProfiling()) {
+			activeNodes.peek().filterMisses += misses;
+		}
+	}
+
+	boolean isProfiling() {
+		return generating && Thread.currentThread() == owner;
+	}
+
+	Node currentNode() {
+		return activeNodes.peek();
+	}
+
+	Node childOf(Node parent, Object key, String label) {
+		for (Node active : activeNodes) {
+			if (key.equals(active.key)) {
+				return active;
+			}
+		}
+		Object childKey = flatMappedDepth > 0 ? label : key;
+		return parent.children.computeIfAbsent(childKey, ignore -> new Node(childKey, label));
+	}
+
+	void enter(Node node, boolean flatMapped) {
+		activeNodes.push(node);
+		if (flatMapped) {
+			flatMappedDepth++;
+		}
+		if (node.activations++ == 0 && !flatMapped) {
+			node.invocations++;
+		}
+	}
+
+	void exit(Node node, boolean flatMapped, long startNanos, long startBytes) {
+		activeNodes.pop();
+		if (flatMapped) {
+			flatMappedDepth--;
+		}
+		// Recursive activations are already covered by the outermost one
+		if (--node.activations == 0) {
+			node.nanos += System.nanoTime() - startNanos;
+			node.allocatedBytes += ThreadAllocations.since(startBytes);
+		}
+	}
+
+	public static class Node {
+		@Nullable
+		private final Object key;
+		private final String label;
+		private final Map<Object, Node> children = new LinkedHashMap<>();
+		private int activations = 0;
+		private long invocations = 0;
+		private long nanos = 0;
+		private long allocatedBytes = 0;
+		private long filterMisses = 0;
+
+		private Node(@Nullable Object key, String label) {
+			this.key = key;
+			this.label = label;
+		}
+
+		public String label() {
+			return label;
+		}
+
+		public Collection<Node> children() {
+			return Collections.unmodifiableCollection(children.values());
+		}
+
+		public long invocations() {
+			return invocations;
+		}
+
+		public long totalNanos() {
+			return nanos;
+		}
+
+		public long selfNanos() {
+			long childrenNanos = children.values().stream().mapToLong(Node::totalNanos).sum();
+			return Math.max(0, nanos - childrenNanos);
+		}
+
+		public long allocatedBytes() {
+			return allocatedBytes;
+		}
+
+		public long filterMisses() {
+			return filterMisses;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s[invocations=%d, nanos=%d]", label, invocations, nanos);
+		}
+	}
+}
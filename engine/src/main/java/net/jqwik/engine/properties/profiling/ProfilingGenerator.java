@@ -0,0 +1,96 @@
+package net.jqwik.engine.properties.profiling;
+
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.support.*;
+import net.jqwik.engine.support.*;
+
+class ProfilingGenerator<T> implements RandomGenerator<T> {
+
+	private final NodeLookup nodeLookup;
+	private final RandomGenerator<T> generator;
+	private final boolean flatMapped;
+
+	ProfilingGenerator(NodeLookup nodeLookup, RandomGenerator<T> generator) {
+		this(nodeLookup, generator, false);
+	}
+
+	/**
+	 * @param flatMapped true if generator creates the right side of a flatMap,
+	 *                   which is not counted as an invocation of its own
+	 */
+	ProfilingGenerator(NodeLookup nodeLookup, RandomGenerator<T> generator, boolean flatMapped) {
+		this.nodeLookup = nodeLookup;
+		this.generator = generator;
+		this.flatMapped = flatMapped;
+	}
+
+	@Override
+	public Shrinkable<T> next(Random random) {
+		GenerationProfiler profiler = nodeLookup.profiler;
+		if (!profiler.isProfiling()) {
+			return generator.next(random);
+		}
+		GenerationProfiler.Node parent = profiler.currentNode();
+		GenerationProfiler.Node node = nodeLookup.nodeFor(parent);
+		long startNanos = System.nanoTime();
+		long startBytes = ThreadAllocations.currentThread();
+		profiler.enter(node, flatMapped);
+		try {
+			Shrinkable<T> shrinkable = generator.next(random);
+			if (parent == profiler.root()) {
+				evaluateValue(shrinkable);
+			}
+			return shrinkable;
+		} finally {
+			profiler.exit(node, flatMapped, startNanos, startBytes);
+		}
+	}
+
+	/**
+	 * Values of mapped, combined and flat mapped shrinkables are only computed when needed.
+	 * Computing the outermost value during generation attributes that cost to the profiled nodes.
+	 * Failures will show up again when the value is used.
+	 */
+	private void evaluateValue(Shrinkable<T> shrinkable) {
+		try {
+			shrinkable.value();
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Profiling [%s]", generator);
+	}
+
+	static class NodeLookup {
+		private final GenerationProfiler profiler;
+		private final Object key;
+		private final String label;
+
+		// Looking up a node is expensive, so the last lookup is remembered
+		@Nullable
+		private GenerationProfiler.Node lastParent = null;
+		@Nullable
+		private GenerationProfiler.Node lastNode = null;
+
+		NodeLookup(GenerationProfiler profiler, Object key, String label) {
+			this.profiler = profiler;
+			this.key = key;
+			this.label = label;
+		}
+
+		private GenerationProfiler.Node nodeFor(GenerationProfiler.Node parent) {
+			if (parent != lastParent || lastNode == null) {
+				lastNode = profiler.childOf(parent, key, label);
+				lastParent = parent;
+			}
+			return lastNode;
+		}
+	}
+}
@@ -36,26 +36,30 @@ abstract class AbstractSampleShrinker {
 		Function<List<Shrinkable<Object>>, Stream<List<Shrinkable<Object>>>> supplyShrinkCandidates
 	) {
 		List<Shrinkable<Object>> currentShrinkBase = sample.shrinkables();
+		ShrinkingDistance currentShrinkBaseDistance = calculateDistance(currentShrinkBase);
 		Optional<FalsifiedSample> bestResult = Optional.empty();
 		FilteredResults filteredResults = new FilteredResults();
 
 		while (true) {
-			ShrinkingDistance currentDistance = calculateDistance(currentShrinkBase);
+			// Distance of each candidate is only calculated once and then carried along
+			ShrinkingDistance currentDistance = currentShrinkBaseDistance;
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Optional<Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> newShrinkingResult =
 				supplyShrinkCandidates.apply(currentShrinkBase)
 								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
+								 .map(shrinkables -> Tuple.of(shrinkables, calculateDistance(shrinkables)))
+								 .filter(candidate -> candidate.get2().compareTo(currentDistance) <= 0)
+								 .map(candidate -> {
+									 List<Shrinkable<Object>> shrinkables = candidate.get1();
 									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
 									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
+									 return Tuple.of(params, shrinkables, result, candidate.get2());
 								 })
 								 .peek(t -> {
 									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+									 if (t.get3().isInvalid() && t.get4().compareTo(currentDistance) < 0) {
 										 filteredResults.push(t);
 									 }
 								 })
@@ -63,7 +67,7 @@ abstract class AbstractSampleShrinker {
 								 .findAny();
 
 			if (newShrinkingResult.isPresent()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
+				Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> falsifiedTry = newShrinkingResult.get();
 				TryExecutionResult tryExecutionResult = falsifiedTry.get3();
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
 					falsifiedTry.get1(),
@@ -74,10 +78,12 @@ abstract class AbstractSampleShrinker {
 				sampleShrunkConsumer.accept(falsifiedSample);
 				bestResult = Optional.of(falsifiedSample);
 				currentShrinkBase = falsifiedTry.get2();
+				currentShrinkBaseDistance = falsifiedTry.get4();
 				filteredResults.clear();
 			} else if (!filteredResults.isEmpty()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> aFilteredResult = filteredResults.pop();
+				Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> aFilteredResult = filteredResults.pop();
 				currentShrinkBase = aFilteredResult.get2();
+				currentShrinkBaseDistance = aFilteredResult.get4();
 			} else {
 				break;
 			}
@@ -88,7 +94,16 @@ abstract class AbstractSampleShrinker {
 
 	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
 		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+		return falsificationCache.computeIfAbsent(params, p -> withoutIrrelevantThrowable(falsifier.execute(params)));
+	}
+
+	private TryExecutionResult withoutIrrelevantThrowable(TryExecutionResult result) {
+		// Only errors of falsified results are ever used in shrinking.
+		// Dropping others keeps their stack traces from piling up in the falsification cache.
+		if (result.isInvalid() && result.throwable().isPresent()) {
+			return TryExecutionResult.invalid();
+		}
+		return result;
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
@@ -99,14 +114,14 @@ abstract class AbstractSampleShrinker {
 
 		public static final int MAX_SIZE = 100;
 
-		Comparator<? super Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> resultComparator =
-			Comparator.comparing(left -> calculateDistance(left.get2()));
+		Comparator<? super Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> resultComparator =
+			Comparator.comparing(Tuple4::get4);
 
-		PriorityQueue<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> prioritizedResults = new PriorityQueue<>(resultComparator);
+		PriorityQueue<Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> prioritizedResults = new PriorityQueue<>(resultComparator);
 
-		Set<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> removedResults = new LinkedHashSet<>();
+		Set<Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> removedResults = new LinkedHashSet<>();
 
-		void push(Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result) {
+		void push(Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> result) {
 			if (removedResults.contains(result)) {
 				return;
 			}
@@ -124,8 +139,8 @@ abstract class AbstractSampleShrinker {
 			return prioritizedResults.isEmpty();
 		}
 
-		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> pop() {
-			Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result = prioritizedResults.peek();
+		Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> pop() {
+			Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> result = prioritizedResults.peek();
 			prioritizedResults.remove(result);
 			removedResults.add(result);
 			return result;
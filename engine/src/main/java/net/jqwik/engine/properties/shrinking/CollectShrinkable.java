@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.engine.support.*;
 
@@ -11,6 +13,9 @@ public class CollectShrinkable<T> implements Shrinkable<List<T>> {
 	private final List<Shrinkable<T>> elements;
 	private final Predicate<List<T>> until;
 
+	@Nullable
+	private ShrinkingDistance distance = null;
+
 	public CollectShrinkable(List<Shrinkable<T>> elements, Predicate<List<T>> until) {
 		this.elements = elements;
 		this.until = until;
@@ -77,6 +82,9 @@ public class CollectShrinkable<T> implements Shrinkable<List<T>> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		if (distance == null) {
+			distance = ShrinkingDistance.forCollection(elements);
+		}
+		return distance;
 	}
 }
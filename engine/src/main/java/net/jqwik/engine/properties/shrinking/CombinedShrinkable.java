@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.engine.support.*;
 
@@ -11,6 +13,9 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 	private final List<Shrinkable<Object>> parts;
 	private final Function<List<Object>, T> combinator;
 
+	@Nullable
+	private ShrinkingDistance distance = null;
+
 	public CombinedShrinkable(List<Shrinkable<Object>> parts, Function<List<Object>, T> combinator) {
 		this.parts = parts;
 		this.combinator = combinator;
@@ -56,7 +61,10 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.combine(parts);
+		if (distance == null) {
+			distance = ShrinkingDistance.combine(parts);
+		}
+		return distance;
 	}
 
 }
@@ -0,0 +1,64 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrink a list by removing chunks of geometrically decreasing size
+ * in the spirit of delta debugging (ddmin).
+ *
+ * <p>
+ * The list is split into {@code n} chunks and each chunk is removed in turn.
+ * Then {@code n} is doubled until single elements are removed.
+ * Every candidate comes with the granularity that shrinking of the candidate should start with.
+ * After a successful removal shrinking thereby returns to slightly larger chunks.
+ * </p>
+ */
+public class DeltaDebuggingShrinker<T> {
+
+	public static final int MIN_GRANULARITY = 2;
+
+	private final int minSize;
+
+	public DeltaDebuggingShrinker(int minSize) {
+		this.minSize = minSize;
+	}
+
+	public Stream<Tuple2<List<T>, Integer>> shrink(List<T> toShrink, int startGranularity) {
+		if (toShrink.size() <= minSize) {
+			return Stream.empty();
+		}
+		PersistentList<T> elements = PersistentList.copyOf(toShrink);
+		return granularities(elements.size(), startGranularity)
+				   .stream()
+				   .flatMap(granularity -> removeChunks(elements, granularity));
+	}
+
+	private List<Integer> granularities(int listSize, int startGranularity) {
+		List<Integer> granularities = new ArrayList<>();
+		int granularity = Math.min(Math.max(MIN_GRANULARITY, startGranularity), listSize);
+		granularities.add(granularity);
+		while (granularity < listSize) {
+			granularity = Math.min(granularity * 2, listSize);
+			granularities.add(granularity);
+		}
+		return granularities;
+	}
+
+	private Stream<Tuple2<List<T>, Integer>> removeChunks(PersistentList<T> toShrink, int granularity) {
+		int listSize = toShrink.size();
+		int nextGranularity = Math.max(granularity - 1, MIN_GRANULARITY);
+		return IntStream.range(0, granularity)
+						.mapToObj(chunk -> Tuple.of(chunkStart(listSize, granularity, chunk), chunkStart(listSize, granularity, chunk + 1)))
+						.filter(chunk -> listSize - (chunk.get2() - chunk.get1()) >= minSize)
+						.map(chunk -> Tuple.of(toShrink.withoutRange(chunk.get1(), chunk.get2()), nextGranularity));
+	}
+
+	private int chunkStart(int listSize, int granularity, int chunk) {
+		return (int) ((long) listSize * chunk / granularity);
+	}
+}
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.*;
 
 class ErrorEquivalenceChecker {
 
@@ -17,20 +18,33 @@ class ErrorEquivalenceChecker {
 	 * - Or both exceptions have the same type and their stack trace ended in same location
 	 */
 	boolean areEquivalent(Optional<Throwable> optionalOriginal, Optional<Throwable> optionalCurrent) {
+		return equivalentTo(optionalOriginal).test(optionalCurrent);
+	}
+
+	/**
+	 * Create a predicate that checks errors for equivalence with {@code optionalOriginal}.
+	 *
+	 * <p>
+	 * Type and relevant stack trace location of the original error are determined only once.
+	 * The stack trace of a current error is only looked at if its type is the same as the original's.
+	 * </p>
+	 */
+	Predicate<Optional<Throwable>> equivalentTo(Optional<Throwable> optionalOriginal) {
 		if (!optionalOriginal.isPresent()) {
-			return !optionalCurrent.isPresent();
+			return optionalCurrent -> !optionalCurrent.isPresent();
 		}
-		if (!optionalCurrent.isPresent()) {
-			return false;
-		}
-		Throwable originalError = optionalOriginal.get();
-		Throwable currentError = optionalCurrent.get();
-		if (!originalError.getClass().equals(currentError.getClass())) {
-			return false;
-		}
-		Optional<StackTraceElement> firstOriginal = firstRelevantStackTraceElement(originalError);
-		Optional<StackTraceElement> firstCurrent = firstRelevantStackTraceElement(currentError);
-		return firstOriginal.equals(firstCurrent);
+		Class<? extends Throwable> originalType = optionalOriginal.get().getClass();
+		Optional<StackTraceElement> firstOriginal = firstRelevantStackTraceElement(optionalOriginal.get());
+		return optionalCurrent -> {
+			if (!optionalCurrent.isPresent()) {
+				return false;
+			}
+			Throwable currentError = optionalCurrent.get();
+			if (!originalType.equals(currentError.getClass())) {
+				return false;
+			}
+			return firstOriginal.equals(firstRelevantStackTraceElement(currentError));
+		};
 	}
 
 	private Optional<StackTraceElement> firstRelevantStackTraceElement(Throwable error) {
@@ -40,9 +54,13 @@ class ErrorEquivalenceChecker {
 			// See https://github.com/jqwik-team/jqwik/issues/283 for the discussion
 			return Optional.empty();
 		}
-		return Arrays.stream(stackTrace)
-					 .filter(this::belongsToTargetPropertyMethod)
-					 .findFirst();
+		// Using loop instead of stream since this is called for every falsified shrinking candidate
+		for (StackTraceElement stackTraceElement : stackTrace) {
+			if (belongsToTargetPropertyMethod(stackTraceElement)) {
+				return Optional.of(stackTraceElement);
+			}
+		}
+		return Optional.empty();
 	}
 
 	private boolean belongsToTargetPropertyMethod(StackTraceElement stackTraceElement) {
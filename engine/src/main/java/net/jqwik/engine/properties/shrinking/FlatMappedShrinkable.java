@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.*;
@@ -14,6 +16,10 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 	private final Shrinkable<T> toMap;
 	private final Function<T, Shrinkable<U>> mapper;
 
+	// Memoized because computing it requires to regenerate the right side
+	@Nullable
+	private ShrinkingDistance distance = null;
+
 	public FlatMappedShrinkable(
 		Shrinkable<T> toMap,
 		Function<T, Arbitrary<U>> toArbitraryMapper,
@@ -86,7 +92,10 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return toMap.distance().append(shrinkable().distance());
+		if (distance == null) {
+			distance = toMap.distance().append(shrinkable().distance());
+		}
+		return distance;
 	}
 
 	@Override
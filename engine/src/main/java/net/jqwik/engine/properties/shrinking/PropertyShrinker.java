@@ -51,9 +51,12 @@ public class PropertyShrinker {
 			return unshrunkOriginalSample();
 		}
 
+		Predicate<Optional<Throwable>> isEquivalentToOriginalError =
+			new ErrorEquivalenceChecker(targetMethod).equivalentTo(originalSample.falsifyingError());
+
 		Falsifier<List<Object>> allowOnlyEquivalentErrorsFalsifier = sample -> {
 			TryExecutionResult result = forAllFalsifier.execute(sample);
-			if (isFalsifiedButErrorIsNotEquivalent(result, originalSample.falsifyingError())) {
+			if (result.isFalsified() && !isEquivalentToOriginalError.test(result.throwable())) {
 				return TryExecutionResult.invalid();
 			}
 			return result;
@@ -97,10 +100,13 @@ public class PropertyShrinker {
 		try {
 			TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
 			DomainContext currentContext = CurrentDomainContext.get();
+			PropertyProfiler currentProfiler = PropertyProfiler.current();
+			Supplier<FalsifiedSample> shrinkWithProfiler =
+				currentProfiler == null ? shrinkUntilDone : () -> PropertyProfiler.runWith(currentProfiler, shrinkUntilDone);
 			Supplier<FalsifiedSample> shrinkWithTestDescriptor =
 				() -> CurrentDomainContext.runWithContext(
 					currentContext,
-					() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, shrinkUntilDone)
+					() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, shrinkWithProfiler)
 				);
 			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithTestDescriptor);
 			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
@@ -139,11 +145,6 @@ public class PropertyShrinker {
 		return new ShrunkFalsifiedSampleImpl(originalSample, 0);
 	}
 
-	private boolean isFalsifiedButErrorIsNotEquivalent(TryExecutionResult result, Optional<Throwable> originalError) {
-		boolean areEquivalent = new ErrorEquivalenceChecker(targetMethod).areEquivalent(originalError, result.throwable());
-		return result.isFalsified() && !areEquivalent;
-	}
-
 	private void logShrinkingBoundReached() {
 		String value = String.format(
 			"Shrinking timeout reached after %s seconds." +
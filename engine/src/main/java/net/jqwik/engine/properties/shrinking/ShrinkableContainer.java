@@ -13,6 +13,7 @@ import net.jqwik.engine.support.*;
 import static net.jqwik.engine.properties.UniquenessChecker.*;
 
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
+
 	protected final List<Shrinkable<E>> elements;
 	protected final int minSize;
 	protected final int maxSize;
@@ -21,17 +22,33 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	@Nullable
 	protected final Arbitrary<E> elementArbitrary;
 
+	// Below this size removing chunks would only repeat the candidates of shrinkSizeOfList()
+	static final int MIN_SIZE_FOR_DELTA_DEBUGGING = 3;
+
+	// Large containers start shrinking by removing chunks. Smaller ones only try it after all other
+	// candidates failed, e.g. to remove inner elements that cutting from both ends cannot remove.
+	static final int MIN_SIZE_FOR_DELTA_DEBUGGING_FIRST = 20;
+
+	// Granularity that delta debugging starts with. Is larger for containers that are the result of delta debugging.
+	private final int deltaDebuggingGranularity;
+
+	// Distance is memoized because shrinking compares it over and over again
+	@Nullable
+	private ShrinkingDistance distance = null;
+
 	ShrinkableContainer(
 		List<Shrinkable<E>> elements,
 		int minSize, int maxSize,
 		Collection<FeatureExtractor<E>> uniquenessExtractors,
-		@Nullable Arbitrary<E> elementArbitrary
+		@Nullable Arbitrary<E> elementArbitrary,
+		int deltaDebuggingGranularity
 	) {
 		this.elements = elements;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.uniquenessExtractors = uniquenessExtractors;
 		this.elementArbitrary = elementArbitrary;
+		this.deltaDebuggingGranularity = deltaDebuggingGranularity;
 	}
 
 	abstract C createValue(List<Shrinkable<E>> shrinkables);
@@ -44,9 +61,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	@Override
 	public Stream<Shrinkable<C>> shrink() {
 		return JqwikStreamSupport.concat(
+			shrinkSizeByDeltaDebuggingFirst(),
 			shrinkSizeOfList(),
 			shrinkElementsOneAfterTheOther(0),
-			shrinkPairsOfElements()
+			shrinkPairsOfElements(),
+			shrinkSizeByDeltaDebuggingLast()
 		);
 	}
 
@@ -110,6 +129,26 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		return true;
 	}
 
+	protected Stream<Shrinkable<C>> shrinkSizeByDeltaDebuggingFirst() {
+		if (elements.size() < MIN_SIZE_FOR_DELTA_DEBUGGING_FIRST) {
+			return Stream.empty();
+		}
+		return shrinkSizeByDeltaDebugging();
+	}
+
+	protected Stream<Shrinkable<C>> shrinkSizeByDeltaDebuggingLast() {
+		if (elements.size() < MIN_SIZE_FOR_DELTA_DEBUGGING || elements.size() >= MIN_SIZE_FOR_DELTA_DEBUGGING_FIRST) {
+			return Stream.empty();
+		}
+		return shrinkSizeByDeltaDebugging();
+	}
+
+	private Stream<Shrinkable<C>> shrinkSizeByDeltaDebugging() {
+		return new DeltaDebuggingShrinker<Shrinkable<E>>(minSize)
+				   .shrink(elements, deltaDebuggingGranularity)
+				   .map(candidate -> createShrinkable(candidate.get1(), candidate.get2()));
+	}
+
 	protected Stream<Shrinkable<C>> shrinkSizeAggressively() {
 		return new AggressiveSizeOfListShrinker<Shrinkable<E>>(minSize)
 				   .shrink(elements)
@@ -125,6 +164,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	}
 
 	protected Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther(int maxToShrink) {
+		PersistentList<Shrinkable<E>> persistentElements = PersistentList.copyOf(elements);
 		List<Stream<Shrinkable<C>>> shrinkPerElementStreams = new ArrayList<>();
 		for (int i = 0; i < elements.size(); i++) {
 			if (maxToShrink > 0 && i >= maxToShrink) {
@@ -133,13 +173,10 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, persistentElements.without(index))) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
+				return Stream.of(createShrinkable(persistentElements.with(index, shrunkElement)));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
 		}
@@ -164,7 +201,10 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		if (distance == null) {
+			distance = ShrinkingDistance.forCollection(elements);
+		}
+		return distance;
 	}
 
 	@Override
@@ -190,6 +230,10 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		);
 	}
 
-	abstract Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements);
+	Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements) {
+		return createShrinkable(shrunkElements, DeltaDebuggingShrinker.MIN_GRANULARITY);
+	}
+
+	abstract Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements, int deltaDebuggingGranularity);
 
 }
@@ -22,7 +22,17 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 		Collection<FeatureExtractor<E>> uniquenessExtractors,
 		Arbitrary<E> elementArbitrary
 	) {
-		super(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		this(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary, DeltaDebuggingShrinker.MIN_GRANULARITY);
+	}
+
+	private ShrinkableList(
+		List<Shrinkable<E>> elements,
+		int minSize, int maxSize,
+		Collection<FeatureExtractor<E>> uniquenessExtractors,
+		Arbitrary<E> elementArbitrary,
+		int deltaDebuggingGranularity
+	) {
+		super(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary, deltaDebuggingGranularity);
 	}
 
 	@Override
@@ -36,8 +46,8 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 	}
 
 	@Override
-	Shrinkable<List<E>> createShrinkable(List<Shrinkable<E>> shrunkElements) {
-		return new ShrinkableList<>(shrunkElements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+	Shrinkable<List<E>> createShrinkable(List<Shrinkable<E>> shrunkElements, int deltaDebuggingGranularity) {
+		return new ShrinkableList<>(shrunkElements, minSize, maxSize, uniquenessExtractors, elementArbitrary, deltaDebuggingGranularity);
 	}
 
 	@Override
@@ -52,6 +62,7 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 	// TODO: Simplify and clean up
 	private Stream<Shrinkable<List<E>>> moveIndividualValuesTowardsEnd() {
 		ShrinkingDistance distance = distance();
+		PersistentList<Shrinkable<E>> persistentElements = PersistentList.copyOf(elements);
 		return Combinatorics
 					   .distinctPairs(elements.size())
 					   .map(pair -> {
@@ -73,12 +84,8 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 										   return Tuple.of(after, grow);
 									   })
 									   .filter(tuple -> tuple.get2().isPresent())
-									   .map(tuple -> {
-										   List<Shrinkable<E>> pairMove = new ArrayList<>(elements);
-										   pairMove.set(firstIndex, tuple.get1());
-										   pairMove.set(secondIndex, tuple.get2().get());
-										   return pairMove;
-									   })
+									   .map(tuple -> persistentElements.with(firstIndex, tuple.get1())
+																	   .with(secondIndex, tuple.get2().get()))
 									   .filter(shrinkables -> checkUniquenessOfShrinkables(uniquenessExtractors, shrinkables))
 									   .map(this::createShrinkable);
 
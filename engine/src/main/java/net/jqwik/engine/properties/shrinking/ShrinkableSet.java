@@ -16,16 +16,17 @@ public class ShrinkableSet<E> extends ShrinkableContainer<Set<E>, E> {
 		Collection<FeatureExtractor<E>> uniquenessExtractors,
 		@Nullable Arbitrary<E> elementArbitrary
 	) {
-		this(new ArrayList<>(elements), minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		this(new ArrayList<>(elements), minSize, maxSize, uniquenessExtractors, elementArbitrary, DeltaDebuggingShrinker.MIN_GRANULARITY);
 	}
 
 	private ShrinkableSet(
 		List<Shrinkable<E>> elements,
 		int minSize, int maxSize,
 		Collection<FeatureExtractor<E>> uniquenessExtractors,
-		@Nullable Arbitrary<E> elementArbitrary
+		@Nullable Arbitrary<E> elementArbitrary,
+		int deltaDebuggingGranularity
 	) {
-		super(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		super(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary, deltaDebuggingGranularity);
 	}
 
 	@Override
@@ -53,7 +54,7 @@ public class ShrinkableSet<E> extends ShrinkableContainer<Set<E>, E> {
 	}
 
 	@Override
-	Shrinkable<Set<E>> createShrinkable(List<Shrinkable<E>> shrunkElements) {
-		return new ShrinkableSet<>(shrunkElements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+	Shrinkable<Set<E>> createShrinkable(List<Shrinkable<E>> shrunkElements, int deltaDebuggingGranularity) {
+		return new ShrinkableSet<>(shrunkElements, minSize, maxSize, uniquenessExtractors, elementArbitrary, deltaDebuggingGranularity);
 	}
 }
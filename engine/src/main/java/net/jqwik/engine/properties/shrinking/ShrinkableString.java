@@ -10,7 +10,16 @@ import net.jqwik.engine.support.*;
 public class ShrinkableString extends ShrinkableContainer<String, Character> {
 
 	public ShrinkableString(List<Shrinkable<Character>> elements, int minSize, int maxSize, Arbitrary<Character> characterArbitrary) {
-		super(elements, minSize, maxSize, Collections.emptySet(), characterArbitrary);
+		this(elements, minSize, maxSize, characterArbitrary, DeltaDebuggingShrinker.MIN_GRANULARITY);
+	}
+
+	private ShrinkableString(
+		List<Shrinkable<Character>> elements,
+		int minSize, int maxSize,
+		Arbitrary<Character> characterArbitrary,
+		int deltaDebuggingGranularity
+	) {
+		super(elements, minSize, maxSize, Collections.emptySet(), characterArbitrary, deltaDebuggingGranularity);
 	}
 
 	@Override
@@ -24,24 +33,27 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 	}
 
 	@Override
-	Shrinkable<String> createShrinkable(List<Shrinkable<Character>> shrunkElements) {
-		return new ShrinkableString(shrunkElements, minSize, maxSize, elementArbitrary);
+	Shrinkable<String> createShrinkable(List<Shrinkable<Character>> shrunkElements, int deltaDebuggingGranularity) {
+		return new ShrinkableString(shrunkElements, minSize, maxSize, elementArbitrary, deltaDebuggingGranularity);
 	}
 
 	@Override
 	public Stream<Shrinkable<String>> shrink() {
 		if (elements.size() > 100) {
 			return JqwikStreamSupport.concat(
+					shrinkSizeByDeltaDebuggingFirst(),
 					shrinkSizeAggressively(),
 					shrinkSizeOfList(),
 					shrinkElementsOneAfterTheOther(100)
 			);
 		}
 		return JqwikStreamSupport.concat(
+				shrinkSizeByDeltaDebuggingFirst(),
 				shrinkSizeOfList(),
 				shrinkElementsOneAfterTheOther(0),
 				shrinkPairsOfElements(),
-				sortElements()
+				sortElements(),
+				shrinkSizeByDeltaDebuggingLast()
 		);
 	}
 
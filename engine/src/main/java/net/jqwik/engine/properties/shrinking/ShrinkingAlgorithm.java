@@ -5,6 +5,8 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.jfr.*;
+import net.jqwik.engine.properties.*;
 
 class ShrinkingAlgorithm {
 
@@ -12,6 +14,7 @@ class ShrinkingAlgorithm {
 	private final FalsifiedSample originalSample;
 	private final Consumer<FalsifiedSample> sampleShrunkConsumer;
 	private final Consumer<FalsifiedSample> shrinkAttemptConsumer;
+	private int shrinkAttemptsInPhase = 0;
 
 	ShrinkingAlgorithm(
 		FalsifiedSample originalSample,
@@ -24,24 +27,39 @@ class ShrinkingAlgorithm {
 		this.shrinkAttemptConsumer = shrinkAttemptConsumer;
 	}
 
-	FalsifiedSample shrink(final Falsifier<List<Object>> falsifier) {
+	FalsifiedSample shrink(final Falsifier<List<Object>> originalFalsifier) {
+		Falsifier<List<Object>> recordingFalsifier = JqwikEvents.recordingShrinkSteps(originalFalsifier);
+		Falsifier<List<Object>> falsifier = sample -> {
+			shrinkAttemptsInPhase++;
+			return recordingFalsifier.execute(sample);
+		};
 		FalsifiedSample after = originalSample;
 		FalsifiedSample before;
 		do {
 			before = after;
-			after = shrinkOneParameterAfterTheOther(falsifier, before, sampleShrunkConsumer, shrinkAttemptConsumer);
+			after = recordPhase("one after the other", before, sample -> shrinkOneParameterAfterTheOther(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer));
 			if (!after.equals(before)) {
 				continue;
 			}
-			after = shrinkParametersPairwise(falsifier, after, sampleShrunkConsumer, shrinkAttemptConsumer);
+			after = recordPhase("pairwise", after, sample -> shrinkParametersPairwise(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer));
 			if (!after.equals(before)) {
 				continue;
 			}
-			after = shrinkAndGrow(falsifier, after, sampleShrunkConsumer, shrinkAttemptConsumer);
+			after = recordPhase("shrink and grow", after, sample -> shrinkAndGrow(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer));
 		} while (!after.equals(before));
+		PropertyProfiler.recordRetainedSamples(falsificationCache.size());
 		return after;
 	}
 
+	private FalsifiedSample recordPhase(String phaseName, FalsifiedSample sample, UnaryOperator<FalsifiedSample> phase) {
+		JqwikEvents.ShrinkingPhaseEvent phaseEvent = JqwikEvents.beginShrinkingPhase(phaseName);
+		shrinkAttemptsInPhase = 0;
+		FalsifiedSample shrunkSample = phase.apply(sample);
+		phaseEvent.commit(!shrunkSample.equals(sample));
+		PropertyProfiler.recordShrinkAttempts(phaseName, shrinkAttemptsInPhase);
+		return shrunkSample;
+	}
+
 	private FalsifiedSample shrinkOneParameterAfterTheOther(
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
@@ -24,15 +24,14 @@ class ShrinkingCommons {
 	 * @return stream of shrunk containers
 	 */
 	static  <C, E> Stream<Shrinkable<C>> shrinkPairsOfElements(List<Shrinkable<E>> elements, ContainerCreator<C, E> createContainer) {
+		PersistentList<Shrinkable<E>> persistentElements = PersistentList.copyOf(elements);
 		return Combinatorics
 			.distinctPairs(elements.size())
 			.flatMap(pair -> JqwikStreamSupport.zip(
 				elements.get(pair.get1()).shrink(),
 				elements.get(pair.get2()).shrink(),
 				(Shrinkable<E> s1, Shrinkable<E> s2) -> {
-					List<Shrinkable<E>> newElements = new ArrayList<>(elements);
-					newElements.set(pair.get1(), s1);
-					newElements.set(pair.get2(), s2);
+					List<Shrinkable<E>> newElements = persistentElements.with(pair.get1(), s1).with(pair.get2(), s2);
 					return createContainer.apply(newElements);
 				}
 			));
@@ -64,6 +63,7 @@ class ShrinkingCommons {
 	}
 
 	private static <C, E> Stream<Shrinkable<C>> pairwiseSort(List<Shrinkable<E>> elements, ContainerCreator<C, E> createContainer) {
+		PersistentList<Shrinkable<E>> persistentElements = PersistentList.copyOf(elements);
 		return Combinatorics.distinctPairs(elements.size())
 							.map(pair -> {
 								int firstIndex = Math.min(pair.get1(), pair.get2());
@@ -74,9 +74,9 @@ class ShrinkingCommons {
 							})
 							.filter(quadruple -> quadruple.get2().compareTo(quadruple.get4()) > 0)
 							.map(quadruple -> {
-								List<Shrinkable<E>> pairSwap = new ArrayList<>(elements);
-								pairSwap.set(quadruple.get1(), quadruple.get4());
-								pairSwap.set(quadruple.get3(), quadruple.get2());
+								List<Shrinkable<E>> pairSwap =
+									persistentElements.with(quadruple.get1(), quadruple.get4())
+													  .with(quadruple.get3(), quadruple.get2());
 								return createContainer.apply(pairSwap);
 							});
 	}
@@ -24,16 +24,18 @@ public class SizeOfListShrinker<T> {
 
 	private Stream<List<T>> emptyList() {
 		if (minSize == 0) {
-			return Stream.of(new ArrayList<>());
+			return Stream.of(PersistentList.empty());
 		} else {
 			return Stream.empty();
 		}
 	}
 
 	public Stream<List<T>> cuts(List<T> toShrink) {
+		// Cuts of a persistent list share their elements instead of copying them
+		PersistentList<T> elements = PersistentList.copyOf(toShrink);
 		Set<List<T>> lists = new LinkedHashSet<>();
-		appendRightCuts(toShrink, lists);
-		appendLeftCuts(toShrink, lists);
+		appendRightCuts(elements, lists);
+		appendLeftCuts(elements, lists);
 		return lists.stream();
 	}
 
@@ -46,7 +48,7 @@ public class SizeOfListShrinker<T> {
 	}
 
 	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromLeft(toShrink, elementsToCut)));
+		lists.add(cutFromLeft(toShrink, elementsToCut));
 	}
 
 	private List<T> cutFromLeft(List<T> toShrink, int elementsToCut) {
@@ -77,7 +79,7 @@ public class SizeOfListShrinker<T> {
 	}
 
 	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromRight(toShrink, elementsToCut)));
+		lists.add(cutFromRight(toShrink, elementsToCut));
 	}
 
 	private List<T> cutFromRight(List<T> toShrink, int elementsToCut) {
@@ -4,8 +4,6 @@ import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
 
-import org.junit.platform.commons.support.*;
-
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.state.*;
@@ -35,7 +33,7 @@ public class DefaultActionChainArbitrary<T> extends ArbitraryDecorator<ActionCha
 				return Optional.of(
 					state -> {
 						try {
-							return (boolean) ReflectionSupport.invokeMethod(precondition, action, state);
+							return (boolean) JqwikReflectionSupport.invokeMethod(precondition, action, state);
 						} catch (Exception exception) {
 							return JqwikExceptionSupport.throwAsUncheckedException(exception);
 						}
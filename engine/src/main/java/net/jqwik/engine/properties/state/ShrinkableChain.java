@@ -26,6 +26,11 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 	private final List<ShrinkableChainIteration<T>> iterations;
 	private final Supplier<ChangeDetector<T>> changeDetectorSupplier;
 
+	// Memoized distance must be reset whenever a new iteration is added.
+	// Guarded by this, like adding iterations in ChainIterator.
+	@Nullable
+	private ShrinkingDistance distance = null;
+
 	public ShrinkableChain(
 		long randomSeed,
 		Supplier<? extends T> initialSupplier,
@@ -80,13 +85,21 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 
 	@Override
 	@NonNull
-	public ShrinkingDistance distance() {
-		List<Shrinkable<Transformer<T>>> shrinkablesForDistance = new ArrayList<>();
+	public synchronized ShrinkingDistance distance() {
+		if (distance == null) {
+			distance = calculateDistance();
+		}
+		return distance;
+	}
+
+	private ShrinkingDistance calculateDistance() {
+		List<Shrinkable<Transformer<T>>> shrinkablesForDistance = new ArrayList<>(maxTransformations);
+		Shrinkable<Transformer<T>> noTransformation = Shrinkable.unshrinkable(t -> t);
 		for (int i = 0; i < maxTransformations; i++) {
 			if (i < iterations.size()) {
 				shrinkablesForDistance.add(iterations.get(i).shrinkable);
 			} else {
-				shrinkablesForDistance.add(Shrinkable.unshrinkable(t -> t));
+				shrinkablesForDistance.add(noTransformation);
 			}
 		}
 		return ShrinkingDistance.forCollection(shrinkablesForDistance);
@@ -228,6 +241,7 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 					continue;
 				}
 				iterations.add(new ShrinkableChainIteration<>(precondition, accessState, nextShrinkable));
+				distance = null;
 				return next;
 			}
 			return failWithTooManyAttempts(attemptsCounter);
@@ -81,15 +81,10 @@ public class Combinatorics {
 		if (maxExclusive < 2) {
 			return Stream.empty();
 		}
-		List<Tuple2<Integer, Integer>> pairs = new ArrayList<>();
-		for (int i = 0; i < maxExclusive; i++) {
-			for (int j = i + 1; j < maxExclusive; j++) {
-				if (i != j) {
-					pairs.add(Tuple.of(i, j));
-				}
-			}
-		}
-		return pairs.stream();
+		// Pairs are created lazily since their number grows quadratically with maxExclusive
+		return IntStream.range(0, maxExclusive).boxed().flatMap(
+			i -> IntStream.range(i + 1, maxExclusive).mapToObj(j -> Tuple.of(i, j))
+		);
 	}
 }
 
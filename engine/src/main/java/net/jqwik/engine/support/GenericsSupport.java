@@ -9,21 +9,30 @@ public class GenericsSupport {
 
 	private static final Map<TypeUsage, GenericsClassContext> contextsCache = new LinkedHashMap<>();
 
+	// Avoids creating and comparing a type usage for plain classes
+	private static final ClassValue<GenericsClassContext> classContexts = new ClassValue<GenericsClassContext>() {
+		@Override
+		protected GenericsClassContext computeValue(Class<?> contextClass) {
+			return contextFor(TypeUsage.of(contextClass));
+		}
+	};
+
 	/**
 	 * Return a context object which can resolve generic types for a given {@code contextClass}.
-	 * <p>
-	 * Must be synchronized because of caching.
 	 *
 	 * @param contextClass The class to wrap in a context
 	 * @return a potentially cached context object
 	 */
-	public synchronized static GenericsClassContext contextFor(Class<?> contextClass) {
+	public static GenericsClassContext contextFor(Class<?> contextClass) {
 		if (contextClass == null) {
 			return GenericsClassContext.NULL;
 		}
-		return contextFor(TypeUsage.of(contextClass));
+		return classContexts.get(contextClass);
 	}
 
+	/**
+	 * Must be synchronized because of caching.
+	 */
 	public synchronized static GenericsClassContext contextFor(TypeUsage typeUsage) {
 		return contextsCache.computeIfAbsent(typeUsage, GenericsSupport::createContext);
 	}
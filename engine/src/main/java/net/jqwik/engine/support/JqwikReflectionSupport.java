@@ -5,6 +5,7 @@ import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -21,6 +22,13 @@ import static net.jqwik.engine.support.OverriddenMethodAnnotationSupport.*;
 
 public class JqwikReflectionSupport {
 
+	private static final ClassValue<Map<Parameter, MethodParameter>> methodParameters = new ClassValue<Map<Parameter, MethodParameter>>() {
+		@Override
+		protected Map<Parameter, MethodParameter> computeValue(Class<?> containerClass) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	public static Stream<Object> streamInstancesFromInside(Object inner) {
 		return addInstances(inner, new ArrayList<>()).stream();
 	}
@@ -225,7 +233,7 @@ public class JqwikReflectionSupport {
 	 */
 	public static Object invokeMethodPotentiallyOuter(Method method, Object target, Object... args) {
 		if (method.getDeclaringClass().isAssignableFrom(target.getClass())) {
-			return ReflectionSupport.invokeMethod(method, target, args);
+			return invokeMethod(method, target, args);
 		} else {
 			if (target.getClass().getDeclaringClass() != null) {
 				Optional<Object> newTarget = getOuterInstance(target);
@@ -237,6 +245,19 @@ public class JqwikReflectionSupport {
 		}
 	}
 
+	/**
+	 * Invoke the supplied {@linkplain Method method} as in ReflectionSupport.invokeMethod(..) but use a cached
+	 * method handle instead of core reflection whenever access rules allow it.
+	 *
+	 * @param method The method to invoke
+	 * @param target The object to invoke the method on or null if it's a static method
+	 * @param args   The arguments of the method invocation
+	 * @return Result of method invocation if there is one, otherwise null
+	 */
+	public static Object invokeMethod(Method method, Object target, Object... args) {
+		return MethodInvoker.forMethod(method).invoke(target, args);
+	}
+
 	public static Set<Path> getAllClasspathRootDirectories() {
 		// TODO: This is quite a hack, since sometimes the classpath is quite different.
 		// Especially under Java >=9's module system this will probably no longer work.
@@ -249,18 +270,28 @@ public class JqwikReflectionSupport {
 	public static List<MethodParameter> getMethodParameters(Executable method, Class<?> containerClass) {
 		List<MethodParameter> list = new ArrayList<>();
 		Parameter[] parameters = method.getParameters();
-		GenericsClassContext containerClassContext = GenericsSupport.contextFor(containerClass);
-
 		for (int i = 0; i < parameters.length; i++) {
-			Parameter parameter = parameters[i];
-			TypeResolution resolution = containerClassContext.resolveParameter(parameter);
-			MethodParameter methodParameter = new MethodParameter(parameter, resolution, i);
-			list.add(methodParameter);
+			list.add(getMethodParameter(parameters[i], i, containerClass));
 		}
 		return list;
 	}
 
+	/**
+	 * Method parameters are only resolved once per container class.
+	 * The same instance is returned for the same parameter and container class,
+	 * which allows to cache information derived from a method parameter.
+	 */
 	public static MethodParameter getMethodParameter(Parameter parameter, int index, Class<?> containerClass) {
+		if (containerClass == null) {
+			return createMethodParameter(parameter, index, null);
+		}
+		return methodParameters.get(containerClass).computeIfAbsent(
+			parameter,
+			p -> createMethodParameter(p, index, containerClass)
+		);
+	}
+
+	private static MethodParameter createMethodParameter(Parameter parameter, int index, Class<?> containerClass) {
 		GenericsClassContext containerClassContext = GenericsSupport.contextFor(containerClass);
 		TypeResolution resolution = containerClassContext.resolveParameter(parameter);
 		return new MethodParameter(parameter, resolution, index);
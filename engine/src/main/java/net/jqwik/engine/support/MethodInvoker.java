@@ -0,0 +1,75 @@
+package net.jqwik.engine.support;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jspecify.annotations.*;
+import org.junit.platform.commons.support.*;
+
+/**
+ * Invokes a method through a cached {@linkplain MethodHandle method handle}
+ * that takes the target and an array of arguments.
+ *
+ * <p>
+ * Compared to {@linkplain Method#invoke(Object, Object...)} this avoids
+ * access checks and argument copying on every call.
+ * If no method handle can be created, e.g. because module access rules forbid it,
+ * invocation falls back to {@linkplain ReflectionSupport#invokeMethod(Method, Object, Object...)}.
+ * </p>
+ */
+class MethodInvoker {
+
+	// Cached per declaring class so that invokers do not keep classes from being unloaded
+	private static final ClassValue<Map<Method, MethodInvoker>> invokers = new ClassValue<Map<Method, MethodInvoker>>() {
+		@Override
+		protected Map<Method, MethodInvoker> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	static MethodInvoker forMethod(Method method) {
+		return invokers.get(method.getDeclaringClass()).computeIfAbsent(method, MethodInvoker::new);
+	}
+
+	private final Method method;
+	@Nullable
+	private final MethodHandle handle;
+
+	private MethodInvoker(Method method) {
+		this.method = method;
+		this.handle = spreadingHandle(method);
+	}
+
+	// Creates a handle of type (Object, Object[])Object. Static methods ignore the target.
+	@SuppressWarnings("deprecation") // Deprecated as of Java 9
+	@Nullable
+	private static MethodHandle spreadingHandle(Method method) {
+		try {
+			if (!method.isAccessible()) {
+				method.setAccessible(true);
+			}
+			MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			int parameterCount = method.getParameterCount();
+			return handle.asType(MethodType.genericMethodType(parameterCount + 1))
+						 .asSpreader(Object[].class, parameterCount);
+		} catch (IllegalAccessException | RuntimeException accessNotPossible) {
+			return null;
+		}
+	}
+
+	Object invoke(@Nullable Object target, Object[] args) {
+		if (handle == null) {
+			return ReflectionSupport.invokeMethod(method, target, args);
+		}
+		try {
+			return (Object) handle.invokeExact(target, args);
+		} catch (Throwable throwable) {
+			return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		}
+	}
+}
@@ -3,9 +3,15 @@ package net.jqwik.engine.support;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.*;
 
+import org.jspecify.annotations.*;
 import org.junit.platform.commons.support.*;
 
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.providers.*;
+
 public class MethodParameter {
 
 	public Parameter getRawParameter() {
@@ -16,6 +22,10 @@ public class MethodParameter {
 	private final TypeResolution resolution;
 	private final int index;
 
+	// Together with the enhancers it was computed with
+	@Nullable
+	private volatile Tuple2<List<TypeUsage.Enhancer>, TypeUsage> typeUsage = null;
+
 	public MethodParameter(Parameter rawParameter, TypeResolution resolution, int index) {
 		this.rawParameter = rawParameter;
 		this.resolution = resolution;
@@ -59,4 +69,18 @@ public class MethodParameter {
 		return index;
 	}
 
+	/**
+	 * Method parameters are canonical per container class, see {@linkplain JqwikReflectionSupport#getMethodParameter},
+	 * so caching their type usage here keeps it exactly as long as the container class's parameters.
+	 */
+	public TypeUsage typeUsage(List<TypeUsage.Enhancer> enhancers, Supplier<TypeUsage> computeTypeUsage) {
+		Tuple2<List<TypeUsage.Enhancer>, TypeUsage> cached = typeUsage;
+		if (cached != null && cached.get1().equals(enhancers)) {
+			return cached.get2();
+		}
+		TypeUsage computed = computeTypeUsage.get();
+		typeUsage = Tuple.of(enhancers, computed);
+		return computed;
+	}
+
 }
@@ -0,0 +1,291 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ *
+ * <p>
+ * Replacing or removing elements and taking sub lists costs O(log n) time and memory
+ * instead of copying all elements. This is used by shrinking of containers
+ * where many candidates differ from their base in only a few elements.
+ * </p>
+ */
+public class PersistentList<T> extends AbstractList<T> {
+
+	private static final int LEAF_SIZE = 32;
+
+	// Rebalance when depth grows beyond what is necessary by more than this value
+	private static final int MAX_EXCESS_DEPTH = 16;
+
+	private static final PersistentList<?> EMPTY = new PersistentList<>(new Leaf<>(new Object[0], 0, 0));
+
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentList<T> empty() {
+		return (PersistentList<T>) EMPTY;
+	}
+
+	/**
+	 * Return {@code list} itself if it already is a persistent list, otherwise copy its elements.
+	 */
+	public static <T> PersistentList<T> copyOf(List<T> list) {
+		if (list instanceof PersistentList) {
+			return (PersistentList<T>) list;
+		}
+		Object[] array = list.toArray();
+		return new PersistentList<>(balanced(array, 0, array.length));
+	}
+
+	private final Node<T> root;
+
+	private PersistentList(Node<T> root) {
+		this.root = root;
+	}
+
+	@Override
+	public T get(int index) {
+		checkIndex(index, size());
+		return root.get(index);
+	}
+
+	@Override
+	public int size() {
+		return root.size;
+	}
+
+	/**
+	 * Return a new list in which the element at {@code index} is replaced by {@code element}.
+	 */
+	public PersistentList<T> with(int index, T element) {
+		checkIndex(index, size());
+		return new PersistentList<>(root.set(index, element));
+	}
+
+	/**
+	 * Return a new list without the element at {@code index}.
+	 */
+	public PersistentList<T> without(int index) {
+		checkIndex(index, size());
+		return withoutRange(index, index + 1);
+	}
+
+	/**
+	 * Return a new list without the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+	 */
+	public PersistentList<T> withoutRange(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex, size());
+		if (fromIndex == toIndex) {
+			return this;
+		}
+		Node<T> joined = concat(root.slice(0, fromIndex), root.slice(toIndex, size()));
+		return new PersistentList<>(rebalanceIfNecessary(joined));
+	}
+
+	@Override
+	public PersistentList<T> subList(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex, size());
+		if (fromIndex == 0 && toIndex == size()) {
+			return this;
+		}
+		return new PersistentList<>(root.slice(fromIndex, toIndex));
+	}
+
+	@Override
+	public Object[] toArray() {
+		Object[] array = new Object[size()];
+		root.copyInto(array, 0);
+		return array;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new LeafIterator<>(root);
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+		}
+	}
+
+	private static void checkRange(int fromIndex, int toIndex, int size) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(String.format("From: %s, To: %s, Size: %s", fromIndex, toIndex, size));
+		}
+	}
+
+	private static <T> Node<T> balanced(Object[] array, int from, int to) {
+		int size = to - from;
+		if (size <= LEAF_SIZE) {
+			return new Leaf<>(array, from, size);
+		}
+		int middle = from + size / 2;
+		return new Branch<>(balanced(array, from, middle), balanced(array, middle, to));
+	}
+
+	private static <T> Node<T> concat(Node<T> left, Node<T> right) {
+		if (left.size == 0) {
+			return right;
+		}
+		if (right.size == 0) {
+			return left;
+		}
+		if (left.size + right.size <= LEAF_SIZE) {
+			Object[] array = new Object[left.size + right.size];
+			left.copyInto(array, 0);
+			right.copyInto(array, left.size);
+			return new Leaf<>(array, 0, array.length);
+		}
+		return new Branch<>(left, right);
+	}
+
+	private static <T> Node<T> rebalanceIfNecessary(Node<T> node) {
+		int necessaryDepth = 32 - Integer.numberOfLeadingZeros(node.size / LEAF_SIZE);
+		if (node.depth <= necessaryDepth + MAX_EXCESS_DEPTH) {
+			return node;
+		}
+		Object[] array = new Object[node.size];
+		node.copyInto(array, 0);
+		return balanced(array, 0, array.length);
+	}
+
+	private abstract static class Node<T> {
+		final int size;
+		final int depth;
+
+		Node(int size, int depth) {
+			this.size = size;
+			this.depth = depth;
+		}
+
+		abstract T get(int index);
+
+		abstract Node<T> set(int index, T element);
+
+		abstract Node<T> slice(int from, int to);
+
+		abstract void copyInto(Object[] target, int position);
+	}
+
+	private static class Leaf<T> extends Node<T> {
+		// Array is shared between leaves and must never be changed
+		private final Object[] array;
+		private final int offset;
+
+		Leaf(Object[] array, int offset, int size) {
+			super(size, 0);
+			this.array = array;
+			this.offset = offset;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		T get(int index) {
+			return (T) array[offset + index];
+		}
+
+		@Override
+		Node<T> set(int index, T element) {
+			Object[] copy = new Object[size];
+			System.arraycopy(array, offset, copy, 0, size);
+			copy[index] = element;
+			return new Leaf<>(copy, 0, size);
+		}
+
+		@Override
+		Node<T> slice(int from, int to) {
+			if (from == 0 && to == size) {
+				return this;
+			}
+			return new Leaf<>(array, offset + from, to - from);
+		}
+
+		@Override
+		void copyInto(Object[] target, int position) {
+			System.arraycopy(array, offset, target, position, size);
+		}
+	}
+
+	private static class Branch<T> extends Node<T> {
+		private final Node<T> left;
+		private final Node<T> right;
+
+		Branch(Node<T> left, Node<T> right) {
+			super(left.size + right.size, Math.max(left.depth, right.depth) + 1);
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		T get(int index) {
+			return index < left.size ? left.get(index) : right.get(index - left.size);
+		}
+
+		@Override
+		Node<T> set(int index, T element) {
+			if (index < left.size) {
+				return new Branch<>(left.set(index, element), right);
+			}
+			return new Branch<>(left, right.set(index - left.size, element));
+		}
+
+		@Override
+		Node<T> slice(int from, int to) {
+			if (from == 0 && to == size) {
+				return this;
+			}
+			if (to <= left.size) {
+				return left.slice(from, to);
+			}
+			if (from >= left.size) {
+				return right.slice(from - left.size, to - left.size);
+			}
+			return concat(left.slice(from, left.size), right.slice(0, to - left.size));
+		}
+
+		@Override
+		void copyInto(Object[] target, int position) {
+			left.copyInto(target, position);
+			right.copyInto(target, position + left.size);
+		}
+	}
+
+	private static class LeafIterator<T> implements Iterator<T> {
+		private final Deque<Node<T>> pending = new ArrayDeque<>();
+		@Nullable
+		private Leaf<T> currentLeaf = null;
+		private int position = 0;
+
+		LeafIterator(Node<T> root) {
+			pending.push(root);
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (currentLeaf == null || position >= currentLeaf.size) {
+				if (pending.isEmpty()) {
+					return false;
+				}
+				Node<T> next = pending.pop();
+				if (next instanceof Branch) {
+					pending.push(((Branch<T>) next).right);
+					pending.push(((Branch<T>) next).left);
+				} else {
+					currentLeaf = (Leaf<T>) next;
+					position = 0;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return currentLeaf.get(position++);
+		}
+	}
+}
@@ -65,10 +65,10 @@ public class TypeUsageImpl implements TypeUsage, Cloneable {
 	}
 
 	public static TypeUsage forParameter(MethodParameter parameter) {
-		return forParameter(parameter, RegisteredTypeUsageEnhancers.getEnhancers());
+		List<Enhancer> enhancers = RegisteredTypeUsageEnhancers.getEnhancers();
+		return parameter.typeUsage(enhancers, () -> forParameter(parameter, enhancers));
 	}
 
-	// Only used in tests
 	public static TypeUsage forParameter(MethodParameter parameter, List<TypeUsage.Enhancer> enhancerPipeline) {
 		TypeUsageImpl typeUsage = new TypeUsageImpl(
 			extractRawType(parameter.getType()),
@@ -320,6 +320,9 @@ public class TypeUsageImpl implements TypeUsage, Cloneable {
 	// Lazy initialization
 	private volatile List<TypeUsage> interfaces = null;
 
+	// Lazy initialization
+	private volatile TypeUsage componentType = null;
+
 
 	public TypeUsageImpl(
 		Class<?> rawType,
@@ -574,7 +577,15 @@ public class TypeUsageImpl implements TypeUsage, Cloneable {
 		if (!isArray()) {
 			return Optional.empty();
 		}
-		return Optional.of(createComponentType());
+		// Double checked locking for thread safety
+		if (componentType == null) {
+			synchronized (this) {
+				if (componentType == null) {
+					componentType = createComponentType();
+				}
+			}
+		}
+		return Optional.of(componentType);
 	}
 
 	private TypeUsage createComponentType() {
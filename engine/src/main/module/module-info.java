@@ -3,6 +3,7 @@ module net.jqwik.engine {
 	opens net.jqwik.engine.properties.configurators to org.junit.platform.commons;
 
 	requires java.logging;
+	requires static jdk.jfr;
 	requires net.jqwik.api;
 	requires org.junit.platform.engine;
 
@@ -15,6 +16,7 @@ module net.jqwik.engine {
 	provides net.jqwik.api.facades.ReflectionSupportFacade with net.jqwik.engine.facades.ReflectionSupportFacadeImpl;
 	provides net.jqwik.api.facades.ShrinkingSupportFacade with net.jqwik.engine.facades.ShrinkingSupportFacadeImpl;
 	provides net.jqwik.api.facades.TestingSupportFacade with net.jqwik.engine.facades.TestingSupportFacadeImpl;
+	provides net.jqwik.api.facades.ThreadContextFacade with net.jqwik.engine.facades.ThreadContextFacadeImpl;
 
 	provides net.jqwik.api.Arbitraries.ArbitrariesFacade with net.jqwik.engine.facades.ArbitrariesFacadeImpl;
 	provides net.jqwik.api.Arbitrary.ArbitraryFacade with net.jqwik.engine.facades.ArbitraryFacadeImpl;
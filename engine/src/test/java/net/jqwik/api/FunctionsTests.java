@@ -129,6 +129,20 @@ class FunctionsTests {
 		assertThat(function.hello()).isEqualTo("hello");
 	}
 
+	@Example
+	void results_for_same_input_are_equal_but_not_shared(@ForAll Random random) {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().list().ofMinSize(1);
+		Arbitrary<Function<String, List<Integer>>> functions =
+			Functions.function(Function.class).returning(lists);
+
+		Function<String, List<Integer>> function = functions.generator(10, true).next(random).value();
+
+		List<Integer> valueForHello = function.apply("hello");
+		List<Integer> copyOfValue = new ArrayList<>(valueForHello);
+		valueForHello.clear();
+		assertThat(function.apply("hello")).isEqualTo(copyOfValue);
+	}
+
 	@Example
 	void null_value_is_accepted_as_input(@ForAll Random random) {
 		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10);
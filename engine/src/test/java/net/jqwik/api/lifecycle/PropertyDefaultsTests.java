@@ -15,7 +15,9 @@ class PropertyDefaultsTests {
 		shrinking = ShrinkingMode.FULL,
 		generation = GenerationMode.RANDOMIZED,
 		edgeCases = EdgeCasesMode.NONE,
-		maxDiscardRatio = 10
+		maxDiscardRatio = 10,
+		tryExecution = TryExecutionMode.VIRTUAL_THREADS,
+		concurrency = 4
 	)
 	class OtherAttributes {
 
@@ -33,6 +35,8 @@ class PropertyDefaultsTests {
 				assertThat(context.attributes().generation().get()).isEqualTo(GenerationMode.RANDOMIZED);
 				assertThat(context.attributes().edgeCases().get()).isEqualTo(EdgeCasesMode.NONE);
 				assertThat(context.attributes().maxDiscardRatio().get()).isEqualTo(10);
+				assertThat(context.attributes().tryExecution().get()).isEqualTo(TryExecutionMode.VIRTUAL_THREADS);
+				assertThat(context.attributes().concurrency().get()).isEqualTo(4);
 			}
 		}
 	}
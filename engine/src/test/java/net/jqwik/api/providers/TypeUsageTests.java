@@ -230,6 +230,22 @@ class TypeUsageTests {
 			assertThat(stringType.toString()).isEqualTo("String");
 		}
 
+		@Example
+		void sameParameterIsResolvedOnlyOncePerContainerClass() throws NoSuchMethodException {
+			class LocalClass {
+				@SuppressWarnings("WeakerAccess")
+				public void withParameter(List<@StringLength(5) String> strings) {}
+			}
+
+			Method method = LocalClass.class.getMethod("withParameter", List.class);
+			MethodParameter parameter = JqwikReflectionSupport.getMethodParameters(method, LocalClass.class).get(0);
+			MethodParameter sameParameter = JqwikReflectionSupport.getMethodParameter(method.getParameters()[0], 0, LocalClass.class);
+			assertThat(sameParameter).isSameAs(parameter);
+
+			TypeUsage listType = TypeUsageImpl.forParameter(parameter);
+			assertThat(TypeUsageImpl.forParameter(sameParameter)).isSameAs(listType);
+		}
+
 		@Example
 		void twoGenericParameters() throws NoSuchMethodException {
 			class LocalClass {
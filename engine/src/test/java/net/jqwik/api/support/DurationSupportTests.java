@@ -0,0 +1,39 @@
+package net.jqwik.api.support;
+
+import java.time.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DurationSupportTests {
+
+	@Example
+	void parseDurationsWithUnits() {
+		assertThat(DurationSupport.parse("500ms")).isEqualTo(Duration.ofMillis(500));
+		assertThat(DurationSupport.parse("30s")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(DurationSupport.parse("5m")).isEqualTo(Duration.ofMinutes(5));
+		assertThat(DurationSupport.parse("2h")).isEqualTo(Duration.ofHours(2));
+		assertThat(DurationSupport.parse(" 10 S ")).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Example
+	void durationWithoutUnitIsInSeconds() {
+		assertThat(DurationSupport.parse("42")).isEqualTo(Duration.ofSeconds(42));
+	}
+
+	@Example
+	void illegalDurationsAreRejected() {
+		assertThatThrownBy(() -> DurationSupport.parse("30 seconds")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> DurationSupport.parse("-1s")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> DurationSupport.parse("")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void formatUsesLargestFittingUnit() {
+		assertThat(DurationSupport.format(Duration.ofMillis(1500))).isEqualTo("1500ms");
+		assertThat(DurationSupport.format(Duration.ofSeconds(30))).isEqualTo("30s");
+		assertThat(DurationSupport.format(Duration.ofMinutes(5))).isEqualTo("5m");
+		assertThat(DurationSupport.format(Duration.ofHours(1))).isEqualTo("1h");
+	}
+}
@@ -57,5 +57,7 @@ class JqwikPropertiesTests {
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.defaultMaxDuration()).isEmpty();
 	}
 }
@@ -38,7 +38,8 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			DEFAULT_WHEN_FIXED_SEED,
+			null
 		);
 	}
 
@@ -85,6 +86,9 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
+			null,
+			null,
 			null
 		);
 
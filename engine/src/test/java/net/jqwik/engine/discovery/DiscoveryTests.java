@@ -1,5 +1,6 @@
 package net.jqwik.engine.discovery;
 
+import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
@@ -50,6 +51,32 @@ class DiscoveryTests {
 		assertThat(count(engineDescriptor, isPropertyDescriptor)).isEqualTo(16);
 	}
 
+	@Example
+	void classesFailingDuringAnalysisAreSkippedAndOthersAreFoundInScanOrder() {
+		List<Class<?>> candidates = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			candidates.add(SimpleExampleTests.class);
+			candidates.add(ContainerWithOOME.class);
+			candidates.add(String.class);
+			candidates.add(ContainerWithOverloadedExamples.class);
+		}
+		Predicate<Class<?>> isTestContainer = candidate -> {
+			if (candidate.equals(ContainerWithOOME.class)) {
+				throw new NoClassDefFoundError("cannot analyse " + candidate.getName());
+			}
+			return !candidate.equals(String.class);
+		};
+
+		List<Class<?>> containers = JqwikDiscoverer.findTestContainers(candidates, isTestContainer);
+
+		List<Class<?>> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			expected.add(SimpleExampleTests.class);
+			expected.add(ContainerWithOverloadedExamples.class);
+		}
+		assertThat(containers).containsExactlyElementsOf(expected);
+	}
+
 	@Example
 	void discoverWithPackageNameFilter() {
 		LauncherDiscoveryRequest discoveryRequest =
@@ -209,6 +209,19 @@ class PropertyMethodResolverTests {
 			assertThat(propertyMethodDescriptor.getConfiguration().getSeed()).isEqualTo("41");
 		}
 
+		@Example
+		void invalidMaxDurationOnlyFailsWhenPropertyIsExecuted() {
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
+			Method method = TestHelper.getMethod(TestContainer.class, "withInvalidMaxDuration");
+			Set<TestDescriptor> descriptors = resolver.resolveElement(method, classDescriptor);
+
+			assertThat(descriptors).hasSize(1);
+			PropertyMethodDescriptor propertyMethodDescriptor = (PropertyMethodDescriptor) descriptors.iterator().next();
+			assertThatThrownBy(() -> propertyMethodDescriptor.getConfiguration().getMaxDuration())
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("30 sec");
+		}
+
 		private PropertyMethodDescriptor resolveMethodInClass(String methodName, Class<?> containerClass) {
 			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(containerClass);
 			Method method = TestHelper.getMethod(containerClass, methodName);
@@ -308,6 +321,10 @@ class PropertyMethodResolverTests {
 		void withSeed41() {
 		}
 
+		@Property(maxDuration = "30 sec")
+		void withInvalidMaxDuration() {
+		}
+
 		@Property(
 			seed = "42",
 			tries = 99,
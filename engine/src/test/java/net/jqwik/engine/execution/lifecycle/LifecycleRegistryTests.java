@@ -52,6 +52,17 @@ class LifecycleRegistryTests {
 			.allMatch(descriptor -> !registry.hasHook(descriptor, GlobalHookForMethodsOnly.class));
 	}
 
+	@Example
+	void hookRegisteredAfterLookupIsFound() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		TestDescriptor method1_1 = container1.getChildren().iterator().next();
+		assertThat(registry.hasHook(method1_1, GlobalHook.class)).isFalse();
+
+		registry.registerLifecycleInstance(container1, new GlobalHook());
+
+		assertThat(registry.hasHook(method1_1, GlobalHook.class)).isTrue();
+	}
+
 	@Example
 	void currentDescriptorIsSetDuringRegisteringHookClass() {
 		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
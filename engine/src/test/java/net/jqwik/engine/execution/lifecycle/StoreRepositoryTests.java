@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -174,6 +175,75 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void finishTry_withinTryScope_resetsOnlyValuesOfThatScope() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> storeTry = repository.create(method, "storeTry", Lifespan.TRY, () -> "initial");
+			ScopedStore<String> storeProperty = repository.create(method, "storeProperty", Lifespan.PROPERTY, () -> "initial");
+
+			Object tryScope1 = CurrentTryScope.newScope();
+			Object tryScope2 = CurrentTryScope.newScope();
+			CurrentTryScope.runInScope(tryScope1, () -> {
+				storeTry.update(s -> "changed in try 1");
+				storeProperty.update(s -> "changed in try 1");
+				return null;
+			});
+			CurrentTryScope.runInScope(tryScope2, () -> {
+				storeTry.update(s -> "changed in try 2");
+				return null;
+			});
+
+			CurrentTryScope.runInScope(tryScope1, () -> {
+				repository.finishTry(method);
+				return null;
+			});
+
+			SoftAssertions.assertSoftly(softly -> {
+				softly.assertThat(CurrentTryScope.runInScope(tryScope1, storeTry::get)).isEqualTo("initial");
+				softly.assertThat(CurrentTryScope.runInScope(tryScope2, storeTry::get)).isEqualTo("changed in try 2");
+				softly.assertThat(storeTry.get()).isEqualTo("initial");
+				// Only stores with lifespan TRY have values per try scope
+				softly.assertThat(storeProperty.get()).isEqualTo("changed in try 1");
+			});
+		}
+
+		@Example
+		void blockingUpdaterInOneTryScopeDoesNotBlockOtherTryScopes() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> storeTry = repository.create(method, "storeTry", Lifespan.TRY, () -> "initial");
+
+			CountDownLatch updaterStarted = new CountDownLatch(1);
+			CountDownLatch releaseUpdater = new CountDownLatch(1);
+			Thread blockedTry = new Thread(() -> CurrentTryScope.runInScope(CurrentTryScope.newScope(), () -> {
+				storeTry.update(s -> {
+					updaterStarted.countDown();
+					try {
+						releaseUpdater.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return "changed in blocked try";
+				});
+				return null;
+			}));
+			blockedTry.start();
+			ExecutorService otherTry = Executors.newSingleThreadExecutor();
+			try {
+				updaterStarted.await();
+				Future<String> valueInOtherTry = otherTry.submit(() -> CurrentTryScope.runInScope(CurrentTryScope.newScope(), () -> {
+					storeTry.update(s -> "changed in other try");
+					return storeTry.get();
+				}));
+				assertThat(valueInOtherTry.get(10, TimeUnit.SECONDS)).isEqualTo("changed in other try");
+			} finally {
+				releaseUpdater.countDown();
+				blockedTry.join();
+				otherTry.shutdownNow();
+			}
+		}
+
 		@Example
 		void finishProperty_resetsAllVisibleStoresWithLifespanProperty() {
 			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -0,0 +1,153 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.configurators.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DefaultReporterTests {
+
+	private final List<ReportEntry> entries = new ArrayList<>();
+	private final DefaultReporter reporter = new DefaultReporter(this::entryPublished, null, true);
+
+	private void entryPublished(TestDescriptor descriptor, ReportEntry entry) {
+		entries.add(entry);
+	}
+
+	@Example
+	void reportsOfImmutableValuesArePublishedInOrderAfterFlush() {
+		for (int i = 0; i < 100; i++) {
+			reporter.publishReports("generated", Collections.singletonMap("anInt", i));
+		}
+		reporter.flush();
+
+		assertThat(entries).hasSize(100);
+		assertThat(entries.get(0).getKeyValuePairs().get("generated")).contains("anInt: 0");
+		assertThat(entries.get(99).getKeyValuePairs().get("generated")).contains("anInt: 99");
+	}
+
+	@Example
+	void mutableValuesAreReportedInTheStateOfPublishing() {
+		List<String> aList = new ArrayList<>(Arrays.asList("a", "b"));
+		reporter.publishReports("generated", Collections.singletonMap("aList", aList));
+		aList.add("c");
+		reporter.flush();
+
+		assertThat(entries).hasSize(1);
+		assertThat(entries.get(0).getKeyValuePairs().get("generated")).contains("[\"a\", \"b\"]");
+	}
+
+	@Example
+	void containersOfImmutablesAreReportedInTheStateOfPublishing() {
+		int[] anArray = {1, 2, 3};
+		List<Integer> aList = new ArrayList<>(Arrays.asList(1, 2));
+		Map<String, List<Integer>> aMap = new HashMap<>();
+		aMap.put("key", aList);
+		Map<String, Object> sample = new LinkedHashMap<>();
+		sample.put("anArray", anArray);
+		sample.put("aMap", aMap);
+		sample.put("anOptional", Optional.of(aList));
+
+		reporter.publishReports("generated", sample);
+		anArray[0] = 42;
+		aList.add(3);
+		aMap.put("other", aList);
+		reporter.flush();
+
+		assertThat(entries).hasSize(1);
+		assertThat(entries.get(0).getKeyValuePairs().get("generated"))
+			.contains("anArray: int[] [1, 2, 3]")
+			.contains("aMap: {\"key\"=[1, 2]}")
+			.contains("anOptional: Optional[[1, 2]]");
+	}
+
+	@Example
+	void enumsWithInstanceFieldsAreReportedInTheStateOfPublishing() {
+		Counter.COUNTER.count = 1;
+		reporter.publishReports("generated", Collections.singletonMap("counter", Counter.COUNTER));
+		Counter.COUNTER.count = 2;
+		reporter.flush();
+
+		assertThat(entries).hasSize(1);
+		assertThat(entries.get(0).getKeyValuePairs().get("generated")).contains("counter: 1");
+	}
+
+	@Example
+	void reportingFormatsAreAppliedOnThePublishingThread() {
+		List<Thread> formattingThreads = new ArrayList<>();
+		SampleReportingFormat threadRecordingFormat = new SampleReportingFormat() {
+			@Override
+			public boolean appliesTo(Object value) {
+				return value instanceof String;
+			}
+
+			@Override
+			public Object report(Object value) {
+				formattingThreads.add(Thread.currentThread());
+				return "formatted";
+			}
+		};
+
+		CurrentDomainContext.runWithContext(new ContextWithFormat(threadRecordingFormat), () -> {
+			reporter.publishReports("generated", Collections.singletonMap("aString", "a"));
+			return null;
+		});
+		reporter.flush();
+
+		assertThat(formattingThreads).containsExactly(Thread.currentThread());
+		assertThat(entries.get(0).getKeyValuePairs().get("generated")).contains("formatted");
+	}
+
+	@Example
+	void otherEntriesArePublishedAfterPendingReports() {
+		reporter.publishReports("generated", Collections.singletonMap("aString", "first"));
+		reporter.publishValue("value", "second");
+
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0).getKeyValuePairs()).containsKey("generated");
+		assertThat(entries.get(1).getKeyValuePairs()).containsEntry("value", "second");
+	}
+
+	private enum Counter {
+		COUNTER;
+
+		int count = 0;
+
+		@Override
+		public String toString() {
+			return "counter: " + count;
+		}
+	}
+
+	private static class ContextWithFormat implements DomainContext {
+
+		private final SampleReportingFormat format;
+
+		private ContextWithFormat(SampleReportingFormat format) {
+			this.format = format;
+		}
+
+		@Override
+		public Collection<ArbitraryProvider> getArbitraryProviders() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Collection<ArbitraryConfigurator> getArbitraryConfigurators() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Collection<SampleReportingFormat> getReportingFormats() {
+			return Collections.singletonList(format);
+		}
+	}
+}
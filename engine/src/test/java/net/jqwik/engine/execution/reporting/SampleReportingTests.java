@@ -590,6 +590,81 @@ class SampleReportingTests {
 
 		}
 
+		@Group
+		class Truncation {
+
+			@Example
+			void onlyFirstElementsOfLargeCollectionsAreReported() {
+				List<Integer> list = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+				ValueReport report = ValueReport.of(list);
+
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("[0, 1, 2, ")
+						  .endsWith(", 998, 999, ...<4000 more>]");
+			}
+
+			@Example
+			void onlyFirstEntriesOfLargeMapsAreReported() {
+				Map<Integer, Integer> map = new LinkedHashMap<>();
+				for (int i = 0; i < 1500; i++) {
+					map.put(i, i);
+				}
+				ValueReport report = ValueReport.of(map);
+
+				Assertions.assertThat(report.singleLineReport()).endsWith(", 999=999, ...<500 more>}");
+				report.report(lineReporter, 0, "");
+				assertThat(lineReporter.lines).containsSequence(
+						"  999=999,",
+						"  ...<500 more>",
+						"}"
+				);
+			}
+
+			@Example
+			void largePrimitiveArraysAreTruncated() {
+				int[] array = new int[2000];
+				ValueReport report = ValueReport.of(array);
+
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("int[] [0, 0, ")
+						  .endsWith(", 0, ...<1000 more>]");
+			}
+
+			@Example
+			void deeplyNestedValuesAreCutOff() {
+				Object nested = 42;
+				for (int i = 0; i < 100; i++) {
+					nested = asList(nested);
+				}
+				ValueReport report = ValueReport.of(nested);
+
+				Assertions.assertThat(report.singleLineReport())
+						  .doesNotContain("42")
+						  .contains("[[...]]");
+			}
+
+			@Example
+			void longStringValuesAreTruncated() {
+				char[] chars = new char[20_000];
+				Arrays.fill(chars, 'x');
+				ValueReport report = ValueReport.of(new String(chars));
+
+				Assertions.assertThat(report.singleLineReport()).endsWith("xxx...<10002 more characters>");
+			}
+
+			@Example
+			void totalNumberOfReportedElementsIsLimited() {
+				List<List<Integer>> listOfLists = new ArrayList<>();
+				for (int i = 0; i < 1000; i++) {
+					listOfLists.add(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20));
+				}
+				ValueReport report = ValueReport.of(listOfLists);
+
+				Assertions.assertThat(report.singleLineReport()).contains("more>]");
+				Assertions.assertThat(report.singleLineLength()).isLessThan(100_000);
+			}
+		}
+
 		@Group
 		class Streams {
 
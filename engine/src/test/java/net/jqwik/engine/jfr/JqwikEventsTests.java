@@ -0,0 +1,48 @@
+package net.jqwik.engine.jfr;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import jdk.jfr.*;
+import jdk.jfr.consumer.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JqwikEventsTests {
+
+	@Example
+	void propertyEventIsRecorded() throws IOException {
+		Assume.that(FlightRecorder.isAvailable());
+
+		Path recordingFile = Files.createTempFile("jqwik", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("net.jqwik.Property");
+			recording.start();
+			JqwikEvents.beginProperty("aProperty").commit("SUCCESSFUL", 10, 9, "42");
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+		Files.delete(recordingFile);
+		assertThat(events).anySatisfy(event -> {
+			assertThat(event.getEventType().getName()).isEqualTo("net.jqwik.Property");
+			assertThat(event.getString("property")).isEqualTo("aProperty");
+			assertThat(event.getString("status")).isEqualTo("SUCCESSFUL");
+			assertThat(event.getInt("tries")).isEqualTo(10);
+			assertThat(event.getInt("checks")).isEqualTo(9);
+		});
+	}
+
+	@Example
+	void shrinkStepsAreNotRecordedByDefault() {
+		Falsifier<List<Object>> falsifier = sample -> TryExecutionResult.satisfied();
+
+		assertThat(JqwikEvents.tryEventsEnabled()).isFalse();
+		assertThat(JqwikEvents.recordingShrinkSteps(falsifier)).isSameAs(falsifier);
+	}
+}
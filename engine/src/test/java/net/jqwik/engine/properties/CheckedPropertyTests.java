@@ -13,6 +13,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.testing.*;
 
@@ -85,6 +86,96 @@ class CheckedPropertyTests {
 
 	}
 
+	@Group
+	class ConcurrentTriesWithTryStores {
+
+		@Example
+		void concurrentTriesHaveTheirOwnTryStoreValues() {
+			PropertyCheckResult check = checkThroughFactory(
+				newInstance(ConcurrentTriesExamples.class), "concurrentTriesUseTryStore", int.class
+			);
+
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			assertThat(check.countTries()).isEqualTo(100);
+		}
+
+		@Example
+		void concurrentTriesGenerateSameValuesAsSequentialTries() {
+			ConcurrentTriesExamples sequential = newInstance(ConcurrentTriesExamples.class);
+			checkThroughFactory(sequential, "sequentialTries", List.class);
+
+			ConcurrentTriesExamples concurrent = newInstance(ConcurrentTriesExamples.class);
+			checkThroughFactory(concurrent, "concurrentTries", List.class);
+
+			assertThat(concurrent.values).hasSize(100);
+			assertThat(concurrent.values).containsExactlyInAnyOrderElementsOf(sequential.values);
+		}
+
+		@Example
+		void concurrentTriesCanUseArbitrariesInTheirBody() {
+			PropertyCheckResult check = checkThroughFactory(
+				newInstance(ConcurrentTriesExamples.class), "concurrentTriesSample", int.class
+			);
+
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			assertThat(check.countTries()).isEqualTo(200);
+		}
+
+		@Example
+		void concurrentTriesAreRejectedWithBeforeTryFields() {
+			assertThatThrownBy(
+				() -> checkThroughFactory(newInstance(ConcurrentTriesWithBeforeTryField.class), "concurrentTries", int.class)
+			).isInstanceOf(JqwikException.class)
+			 .hasMessageContaining("cannot run its tries concurrently");
+		}
+
+		@Example
+		void concurrentTriesAreRejectedWithTryLifecycleMethods() {
+			assertThatThrownBy(
+				() -> checkThroughFactory(newInstance(ConcurrentTriesWithBeforeTryMethod.class), "concurrentTries", int.class)
+			).isInstanceOf(JqwikException.class)
+			 .hasMessageContaining("cannot run its tries concurrently");
+		}
+
+		@Example
+		void sequentialTriesWithBeforeTryFieldsAreFine() {
+			PropertyCheckResult check = checkThroughFactory(
+				newInstance(ConcurrentTriesWithBeforeTryField.class), "sequentialTries", int.class
+			);
+
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+		}
+
+		private PropertyCheckResult checkThroughFactory(Object testInstance, String methodName, Class<?>... parameterTypes) {
+			PropertyMethodDescriptor descriptor =
+				(PropertyMethodDescriptor) TestDescriptorBuilder
+											   .forMethod(testInstance.getClass(), methodName, parameterTypes)
+											   .build();
+			PropertyLifecycleContext propertyContext = new DefaultPropertyLifecycleContext(
+				descriptor,
+				testInstance,
+				TestHelper.reporter(),
+				ResolveParameterHook.DO_NOT_RESOLVE
+			);
+			CheckedProperty checkedProperty = new CheckedPropertyFactory().fromDescriptor(
+				descriptor,
+				propertyContext,
+				AroundTryHook.BASE,
+				ResolveParameterHook.DO_NOT_RESOLVE,
+				InvokePropertyMethodHook.DEFAULT
+			);
+			try {
+				return CurrentTestDescriptor.runWithDescriptor(descriptor, () -> checkedProperty.check(new Reporting[0]));
+			} finally {
+				StoreRepository.getCurrent().finishScope(descriptor);
+			}
+		}
+
+		private <T> T newInstance(Class<T> containerClass) {
+			return JqwikReflectionSupport.newInstanceWithDefaultConstructor(containerClass);
+		}
+	}
+
 	@Group
 	class PropertyChecking {
 		@Example
@@ -615,4 +706,76 @@ class CheckedPropertyTests {
 		}
 
 	}
+
+	private static class ConcurrentTriesExamples {
+
+		final List<Object> values = Collections.synchronizedList(new ArrayList<>());
+
+		@Property(tries = 100, tryExecution = TryExecutionMode.VIRTUAL_THREADS, concurrency = 8)
+		public void concurrentTriesUseTryStore(@ForAll int anInt) throws InterruptedException {
+			Store<List<Integer>> valuesOfTry = Store.getOrCreate("valuesOfTry", Lifespan.TRY, ArrayList::new);
+			valuesOfTry.get().add(anInt);
+			Thread.sleep(1);
+			assertThat(valuesOfTry.get()).containsExactly(anInt);
+		}
+
+		@Property(tries = 100, seed = "42")
+		public void sequentialTries(@ForAll("lazyListsWithDuplicates") List<Integer> aList) {
+			values.add(aList);
+		}
+
+		@Property(tries = 100, seed = "42", tryExecution = TryExecutionMode.VIRTUAL_THREADS, concurrency = 8)
+		public void concurrentTries(@ForAll("lazyListsWithDuplicates") List<Integer> aList) throws InterruptedException {
+			values.add(aList);
+			Thread.sleep(1);
+		}
+
+		// Generators of arbitraries used in the body are memoized in a cache that all tries share
+		@Property(tries = 200, tryExecution = TryExecutionMode.VIRTUAL_THREADS, concurrency = 16)
+		public void concurrentTriesSample(@ForAll int anInt) {
+			for (int i = 0; i < 20; i++) {
+				String aString = Arbitraries.strings().ofMaxLength(i).sample();
+				assertThat(aString).hasSizeLessThanOrEqualTo(i);
+			}
+		}
+
+		// Both injectDuplicates() and lazyOf() keep state in stores with Lifespan.TRY during generation
+		@Provide
+		Arbitrary<List<Integer>> lazyListsWithDuplicates() {
+			Arbitrary<Integer> withDuplicates = Arbitraries.integers().between(0, 1_000_000).injectDuplicates(0.5);
+			Arbitrary<Integer> lazy = Arbitraries.lazyOf(() -> withDuplicates, () -> withDuplicates.map(i -> -i));
+			return lazy.list().ofSize(10);
+		}
+	}
+
+	private static class ConcurrentTriesWithBeforeTryField {
+
+		@BeforeTry
+		int counter = 0;
+
+		@Property(tries = 10, tryExecution = TryExecutionMode.VIRTUAL_THREADS)
+		public void concurrentTries(@ForAll int anInt) {
+			counter++;
+		}
+
+		@Property(tries = 10)
+		public void sequentialTries(@ForAll int anInt) {
+			counter++;
+		}
+	}
+
+	private static class ConcurrentTriesWithBeforeTryMethod {
+
+		int counter = 0;
+
+		@BeforeTry
+		void resetCounter() {
+			counter = 0;
+		}
+
+		@Property(tries = 10, tryExecution = TryExecutionMode.VIRTUAL_THREADS)
+		public void concurrentTries(@ForAll int anInt) {
+			counter++;
+		}
+	}
 }
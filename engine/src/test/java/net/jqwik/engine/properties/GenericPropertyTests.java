@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
@@ -13,6 +14,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.properties.profiling.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -215,6 +217,63 @@ class GenericPropertyTests {
 			assertThat(result.originalSample().get().falsifyingError().get()).isSameAs(runtimeException);
 		}
 
+		@Example
+		void timeBoxedPropertyRunsUntilMaxDurationHasElapsed() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true, exactlyOneInteger);
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withMaxDuration(Duration.ofMillis(200)).build();
+			GenericProperty property =
+				new GenericProperty("time-boxed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+
+			long before = System.nanoTime();
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+			long elapsedMillis = Duration.ofNanos(System.nanoTime() - before).toMillis();
+
+			assertThat(elapsedMillis).isGreaterThanOrEqualTo(200);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(forAllFunction.countCalls());
+			assertThat(result.countTries()).isGreaterThan(TestHelper.DEFAULT_TRIES);
+			assertThat(result.triesDuration()).isPresent();
+			assertThat(result.triesPerSecond()).hasValueSatisfying(triesPerSecond -> assertThat(triesPerSecond).isPositive());
+		}
+
+		@Example
+		void timeBoxedPropertyStopsAfterExplicitlySetTries() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true, exactlyOneInteger);
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withMaxDuration(Duration.ofSeconds(10)).build();
+			GenericProperty property =
+				new GenericProperty("time-boxed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(forAllFunction.countCalls()).isEqualTo(10);
+			assertThat(result.countTries()).isEqualTo(10);
+		}
+
+		@Example
+		void timeBoxedPropertyIsFalsifiedAndShrunk() {
+			ForAllSpy forAllFunction = new ForAllSpy(aTry -> aTry < 3, exactlyOneInteger);
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withMaxDuration(Duration.ofSeconds(10)).build();
+			GenericProperty property =
+				new GenericProperty("time-boxed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(3);
+			assertThat(result.originalSample()).isPresent();
+			assertThat(result.triesDuration()).isPresent();
+		}
+
 		@Example
 		void satisfiedWithRejectedAssumptions() {
 			IntPredicate isEven = aNumber -> aNumber % 2 == 0;
@@ -343,6 +402,260 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ConcurrentTryExecution {
+
+		@Example
+		void triesRunConcurrently() {
+			AtomicInteger running = new AtomicInteger(0);
+			AtomicInteger maxRunning = new AtomicInteger(0);
+			TryLifecycleExecutor slowTry = (context, parameters) -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				} finally {
+					running.decrementAndGet();
+				}
+				return TryExecutionResult.satisfied();
+			};
+
+			PropertyConfiguration configuration = aConfig().withTries(40)
+														   .withTryExecution(TryExecutionMode.VIRTUAL_THREADS, 4)
+														   .build();
+			GenericProperty property = new GenericProperty(
+				"concurrent property", configuration, finiteShrinkablesGenerator(IntStream.rangeClosed(1, 40).toArray()),
+				slowTry, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(40);
+			assertThat(result.countChecks()).isEqualTo(40);
+			assertThat(maxRunning.get()).isBetween(2, 4);
+		}
+
+		@Example
+		void firstFailingTryInGenerationOrderIsReported() {
+			TryLifecycleExecutor failFromTen = (context, parameters) -> {
+				int value = (int) parameters.get(0);
+				if (value >= 10) {
+					return TryExecutionResult.falsified(new AssertionError("value: " + value));
+				}
+				return TryExecutionResult.satisfied();
+			};
+
+			PropertyConfiguration configuration = aConfig().withTries(100)
+														   .withShrinking(OFF)
+														   .withTryExecution(TryExecutionMode.VIRTUAL_THREADS, 8)
+														   .build();
+			GenericProperty property = new GenericProperty(
+				"concurrent property", configuration, finiteShrinkablesGenerator(IntStream.rangeClosed(1, 100).toArray()),
+				failFromTen, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(10);
+			assertThat(result.countChecks()).isEqualTo(10);
+			assertThat(result.falsifiedParameters()).hasValue(Collections.singletonList(10));
+		}
+
+		@Example
+		void invalidTriesAreNotCounted() {
+			TryLifecycleExecutor rejectOdd = (context, parameters) -> {
+				int value = (int) parameters.get(0);
+				return value % 2 == 0 ? TryExecutionResult.satisfied() : TryExecutionResult.invalid();
+			};
+
+			PropertyConfiguration configuration = aConfig().withTries(10)
+														   .withTryExecution(TryExecutionMode.VIRTUAL_THREADS, 4)
+														   .build();
+			GenericProperty property = new GenericProperty(
+				"concurrent property", configuration, finiteShrinkablesGenerator(IntStream.rangeClosed(1, 10).toArray()),
+				rejectOdd, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(10);
+			assertThat(result.countChecks()).isEqualTo(5);
+		}
+
+		@Example
+		void concurrencyMustBePositive() {
+			PropertyConfiguration configuration = aConfig().withTries(10)
+														   .withTryExecution(TryExecutionMode.VIRTUAL_THREADS, 0)
+														   .build();
+			GenericProperty property = new GenericProperty(
+				"concurrent property", configuration, finiteShrinkablesGenerator(IntStream.rangeClosed(1, 10).toArray()),
+				(context, parameters) -> TryExecutionResult.satisfied(), tryLifecycleContextSupplier
+			);
+
+			assertThatThrownBy(() -> property.check(TestHelper.reporter(), new Reporting[0]))
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("Concurrency must be at least 1");
+		}
+	}
+
+	@Group
+	class Profile {
+
+		@Example
+		void profileOfFilteredAndShrunkProperty() {
+			TryLifecycleExecutor failFromTen = (context, parameters) -> {
+				int value = (int) parameters.get(0);
+				if (value >= 10) {
+					return TryExecutionResult.falsified(new AssertionError("value: " + value));
+				}
+				return TryExecutionResult.satisfied();
+			};
+
+			Arbitrary<Object> evenNumbers = Arbitraries.integers().between(0, 1000).filter(i -> i % 2 == 0).map(i -> i);
+			PropertyConfiguration configuration = aConfig().withTries(100).build();
+			GenericProperty property = new GenericProperty(
+				"profiled property", configuration, randomizedShrinkablesGenerator(evenNumbers),
+				failFromTen, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = PropertyProfiler.runWith(
+				new PropertyProfiler(),
+				() -> property.check(TestHelper.reporter(), new Reporting[0])
+			);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.profile()).hasValueSatisfying(profile -> {
+				assertThat(profile.generationDuration()).isPositive();
+				assertThat(profile.executionDuration()).isPositive();
+				assertThat(profile.shrinkingDuration()).isPositive();
+				assertThat(profile.countFilterAttempts()).isGreaterThanOrEqualTo(result.countTries());
+				assertThat(profile.countFilterMisses()).isLessThan(profile.countFilterAttempts());
+				assertThat(profile.shrinkAttemptsPerPhase()).containsKey("one after the other");
+				assertThat(profile.shrinkAttemptsPerPhase().get("one after the other")).isPositive();
+				assertThat(profile.peakRetainedSamples()).isPositive();
+			});
+		}
+
+		@Example
+		void profileOfSatisfiedPropertyHasNoShrinkAttempts() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3);
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property = new GenericProperty(
+				"satisfied property", configuration, randomizedShrinkablesGenerator(arbitrary),
+				forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = PropertyProfiler.runWith(
+				new PropertyProfiler(),
+				() -> property.check(TestHelper.reporter(), new Reporting[0])
+			);
+
+			assertThat(result.profile()).hasValueSatisfying(profile -> {
+				assertThat(profile.shrinkingDuration()).isZero();
+				assertThat(profile.shrinkAttemptsPerPhase()).isEmpty();
+				assertThat(profile.countFilterAttempts()).isZero();
+				assertThat(profile.filterMissRatio()).isZero();
+				assertThat(profile.peakRetainedSamples()).isEqualTo(1);
+			});
+		}
+
+		@Example
+		void executionTimeOfConcurrentTriesIsSummedUp() {
+			TryLifecycleExecutor slowTry = (context, parameters) -> {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				return TryExecutionResult.satisfied();
+			};
+
+			PropertyConfiguration configuration = aConfig().withTries(20)
+														   .withTryExecution(TryExecutionMode.VIRTUAL_THREADS, 4)
+														   .build();
+			GenericProperty property = new GenericProperty(
+				"concurrent property", configuration, finiteShrinkablesGenerator(IntStream.rangeClosed(1, 20).toArray()),
+				slowTry, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = PropertyProfiler.runWith(
+				new PropertyProfiler(),
+				() -> property.check(TestHelper.reporter(), new Reporting[0])
+			);
+
+			assertThat(result.profile()).hasValueSatisfying(profile -> {
+				assertThat(profile.executionDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+				assertThat(profile.peakRetainedSamples()).isGreaterThan(1);
+			});
+		}
+
+		@Example
+		void noProfileIsRecordedWithoutProfiler() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3);
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property = new GenericProperty(
+				"unprofiled property", configuration, randomizedShrinkablesGenerator(arbitrary),
+				forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.profile()).isEmpty();
+		}
+
+		@Example
+		void generationProfileAttributesCostToArbitraries() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			PropertyProfiler profiler = new PropertyProfiler(true);
+
+			PropertyCheckResult result = PropertyProfiler.runWith(profiler, () -> {
+				Arbitrary<Integer> evenNumbers = Arbitraries.integers().between(0, 1000).filter(i -> i % 2 == 0);
+				Arbitrary<Object> arbitrary = evenNumbers.flatMap(i -> Arbitraries.integers().between(0, i).map(j -> j + 1)).map(i -> i);
+				PropertyConfiguration configuration = aConfig().withTries(50).build();
+				GenericProperty property = new GenericProperty(
+					"generation profile", configuration, randomizedShrinkablesGenerator(arbitrary),
+					forAllFunction, tryLifecycleContextSupplier
+				);
+				return property.check(TestHelper.reporter(), new Reporting[0]);
+			});
+
+			assertThat(result.generationProfiler()).hasValueSatisfying(generationProfiler -> {
+				GenerationProfiler.Node map = singleChild(generationProfiler.root());
+				assertThat(map.label()).isEqualTo("map");
+				assertThat(map.invocations()).isBetween(1L, 50L);
+
+				GenerationProfiler.Node flatMap = singleChild(map);
+				assertThat(flatMap.label()).isEqualTo("flatMap");
+				assertThat(flatMap.invocations()).isEqualTo(map.invocations());
+				assertThat(flatMap.totalNanos()).isLessThanOrEqualTo(map.totalNanos());
+				assertThat(flatMap.children()).extracting(GenerationProfiler.Node::label)
+											  .containsExactlyInAnyOrder("filter", "map");
+			});
+		}
+
+		@Example
+		void generationIsNotProfiledByDefault() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().map(i -> i);
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property = new GenericProperty(
+				"no generation profile", configuration, randomizedShrinkablesGenerator(arbitrary),
+				forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.generationProfiler()).isEmpty();
+		}
+
+		private GenerationProfiler.Node singleChild(GenerationProfiler.Node node) {
+			assertThat(node.children()).hasSize(1);
+			return node.children().iterator().next();
+		}
+	}
+
 	@Group
 	class NoParameter {
 		@Example
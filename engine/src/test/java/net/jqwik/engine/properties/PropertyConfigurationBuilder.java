@@ -1,5 +1,7 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
@@ -22,6 +24,9 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private Duration maxDuration = null;
+	private TryExecutionMode tryExecutionMode = null;
+	private Integer concurrency = null;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -68,6 +73,17 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withMaxDuration(Duration maxDuration) {
+		this.maxDuration = maxDuration;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withTryExecution(TryExecutionMode tryExecutionMode, int concurrency) {
+		this.tryExecutionMode = tryExecutionMode;
+		this.concurrency = concurrency;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -78,7 +94,10 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			maxDuration,
+			tryExecutionMode,
+			concurrency
 		);
 
 		return new PropertyConfiguration(
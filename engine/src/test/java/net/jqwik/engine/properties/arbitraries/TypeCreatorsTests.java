@@ -0,0 +1,124 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.providers.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TypeCreatorsTests {
+
+	@Example
+	void creatorsAreComputedOncePerType() {
+		assertThat(TypeCreators.of(Point.class)).isSameAs(TypeCreators.of(Point.class));
+	}
+
+	@Example
+	void abstractTypeHasNoConstructors() {
+		TypeCreators creators = TypeCreators.of(Shape.class);
+
+		assertThat(creators.constructors()).isEmpty();
+		assertThat(creators.staticMethods()).extracting(Method::getName).contains("unit");
+	}
+
+	@Example
+	void privateConstructorIsInvoked() throws Throwable {
+		Constructor<?> constructor = pointConstructor(TypeCreators.of(Point.class));
+
+		Object point = TypeCreators.creator(constructor).create(new Object[]{1, 2});
+
+		assertThat(point).isEqualTo(new Point(1, 2));
+	}
+
+	@Example
+	void staticFactoryMethodIsInvoked() throws Throwable {
+		Method factory = Point.class.getDeclaredMethod("diagonal", int.class);
+
+		Object point = TypeCreators.creator(factory).create(new Object[]{3});
+
+		assertThat(point).isEqualTo(new Point(3, 3));
+	}
+
+	@Example
+	void exceptionOfCreatorIsThrownUnwrapped() throws NoSuchMethodException {
+		Method factory = Point.class.getDeclaredMethod("diagonal", int.class);
+
+		assertThatThrownBy(() -> TypeCreators.creator(factory).create(new Object[]{-1}))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Example
+	void parameterTypesAreResolvedOnce() {
+		TypeCreators creators = TypeCreators.of(Point.class);
+		Constructor<?> constructor = pointConstructor(creators);
+
+		List<TypeUsage> parameterTypes = creators.parameterTypes(constructor);
+
+		assertThat(parameterTypes).containsExactly(TypeUsage.of(int.class), TypeUsage.of(int.class));
+		assertThat(creators.parameterTypes(constructor)).isSameAs(parameterTypes);
+	}
+
+	@Example
+	void parameterTypesAreResolvedPerEnhancerPipeline() {
+		TypeCreators creators = TypeCreators.of(Point.class);
+		Constructor<?> constructor = pointConstructor(creators);
+		TypeUsage.Enhancer nullable = new TypeUsage.Enhancer() {
+			@Override
+			public TypeUsage forParameter(TypeUsage original, Parameter parameter) {
+				return original.asNullable();
+			}
+		};
+
+		List<TypeUsage> plainTypes = creators.parameterTypes(constructor, Collections.emptyList());
+		List<TypeUsage> enhancedTypes = creators.parameterTypes(constructor, Collections.singletonList(nullable));
+
+		assertThat(plainTypes).noneMatch(TypeUsage::isNullable);
+		assertThat(enhancedTypes).allMatch(TypeUsage::isNullable);
+		assertThat(creators.parameterTypes(constructor, Collections.singletonList(nullable))).isSameAs(enhancedTypes);
+	}
+
+	// Older compilers add a synthetic constructor to access the private one
+	private Constructor<?> pointConstructor(TypeCreators creators) {
+		return creators.constructors().stream()
+					   .filter(constructor -> !constructor.isSynthetic())
+					   .findFirst().get();
+	}
+
+	private static abstract class Shape {
+		static Shape unit() {
+			return null;
+		}
+	}
+
+	private static class Point {
+		private final int x;
+		private final int y;
+
+		private Point(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		static Point diagonal(int xy) {
+			if (xy < 0) {
+				throw new IllegalArgumentException();
+			}
+			return new Point(xy, xy);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Point point = (Point) o;
+			return x == point.x && y == point.y;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * x + y;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class DeltaDebuggingShrinkerTests {
+
+	@Example
+	void removeHalvesFirstThenSmallerChunks() {
+		List<Integer> toShrink = asList(1, 2, 3, 4, 5, 6, 7, 8);
+
+		List<List<Integer>> candidates = new DeltaDebuggingShrinker<Integer>(0)
+											 .shrink(toShrink, 2)
+											 .map(Tuple2::get1)
+											 .collect(Collectors.toList());
+
+		assertThat(candidates).startsWith(
+			asList(5, 6, 7, 8),
+			asList(1, 2, 3, 4),
+			asList(3, 4, 5, 6, 7, 8),
+			asList(1, 2, 5, 6, 7, 8),
+			asList(1, 2, 3, 4, 7, 8),
+			asList(1, 2, 3, 4, 5, 6)
+		);
+		assertThat(candidates).endsWith(
+			asList(1, 2, 3, 4, 5, 6, 7)
+		);
+		assertThat(candidates).hasSize(2 + 4 + 8);
+	}
+
+	@Example
+	void candidatesCarryGranularityToContinueWith() {
+		List<Integer> toShrink = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+		List<Integer> nextGranularities = new DeltaDebuggingShrinker<Integer>(0)
+											  .shrink(toShrink, 8)
+											  .map(Tuple2::get2)
+											  .distinct()
+											  .collect(Collectors.toList());
+
+		assertThat(nextGranularities).containsExactly(7, 15, 31, 63, 99);
+	}
+
+	@Example
+	void candidatesRespectMinSize() {
+		List<Integer> toShrink = asList(1, 2, 3, 4, 5, 6);
+
+		List<List<Integer>> candidates = new DeltaDebuggingShrinker<Integer>(4)
+											 .shrink(toShrink, 2)
+											 .map(Tuple2::get1)
+											 .collect(Collectors.toList());
+
+		assertThat(candidates).isNotEmpty();
+		assertThat(candidates).allMatch(candidate -> candidate.size() >= 4);
+	}
+
+	@Example
+	void nothingToShrinkAtMinSize() {
+		assertThat(new DeltaDebuggingShrinker<Integer>(3).shrink(asList(1, 2, 3), 2)).isEmpty();
+	}
+}
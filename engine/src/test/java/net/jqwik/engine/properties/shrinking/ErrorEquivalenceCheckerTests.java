@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.*;
 
 import org.mockito.*;
 
@@ -33,6 +34,25 @@ class ErrorEquivalenceCheckerTests {
 		assertThat(checker.areEquivalent(Optional.ofNullable(e1), Optional.ofNullable(e2))).isFalse();
 	}
 
+	@Example
+	void equivalenceToOriginalErrorIsCheckedByPredicate() throws NoSuchMethodException {
+		ErrorEquivalenceChecker checker = new ErrorEquivalenceChecker(throwExceptionMethod());
+		Predicate<Optional<Throwable>> equivalentToOriginal = checker.equivalentTo(Optional.ofNullable(throwException(IAE)));
+
+		assertThat(equivalentToOriginal.test(Optional.ofNullable(throwException(IAE)))).isTrue();
+		assertThat(equivalentToOriginal.test(Optional.ofNullable(throwException(RTE)))).isFalse();
+		assertThat(equivalentToOriginal.test(Optional.empty())).isFalse();
+	}
+
+	@Example
+	void noOriginalErrorIsOnlyEquivalentToNoError() {
+		ErrorEquivalenceChecker checker = new ErrorEquivalenceChecker(null);
+		Predicate<Optional<Throwable>> equivalentToOriginal = checker.equivalentTo(Optional.empty());
+
+		assertThat(equivalentToOriginal.test(Optional.empty())).isTrue();
+		assertThat(equivalentToOriginal.test(Optional.of(new RuntimeException()))).isFalse();
+	}
+
 	@Example
 	void throwableWithoutStacktraceCanBeHandled() {
 		ErrorEquivalenceChecker checker = new ErrorEquivalenceChecker(null);
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -208,6 +209,45 @@ class ShrinkableListTests {
 			List<Integer> shrunkValue = shrink(shrinkable, falsifier(List::isEmpty), null);
 			assertThat(shrunkValue).hasSize(1);
 		}
+
+		@Example
+		void veryLongListIsShrunkByRemovingChunks() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					IntStream.range(0, 10000)
+							 .mapToObj(Shrinkable::unshrinkable)
+							 .collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 0, 10000);
+
+			AtomicInteger countFalsifierCalls = new AtomicInteger(0);
+			TestingFalsifier<List<Integer>> falsifier = integers -> {
+				countFalsifierCalls.incrementAndGet();
+				return !integers.contains(1234) || !integers.contains(8765);
+			};
+
+			List<Integer> shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(1234, 8765);
+			assertThat(countFalsifierCalls.get()).isLessThan(1000);
+		}
+
+		@Example
+		void smallListIsNotShrunkByRemovingChunks() {
+			Shrinkable<List<Integer>> shrinkable = createShrinkableList(5, 6, 7);
+
+			// Delta debugging would start by removing the first half
+			Optional<List<Integer>> firstCandidate = shrinkable.shrink().map(Shrinkable::value).findFirst();
+			assertThat(firstCandidate).hasValue(Collections.emptyList());
+		}
+
+		@Example
+		void innerElementsOfSmallListAreRemovedLast() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					Arrays.stream(new Integer[]{1, 2, 3}).map(Shrinkable::unshrinkable).collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 0, 3);
+
+			TestingFalsifier<List<Integer>> falsifier = integers -> !integers.contains(1) || !integers.contains(3);
+			List<Integer> shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(1, 3);
+		}
 	}
 
 	@Group
@@ -0,0 +1,81 @@
+package net.jqwik.engine.properties.state;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.state.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShrinkableChainTests {
+
+	private final Arbitrary<Chain<Integer>> chains =
+		Chain.startWith(() -> 0)
+			 .withTransformation(ignore -> Arbitraries.integers().between(1, 100).map(n -> Transformer.transform("+" + n, i -> i + n)))
+			 .withMaxTransformations(10);
+
+	@Example
+	void distanceIsRecalculatedWhenChainGrows() {
+		Shrinkable<Chain<Integer>> shrinkable = chains.generator(1000).next(new Random(42));
+		ShrinkingDistance distanceBeforeRun = shrinkable.distance();
+
+		runToEnd(shrinkable.value());
+
+		assertThat(shrinkable.distance()).isGreaterThan(distanceBeforeRun);
+		assertThat(shrinkable.distance()).isEqualTo(distanceOfChainRunBeforeFirstDistanceCall(42));
+	}
+
+	@Example
+	void distanceStaysCorrectWhenChainIsRerun() {
+		Shrinkable<Chain<Integer>> shrinkable = chains.generator(1000).next(new Random(42));
+		runToEnd(shrinkable.value());
+		ShrinkingDistance distanceAfterFirstRun = shrinkable.distance();
+
+		// Rerunning replaces all iterations with ones that have their state change recorded
+		runToEnd(shrinkable.value());
+
+		assertThat(shrinkable.distance()).isEqualTo(distanceAfterFirstRun);
+		assertThat(shrinkable.distance()).isEqualTo(distanceOfChainRunBeforeFirstDistanceCall(42));
+	}
+
+	@Example
+	void distanceIsUpdatedAfterEveryNewIteration() {
+		Shrinkable<Chain<Integer>> shrinkable = chains.generator(1000).next(new Random(42));
+		Iterator<Integer> iterator = shrinkable.value().start();
+		iterator.next();
+
+		ShrinkingDistance previous = shrinkable.distance();
+		while (iterator.hasNext()) {
+			iterator.next();
+			ShrinkingDistance current = shrinkable.distance();
+			// A transformer that cannot be shrunk any further does not increase the distance
+			assertThat(current).isGreaterThanOrEqualTo(previous);
+			previous = current;
+		}
+		assertThat(previous).isEqualTo(distanceOfChainRunBeforeFirstDistanceCall(42));
+	}
+
+	@Example
+	void shrunkChainsHaveSmallerDistance() {
+		Shrinkable<Chain<Integer>> shrinkable = chains.generator(1000).next(new Random(42));
+		runToEnd(shrinkable.value());
+
+		shrinkable.shrink().limit(20).forEach(candidate -> {
+			runToEnd(candidate.value());
+			assertThat(candidate.distance()).isLessThan(shrinkable.distance());
+		});
+	}
+
+	private ShrinkingDistance distanceOfChainRunBeforeFirstDistanceCall(long seed) {
+		Shrinkable<Chain<Integer>> fresh = chains.generator(1000).next(new Random(seed));
+		runToEnd(fresh.value());
+		return fresh.distance();
+	}
+
+	private void runToEnd(Chain<Integer> chain) {
+		Iterator<Integer> iterator = chain.start();
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package net.jqwik.engine.statistics;
+
+import java.util.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.statistics.*;
+import net.jqwik.engine.hooks.statistics.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.data.Offset.*;
+
+@Group
+class NumberStatisticsTests {
+
+	@Group
+	class Summary {
+
+		@Example
+		void countMinMaxMeanAndStandardDeviation() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+
+			numbers.record(2).record(4).record(4).record(4).record(5).record(5).record(7).record(9);
+
+			assertThat(numbers.count()).isEqualTo(8);
+			assertThat(numbers.min()).isEqualTo(2.0);
+			assertThat(numbers.max()).isEqualTo(9.0);
+			assertThat(numbers.mean()).isEqualTo(5.0);
+			assertThat(numbers.standardDeviation()).isCloseTo(2.138, offset(0.001));
+		}
+
+		@Example
+		void noRecordedValues() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+
+			assertThat(numbers.count()).isEqualTo(0);
+			assertThat(numbers.mean()).isNaN();
+			assertThat(numbers.percentile(50)).isNaN();
+		}
+
+		@Example
+		void nonFiniteValuesAreRejected() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+
+			assertThatThrownBy(() -> numbers.record(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> numbers.record(Double.POSITIVE_INFINITY)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Group
+	class Percentiles {
+
+		@Example
+		void extremePercentilesAreExact() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+
+			numbers.record(-3.3).record(1.1).record(42.42);
+
+			assertThat(numbers.percentile(0)).isEqualTo(-3.3);
+			assertThat(numbers.percentile(100)).isEqualTo(42.42);
+		}
+
+		@Property(tries = 20)
+		void percentilesAreWithinOnePercent(
+			@ForAll Random random,
+			@ForAll @DoubleRange(min = 0.0, max = 100.0) double percentile
+		) {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+			double[] values = new double[10_000];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = Math.exp(random.nextGaussian() * 5) * (random.nextBoolean() ? 1 : -1);
+				numbers.record(values[i]);
+			}
+			Arrays.sort(values);
+
+			double exact = values[(int) Math.floor(percentile / 100.0 * (values.length - 1))];
+			assertThat(numbers.percentile(percentile)).isCloseTo(exact, offset(Math.abs(exact) * 0.01));
+		}
+
+		@Example
+		void invalidPercentile() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+
+			assertThatThrownBy(() -> numbers.percentile(100.1)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Example
+		void bucketEntriesCoverAllValues() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+			for (int i = 0; i < 1000; i++) {
+				numbers.record(i);
+			}
+
+			List<StatisticsEntryImpl> entries = numbers.bucketEntries();
+			assertThat(entries.stream().mapToInt(StatisticsEntry::count).sum()).isEqualTo(1000);
+			assertThat(entries.size()).isLessThan(1000);
+		}
+	}
+
+	@Group
+	class Coverage {
+
+		@Example
+		void fulfilledChecks() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+			for (int i = 1; i <= 100; i++) {
+				numbers.record(i);
+			}
+
+			numbers.coverage(coverage -> {
+				coverage.count(c -> c == 100);
+				coverage.min(m -> m == 1.0);
+				coverage.max(m -> m == 100.0);
+				coverage.mean(m -> m == 50.5);
+				coverage.percentile(90, p -> p > 85 && p < 95);
+			});
+			numbers.checkCoverage();
+		}
+
+		@Example
+		void failingPercentileCheck() {
+			NumberStatisticsImpl numbers = new NumberStatisticsImpl("a label");
+			for (int i = 1; i <= 100; i++) {
+				numbers.record(i);
+			}
+
+			numbers.coverage(coverage -> coverage.percentile(90, p -> p < 50));
+
+			assertThatThrownBy(numbers::checkCoverage)
+				.isInstanceOf(AssertionFailedError.class)
+				.hasMessageContaining("Percentile 90")
+				.hasMessageContaining("a label");
+		}
+	}
+}
@@ -239,4 +239,91 @@ class StatisticsCollectionTests {
 		}
 
 	}
+
+	@Group
+	class BoundedMemory {
+
+		@Example
+		void valuesBeyondMaxDistinctValuesAreOnlyCountedInTotal() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", 2);
+
+			collector.collect("one");
+			collector.collect("two");
+			collector.collect("three");
+			collector.collect("one");
+			collector.collect("four");
+
+			assertThat(collector.countAllCollects()).isEqualTo(5);
+			assertThat(collector.countOthers()).isEqualTo(2);
+			assertThat(collector.count("one")).isEqualTo(2);
+			assertThat(collector.count("three")).isEqualTo(0);
+			assertThat(collector.percentage("one")).isEqualTo(40.0);
+			assertThat(collector.getCounts()).containsOnlyKeys(asList("one"), asList("two"));
+		}
+
+		@Example
+		void concurrentCollectsAreAllCounted() throws InterruptedException {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			List<Thread> threads = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				Thread thread = new Thread(() -> {
+					for (int j = 0; j < 1000; j++) {
+						collector.collect(j % 10);
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			assertThat(collector.countAllCollects()).isEqualTo(4000);
+			assertThat(collector.count(3)).isEqualTo(400);
+		}
+
+		@Example
+		void coverageOfValuesCountedSeparatelyCanStillBeChecked() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", 2);
+			collector.collect("one");
+			collector.collect("two");
+			collector.collect("three");
+
+			collector.coverage(coverage -> coverage.check("one").count(c -> c == 1));
+			collector.coverage(coverage -> coverage.check("one").percentage(p -> p > 33.0 && p < 34.0));
+
+			collector.checkCoverage();
+		}
+
+		@Example
+		void coverageChecksThatMightDependOnValuesNotCountedSeparatelyFail() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", 2);
+			collector.collect("one");
+			collector.collect("two");
+			collector.collect("three");
+
+			collector.coverage(coverage -> coverage.check("three").count(c -> c == 1));
+			assertThatThrownBy(collector::checkCoverage)
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("Values not counted separately: 1");
+		}
+
+		@Example
+		void queriesAndPatternsFailWhenValuesWereNotCountedSeparately() {
+			StatisticsCollectorImpl queried = new StatisticsCollectorImpl("a label", 2);
+			queried.collect("one");
+			queried.collect("two");
+			queried.collect("three");
+			queried.coverage(coverage -> coverage.checkQuery(values -> values.get(0).equals("three")).count(c -> c == 1));
+			assertThatThrownBy(queried::checkCoverage).isInstanceOf(JqwikException.class);
+
+			StatisticsCollectorImpl matched = new StatisticsCollectorImpl("a label", 2);
+			matched.collect("one");
+			matched.collect("two");
+			matched.collect("three");
+			matched.coverage(coverage -> coverage.checkPattern("t.*").count(c -> c == 2));
+			assertThatThrownBy(matched::checkCoverage).isInstanceOf(JqwikException.class);
+		}
+	}
 }
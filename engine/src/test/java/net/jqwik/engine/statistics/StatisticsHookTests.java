@@ -3,6 +3,7 @@ package net.jqwik.engine.statistics;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.statistics.*;
 import net.jqwik.testing.*;
@@ -51,6 +52,29 @@ class StatisticsHookTests {
 		}
 	}
 
+	@Property(generation = GenerationMode.EXHAUSTIVE)
+	@StatisticsReport(maxDistinctValues = 3)
+	@StatisticsReport(label = "second", maxDistinctValues = 5)
+	@AddLifecycleHook(CheckMaxDistinctValues.class)
+	void maxDistinctValuesForAllLabelsAndSingleLabel(@ForAll @IntRange(min = 1, max = 10) int anInt) {
+		Statistics.label("first").collect(anInt);
+		Statistics.label("second").collect(anInt);
+	}
+
+	private static class CheckMaxDistinctValues extends CheckReporting {
+		@Override
+		public void check(Reporter mockReporter) {
+			verify(mockReporter).publishValue(
+					contains("first"),
+					contains("only the first 3 distinct values")
+			);
+			verify(mockReporter).publishValue(
+					contains("second"),
+					contains("only the first 5 distinct values")
+			);
+		}
+	}
+
 	private class FirstFormat implements StatisticsReportFormat {
 		@Override
 		public List<String> formatReport(List<StatisticsEntry> entries) {
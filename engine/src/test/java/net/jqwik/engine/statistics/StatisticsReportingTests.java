@@ -53,6 +53,22 @@ class StatisticsReportingTests {
 			assertThat(publishedReport).isEqualTo(String.format("%n    line1%n    line2"));
 		}
 
+		@Example
+		void values_not_counted_separately_are_reported_in_a_last_line() {
+			StatisticsCollectorImpl boundedCollector = new StatisticsCollectorImpl("a label", 2);
+			boundedCollector.collect(1);
+			boundedCollector.collect(2);
+			boundedCollector.collect(3);
+			boundedCollector.collect(4);
+			StatisticsReportFormat format = entries -> Arrays.asList("line1", "line2");
+			StatisticsPublisher reportGenerator = new StatisticsPublisher(boundedCollector, format);
+			reportGenerator.publish(this, "myProperty");
+			assertThat(publishedKey).isEqualTo("[myProperty] (4) a label");
+			assertThat(publishedReport).isEqualTo(String.format(
+				"%n    line1%n    line2%n    <other values> (2) : 50.00 %% (only the first 2 distinct values are counted separately)"
+			));
+		}
+
 		@Example
 		void empty_report_is_not_being_published() {
 			StatisticsReportFormat format = entries -> Collections.emptyList();
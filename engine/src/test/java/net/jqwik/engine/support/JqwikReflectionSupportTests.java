@@ -157,6 +157,46 @@ class JqwikReflectionSupportTests {
 		}
 	}
 
+	@Group
+	class InvokeMethod {
+
+		@Example
+		void privateMethodWithPrimitiveParameters() throws NoSuchMethodException {
+			Method method = Outer.class.getDeclaredMethod("add", int.class, Integer.class);
+			Object result = JqwikReflectionSupport.invokeMethod(method, new Outer(), 1, 2);
+			assertThat(result).isEqualTo(3);
+		}
+
+		@Example
+		void staticMethodWithoutTarget() throws NoSuchMethodException {
+			Method method = Outer.class.getDeclaredMethod("exclaim", String.class);
+			Object result = JqwikReflectionSupport.invokeMethod(method, null, "hello");
+			assertThat(result).isEqualTo("hello!");
+		}
+
+		@Example
+		void voidMethodReturnsNull() throws NoSuchMethodException {
+			Method method = Outer.class.getDeclaredMethod("doNothing");
+			assertThat(JqwikReflectionSupport.invokeMethod(method, new Outer())).isNull();
+		}
+
+		@Example
+		void exceptionIsThrownUnwrapped() throws NoSuchMethodException {
+			Method method = Outer.class.getDeclaredMethod("fail");
+			assertThatThrownBy(() -> JqwikReflectionSupport.invokeMethod(method, new Outer()))
+				.isInstanceOf(IOException.class)
+				.hasMessage("failed");
+		}
+
+		@Example
+		void methodOfOuterInstance() throws NoSuchMethodException {
+			Method method = Outer.class.getDeclaredMethod("add", int.class, Integer.class);
+			Outer.Inner inner = new Outer().createInner();
+			Object result = JqwikReflectionSupport.invokeMethodPotentiallyOuter(method, inner, 3, 4);
+			assertThat(result).isEqualTo(7);
+		}
+	}
+
 	@Example
 	void isFunctionalType() {
 		assertThat(JqwikReflectionSupport.isFunctionalType(Function.class)).isTrue();
@@ -198,6 +238,21 @@ class JqwikReflectionSupportTests {
 			return new Inner();
 		}
 
+		private int add(int a, Integer b) {
+			return a + b;
+		}
+
+		private static String exclaim(String aString) {
+			return aString + "!";
+		}
+
+		void doNothing() {
+		}
+
+		void fail() throws IOException {
+			throw new IOException("failed");
+		}
+
 		class Inner {
 
 		}
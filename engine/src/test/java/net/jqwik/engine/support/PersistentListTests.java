@@ -0,0 +1,90 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Label("PersistentList")
+class PersistentListTests {
+
+	@Example
+	void copyOfPersistentListReturnsSameInstance() {
+		PersistentList<Integer> list = PersistentList.copyOf(Arrays.asList(1, 2, 3));
+		assertThat(PersistentList.copyOf(list)).isSameAs(list);
+	}
+
+	@Example
+	void emptyList() {
+		assertThat(PersistentList.empty()).isEmpty();
+		assertThat(PersistentList.empty()).isEqualTo(Collections.emptyList());
+	}
+
+	@Example
+	void changesDoNotAffectOriginalList() {
+		List<Integer> original = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+		PersistentList<Integer> list = PersistentList.copyOf(original);
+
+		PersistentList<Integer> changed = list.with(50, -1).without(0).withoutRange(10, 20);
+
+		assertThat(list).isEqualTo(original);
+		assertThat(changed).hasSize(89);
+		assertThat(changed.get(39)).isEqualTo(-1);
+	}
+
+	@Example
+	void indexOutOfBounds() {
+		PersistentList<Integer> list = PersistentList.copyOf(Arrays.asList(1, 2, 3));
+
+		assertThatThrownBy(() -> list.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> list.with(-1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> list.withoutRange(2, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Property(tries = 100)
+	void behavesLikeArrayList(
+		@ForAll @Size(max = 500) List<Integer> elements,
+		@ForAll @Size(max = 50) List<@From("operations") Tuple3<Integer, Double, Double>> operations
+	) {
+		List<Integer> expected = new ArrayList<>(elements);
+		PersistentList<Integer> actual = PersistentList.copyOf(elements);
+
+		for (Tuple3<Integer, Double, Double> operation : operations) {
+			if (expected.isEmpty()) {
+				break;
+			}
+			int from = (int) (operation.get2() * expected.size());
+			int to = from + (int) (operation.get3() * (expected.size() - from));
+			switch (operation.get1()) {
+				case 0:
+					int index = Math.min(from, expected.size() - 1);
+					expected.set(index, -index);
+					actual = actual.with(index, -index);
+					break;
+				case 1:
+					expected.subList(from, to).clear();
+					actual = actual.withoutRange(from, to);
+					break;
+				default:
+					expected = new ArrayList<>(expected.subList(from, to));
+					actual = actual.subList(from, to);
+			}
+			assertThat(actual).isEqualTo(expected);
+			assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+			assertThat(actual.toArray()).isEqualTo(expected.toArray());
+		}
+	}
+
+	@Provide
+	Arbitrary<Tuple3<Integer, Double, Double>> operations() {
+		return Combinators.combine(
+			Arbitraries.integers().between(0, 2),
+			Arbitraries.doubles().between(0.0, 1.0).ofScale(3),
+			Arbitraries.doubles().between(0.0, 1.0).ofScale(3)
+		).as(Tuple::of);
+	}
+}
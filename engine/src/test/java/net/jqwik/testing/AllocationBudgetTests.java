@@ -0,0 +1,119 @@
+package net.jqwik.testing;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AllocationBudgetTests {
+
+	private static final int TEN_MB = 10 * 1024 * 1024;
+
+	private static volatile Object sink;
+
+	@Property(tries = 100)
+	@AllocationBudget(perTry = "64B")
+	void noAllocations(@ForAll int anInt) {
+		sink = anInt > 0 ? this : null;
+	}
+
+	@Property(tries = 100)
+	@AllocationBudget(perTry = "1KB")
+	void allocationsWithinBudget(@ForAll @IntRange(max = 512) int size) {
+		sink = new byte[size];
+	}
+
+	@Property(tries = 100)
+	@AllocationBudget(perTry = "1KB")
+	@ExpectFailure(failureType = AssertionFailedError.class, checkResult = ShrinksToSmallestSizeOverBudget.class)
+	void exceededBudgetFalsifiesTry(@ForAll @IntRange(max = 10_000) int size) {
+		sink = new byte[size];
+	}
+
+	private class ShrinksToSmallestSizeOverBudget implements Consumer<PropertyExecutionResult> {
+		@Override
+		public void accept(PropertyExecutionResult result) {
+			assertThat(result.throwable()).hasValueSatisfying(
+				throwable -> assertThat(throwable).hasMessageContaining("exceeds budget of 1.0 KB")
+			);
+			List<Object> shrunkSample = result.falsifiedParameters().get();
+			// Exact size depends on the JVM's object layout
+			assertThat((int) shrunkSample.get(0)).isBetween(800, 1024);
+		}
+	}
+
+	@Property(tries = 100)
+	@AllocationBudget(perShrinkStep = "0", warmupTries = 0)
+	@ExpectFailure(checkResult = ShrinkStepBudgetExceeded.class)
+	void exceededShrinkStepBudgetFailsProperty(@ForAll List<String> aList) {
+		assertThat(aList).hasSizeLessThan(5);
+	}
+
+	private class ShrinkStepBudgetExceeded implements Consumer<PropertyExecutionResult> {
+		@Override
+		public void accept(PropertyExecutionResult result) {
+			assertThat(result.throwable()).hasValueSatisfying(throwable -> {
+				assertThat(throwable).hasMessageStartingWith("Shrink step allocated");
+				assertThat(throwable.getCause()).hasMessageContaining("size");
+			});
+		}
+	}
+
+	@Group
+	class ShrinkSteps {
+
+		@BeforeTry
+		void allocateBeforeTry() {
+			sink = new byte[TEN_MB];
+		}
+
+		@Property(tries = 100)
+		@AllocationBudget(perShrinkStep = "5MB", warmupTries = 0)
+		@AddLifecycleHook(AllocatingAroundTry.class)
+		@ExpectFailure(checkResult = OriginalFailureOnly.class)
+		void hooksAndLifecycleMethodsAreNotCounted(@ForAll List<String> aList) {
+			assertThat(aList).hasSizeLessThan(5);
+		}
+	}
+
+	private static class AllocatingAroundTry implements AroundTryHook {
+		@Override
+		public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) {
+			sink = new byte[TEN_MB];
+			return aTry.execute(parameters);
+		}
+	}
+
+	private class OriginalFailureOnly implements Consumer<PropertyExecutionResult> {
+		@Override
+		public void accept(PropertyExecutionResult result) {
+			assertThat(result.throwable()).hasValueSatisfying(
+				throwable -> assertThat(throwable).hasMessageNotContaining("Shrink step allocated")
+			);
+		}
+	}
+
+	@Example
+	void parseBudgets() {
+		assertThat(AllocationBudget.Hook.parseBytes("")).isEqualTo(-1);
+		assertThat(AllocationBudget.Hook.parseBytes("0")).isEqualTo(0);
+		assertThat(AllocationBudget.Hook.parseBytes("512")).isEqualTo(512);
+		assertThat(AllocationBudget.Hook.parseBytes("512B")).isEqualTo(512);
+		assertThat(AllocationBudget.Hook.parseBytes("10KB")).isEqualTo(10 * 1024);
+		assertThat(AllocationBudget.Hook.parseBytes("10 kb")).isEqualTo(10 * 1024);
+		assertThat(AllocationBudget.Hook.parseBytes("1.5MB")).isEqualTo(1536 * 1024);
+		assertThat(AllocationBudget.Hook.parseBytes("2GB")).isEqualTo(2L * 1024 * 1024 * 1024);
+	}
+
+	@Example
+	void invalidBudgetsAreRejected() {
+		assertThatThrownBy(() -> AllocationBudget.Hook.parseBytes("10 kilobytes")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> AllocationBudget.Hook.parseBytes("-1KB")).isInstanceOf(JqwikException.class);
+	}
+}
@@ -0,0 +1,45 @@
+package net.jqwik.kotlin.api
+
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import org.apiguardian.api.API
+import kotlin.reflect.KClass
+
+/**
+ * Configure the coroutines in which the tries of a property with `suspend` modifier run.
+ *
+ * The annotation can be added to a property method or to its container class.
+ * All tries of a property run as coroutines in a single scope.
+ * Without this annotation they are dispatched with [Dispatchers.Default].
+ */
+@Target(AnnotationTarget.FUNCTION, AnnotationTarget.CLASS)
+@Retention(AnnotationRetention.RUNTIME)
+@MustBeDocumented
+@API(status = API.Status.EXPERIMENTAL, since = "1.8.2")
+annotation class SuspendedTries(
+    /**
+     * Class that provides the dispatcher for the tries' coroutines.
+     * Must have a default constructor.
+     */
+    val dispatcher: KClass<out DispatcherProvider> = DefaultDispatcher::class,
+    /**
+     * The maximum number of threads on which the tries' coroutines run in parallel.
+     * 0 means that only the dispatcher's own limit applies.
+     */
+    val parallelism: Int = 0
+) {
+
+    /**
+     * Provides the dispatcher for the coroutines of a property's tries.
+     * It is asked once per property and stays responsible for shutting down dispatchers it creates.
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.8.2")
+    fun interface DispatcherProvider {
+        fun dispatcher(): CoroutineDispatcher
+    }
+
+    @API(status = API.Status.EXPERIMENTAL, since = "1.8.2")
+    class DefaultDispatcher : DispatcherProvider {
+        override fun dispatcher(): CoroutineDispatcher = Dispatchers.Default
+    }
+}
@@ -1,44 +1,68 @@
 package net.jqwik.kotlin.internal
 
-import kotlinx.coroutines.runBlocking
+import net.jqwik.api.Tuple
+import net.jqwik.api.facades.ReflectionSupportFacade
 import net.jqwik.api.lifecycle.*
 import net.jqwik.api.lifecycle.ResolveParameterHook.ParameterSupplier
 import java.lang.reflect.AnnotatedElement
 import java.lang.reflect.Method
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.coroutines.Continuation
 import kotlin.coroutines.EmptyCoroutineContext
-import kotlin.reflect.KFunction
-import kotlin.reflect.full.callSuspend
+import kotlin.coroutines.intrinsics.suspendCoroutineUninterceptedOrReturn
 import kotlin.reflect.jvm.kotlinFunction
 
 /**
  * Provide continuation object in those cases where property methods are modified with "suspend".
- * Invoke suspended method using [callSuspend].
+ * Invoke suspended method directly with the continuation of a coroutine.
+ *
+ * All tries of a property run as coroutines in one [SuspendedTriesScope],
+ * which is configured by [net.jqwik.kotlin.api.SuspendedTries].
+ * Each try's thread waits until its coroutine has finished so that the engine
+ * can evaluate and shrink tries the same way as for other properties.
+ * Tries run concurrently with [net.jqwik.api.TryExecutionMode.VIRTUAL_THREADS].
+ * After a try has failed the engine interrupts the threads of remaining tries,
+ * which cancels their coroutines.
  */
 class SuspendedPropertyMethodsHook : ResolveParameterHook, InvokePropertyMethodHook {
 
+    private companion object {
+        // Looking up the Kotlin function of a method is expensive
+        val suspendFunctions = ConcurrentHashMap<Method, Boolean>()
+
+        val triesScopeIdentifier = Tuple.of(SuspendedPropertyMethodsHook::class.java, "tries scope")
+    }
+
     override fun propagateTo(): PropagationMode = PropagationMode.ALL_DESCENDANTS
 
     override fun appliesTo(element: Optional<AnnotatedElement>) =
         element.map { e -> e.isSuspendFunction() }.orElse(false)
 
-    @Suppress("UNCHECKED_CAST")
-    override fun invoke(method: Method, target: Any, vararg args: Any): Any {
-        val kotlinFunction: KFunction<Any> =
-            (method.kotlinFunction ?: return InvokePropertyMethodHook.DEFAULT.invoke(
-                method,
-                target,
-                args
-            )) as KFunction<Any>
-        return runBlocking {
-            val rest = args.copyOfRange(0, args.size - 1)
-            kotlinFunction.callSuspend(target, *rest)
+    override fun invoke(method: Method, target: Any, vararg args: Any): Any? {
+        if (!method.isSuspendFunction()) {
+            return invokeMethod(method, target, *args)
+        }
+        val rest = args.copyOfRange(0, args.size - 1)
+        val triesScope = Store.getOrCreate(triesScopeIdentifier, Lifespan.PROPERTY) {
+            SuspendedTriesScope.forMethod(method)
+        }.get()
+        return triesScope.runTry {
+            callSuspend(method, target, rest)
         }
     }
 
+    private suspend fun callSuspend(method: Method, target: Any, args: Array<out Any>): Any? =
+        suspendCoroutineUninterceptedOrReturn { continuation ->
+            invokeMethod(method, target, *args, continuation)
+        }
+
+    // Same cached invocation as the engine uses for property methods without this hook
+    private fun invokeMethod(method: Method, target: Any, vararg args: Any): Any? =
+        ReflectionSupportFacade.implementation.invokeMethod(method, target, *args)
+
     private fun AnnotatedElement.isSuspendFunction() =
-        this is Method && this.kotlinFunction?.isSuspend ?: false
+        this is Method && suspendFunctions.computeIfAbsent(this) { method -> method.kotlinFunction?.isSuspend ?: false }
 
     override fun resolve(
         parameterContext: ParameterResolutionContext,
@@ -0,0 +1,116 @@
+package net.jqwik.kotlin.internal
+
+import kotlinx.coroutines.*
+import net.jqwik.api.JqwikException
+import net.jqwik.api.facades.ReflectionSupportFacade
+import net.jqwik.api.facades.ThreadContextFacade
+import net.jqwik.api.lifecycle.Store
+import net.jqwik.kotlin.api.SuspendedTries
+import java.lang.reflect.Method
+import java.util.concurrent.CountDownLatch
+import kotlin.coroutines.CoroutineContext
+
+/**
+ * The coroutine scope in which all tries of a property run.
+ *
+ * A failing try does not cancel its siblings because tries generated before it
+ * must still be evaluated in order. The engine cancels the remaining tries
+ * once it has evaluated the first failing try, which cancels their coroutines.
+ * Closing the scope at the end of the property cancels all coroutines still running in it
+ * and waits for them to finish.
+ */
+internal class SuspendedTriesScope(dispatcher: CoroutineDispatcher) : Store.CloseOnReset {
+
+    private val job = SupervisorJob()
+    private val scope = CoroutineScope(job + dispatcher + CoroutineName("jqwik-tries"))
+
+    /**
+     * Blocks the calling try's thread until its coroutine has finished.
+     * If that thread is interrupted the coroutine is cancelled.
+     */
+    @OptIn(ExperimentalCoroutinesApi::class)
+    fun <T> runTry(block: suspend CoroutineScope.() -> T): T {
+        val tryCoroutine = scope.async(JqwikThreadContext(), block = block)
+        val finished = CountDownLatch(1)
+        tryCoroutine.invokeOnCompletion { finished.countDown() }
+        try {
+            finished.await()
+        } catch (interrupted: InterruptedException) {
+            tryCoroutine.cancel(CancellationException("Try was cancelled", interrupted))
+            awaitUninterruptibly(finished)
+            throw interrupted
+        }
+        tryCoroutine.getCompletionExceptionOrNull()?.let { throw it }
+        return tryCoroutine.getCompleted()
+    }
+
+    private fun awaitUninterruptibly(latch: CountDownLatch) {
+        var interrupted = false
+        while (true) {
+            try {
+                latch.await()
+                break
+            } catch (e: InterruptedException) {
+                interrupted = true
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt()
+        }
+    }
+
+    override fun close() {
+        runBlocking { job.cancelAndJoin() }
+    }
+
+    companion object {
+
+        @OptIn(ExperimentalCoroutinesApi::class)
+        fun forMethod(method: Method): SuspendedTriesScope {
+            val configuration = method.suspendedTries()
+            if (configuration == null) {
+                return SuspendedTriesScope(SuspendedTries.DefaultDispatcher().dispatcher())
+            }
+            if (configuration.parallelism < 0) {
+                val message = "@SuspendedTries(parallelism = ${configuration.parallelism}) must not be negative in $method"
+                throw JqwikException(message)
+            }
+            val provider = ReflectionSupportFacade.implementation.newInstanceWithDefaultConstructor(configuration.dispatcher.java)
+            val dispatcher = provider.dispatcher()
+            if (configuration.parallelism == 0) {
+                return SuspendedTriesScope(dispatcher)
+            }
+            return SuspendedTriesScope(dispatcher.limitedParallelism(configuration.parallelism))
+        }
+
+        private fun Method.suspendedTries(): SuspendedTries? {
+            getAnnotation(SuspendedTries::class.java)?.let { return it }
+            var container: Class<*>? = declaringClass
+            while (container != null) {
+                container.getAnnotation(SuspendedTries::class.java)?.let { return it }
+                container = container.enclosingClass
+            }
+            return null
+        }
+    }
+}
+
+/**
+ * Carries the current property, try scope and domain context of the thread that starts a try
+ * to all threads its coroutine runs on.
+ * Stores, statistics and default arbitraries rely on them.
+ */
+private class JqwikThreadContext(
+    private val capturedContext: Any = ThreadContextFacade.implementation.capture()
+) : ThreadContextElement<Any> {
+
+    companion object Key : CoroutineContext.Key<JqwikThreadContext>
+
+    override val key: CoroutineContext.Key<JqwikThreadContext> get() = Key
+
+    override fun updateThreadContext(context: CoroutineContext): Any =
+        ThreadContextFacade.implementation.install(capturedContext)
+
+    override fun restoreThreadContext(context: CoroutineContext, oldState: Any) =
+        ThreadContextFacade.implementation.restore(oldState)
+}
@@ -1,16 +1,32 @@
 package net.jqwik.kotlin
 
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.asCoroutineDispatcher
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.test.runTest
+import kotlinx.coroutines.withContext
 import net.jqwik.api.Example
 import net.jqwik.api.ForAll
+import net.jqwik.api.GenerationMode
 import net.jqwik.api.Group
 import net.jqwik.api.Property
+import net.jqwik.api.ShrinkingMode
+import net.jqwik.api.TryExecutionMode
 import net.jqwik.api.constraints.AlphaChars
+import net.jqwik.api.constraints.IntRange
+import net.jqwik.api.lifecycle.Lifespan
+import net.jqwik.api.lifecycle.PropertyExecutionResult
+import net.jqwik.api.lifecycle.Store
+import net.jqwik.kotlin.api.SuspendedTries
 import net.jqwik.kotlin.api.runBlockingProperty
 import net.jqwik.testing.ExpectFailure
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.fail
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Consumer
 
 @Group
 class SuspendedPropertiesTests {
@@ -86,6 +102,96 @@ class SuspendedPropertiesTests {
         }
     }
 
+    @Group
+    inner class ConcurrentTries {
+
+        @Property(tries = 50, tryExecution = TryExecutionMode.VIRTUAL_THREADS, concurrency = 10)
+        suspend fun succeedingAssertion(@ForAll @AlphaChars string: String) {
+            assertThat(echo(string)).isEqualTo(string)
+        }
+
+        @Property(tries = 50, tryExecution = TryExecutionMode.VIRTUAL_THREADS, concurrency = 10)
+        @ExpectFailure
+        suspend fun failingAssertion(@ForAll @AlphaChars string: String) {
+            assertThat(echo(string)).isEmpty()
+        }
+
+        private val suspendedSiblings = AtomicInteger(0)
+        private val cancelledSiblings = AtomicInteger(0)
+
+        @Property(
+            generation = GenerationMode.EXHAUSTIVE,
+            shrinking = ShrinkingMode.OFF,
+            tryExecution = TryExecutionMode.VIRTUAL_THREADS,
+            concurrency = 10
+        )
+        @ExpectFailure(checkResult = AllSiblingsCancelled::class)
+        suspend fun failingTryCancelsSuspendedSiblings(@ForAll @IntRange(min = 0, max = 9) index: Int) {
+            if (index == 0) {
+                while (suspendedSiblings.get() < 9) {
+                    delay(10)
+                }
+                fail<Unit>("first try fails")
+            }
+            suspendedSiblings.incrementAndGet()
+            try {
+                delay(60_000)
+            } catch (cancellation: CancellationException) {
+                cancelledSiblings.incrementAndGet()
+                throw cancellation
+            }
+        }
+
+        inner class AllSiblingsCancelled : Consumer<PropertyExecutionResult> {
+            override fun accept(result: PropertyExecutionResult) {
+                assertThat(result.falsifiedParameters().get().first()).isEqualTo(0)
+                assertThat(cancelledSiblings.get()).isEqualTo(9)
+            }
+        }
+    }
+
+    @Group
+    inner class CoroutineScopeOfTries {
+
+        private val runningTries = AtomicInteger(0)
+
+        @Property(tries = 20, tryExecution = TryExecutionMode.VIRTUAL_THREADS, concurrency = 10)
+        suspend fun tryStoresSurviveThreadSwitches(@ForAll index: Int) {
+            val store = Store.getOrCreate("index", Lifespan.TRY) { 0 }
+            store.update { index }
+            withContext(Dispatchers.IO) {
+                delay(5)
+            }
+            assertThat(store.get()).isEqualTo(index)
+        }
+
+        @Property(tries = 20, tryExecution = TryExecutionMode.VIRTUAL_THREADS, concurrency = 10)
+        @SuspendedTries(parallelism = 1)
+        suspend fun parallelismLimitsThreadsRunningTries(@ForAll index: Int) {
+            assertThat(runningTries.incrementAndGet()).isEqualTo(1)
+            Thread.sleep(2)
+            runningTries.decrementAndGet()
+            delay(5)
+        }
+
+        @Property(tries = 10)
+        @SuspendedTries(dispatcher = TestDispatcherProvider::class)
+        suspend fun triesRunOnProvidedDispatcher(@ForAll index: Int) {
+            delay(1)
+            assertThat(Thread.currentThread().name).isEqualTo("test-dispatcher")
+        }
+    }
+
+    class TestDispatcherProvider : SuspendedTries.DispatcherProvider {
+        companion object {
+            val dispatcher = Executors.newSingleThreadExecutor { runnable ->
+                Thread(runnable, "test-dispatcher").apply { isDaemon = true }
+            }.asCoroutineDispatcher()
+        }
+
+        override fun dispatcher() = TestDispatcherProvider.dispatcher
+    }
+
     @ExperimentalCoroutinesApi
     @Group
     inner class CheckCompatibilityWithCoroutineTestModule {
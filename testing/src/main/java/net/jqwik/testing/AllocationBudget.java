@@ -0,0 +1,201 @@
+package net.jqwik.testing;
+
+import java.lang.annotation.*;
+import java.util.*;
+import java.util.regex.*;
+
+import org.apiguardian.api.*;
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.support.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Used to annotate properties whose code must not allocate more heap memory than budgeted.
+ *
+ * <p>
+ * Allocations are measured per thread through {@code com.sun.management.ThreadMXBean},
+ * which is supported by HotSpot and OpenJ9.
+ * The report of an annotated property shows the maximum and average number of bytes
+ * allocated per try and per shrink step.
+ * </p>
+ *
+ * <p>
+ * Budgets are given in bytes, optionally followed by a unit: {@code B}, {@code KB}, {@code MB} or {@code GB},
+ * e.g. {@code "0"}, {@code "512B"}, {@code "10KB"} or {@code "1.5MB"}.
+ * </p>
+ *
+ * <p>
+ * The first tries of a property allocate for one-time work like class initialization
+ * or generating reflective accessors. They are therefore neither measured nor checked,
+ * see {@linkplain #warmupTries()}.
+ * </p>
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@AddLifecycleHook(AllocationBudget.Hook.class)
+@AddLifecycleHook(AllocationBudget.BetweenTriesHook.class)
+@API(status = EXPERIMENTAL, since = "1.8.2")
+public @interface AllocationBudget {
+
+	/**
+	 * Maximum number of bytes the property method may allocate in a single try.
+	 * A try that exceeds the budget is falsified, which will also shrink to a sample that exceeds the budget.
+	 * Allocations of lifecycle hooks and {@linkplain BeforeTry} methods are not counted.
+	 * Invoking the property method itself allocates a few bytes (40 bytes on a typical 64 bit JVM),
+	 * so use a budget like {@code "64B"} to check that code does not allocate.
+	 */
+	String perTry() default "";
+
+	/**
+	 * Maximum number of bytes the engine may allocate between two tries while shrinking.
+	 * That is mostly creating the next shrinking candidate through the arbitraries' shrinkables,
+	 * but also the engine's own bookkeeping, e.g. skipping candidates that have already been tried.
+	 * Neither the property method nor lifecycle hooks and {@linkplain BeforeTry}/{@linkplain AfterTry} methods are counted.
+	 * If any shrink step exceeds the budget, the property fails with an {@linkplain AssertionFailedError}
+	 * whose cause is the property's original failure.
+	 */
+	String perShrinkStep() default "";
+
+	/**
+	 * Number of tries at the start of a property that are not measured.
+	 */
+	int warmupTries() default 20;
+
+	class Hook implements AroundPropertyHook, AroundTryHook {
+
+		private static final Object ALLOCATIONS_ID = Tuple.of(Hook.class, "allocations");
+
+		@Override
+		public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) {
+			if (!ThreadAllocations.isAvailable()) {
+				String message = "Allocation budgets cannot be checked: This JVM does not support measuring allocations per thread";
+				throw new JqwikException(message);
+			}
+			AllocationBudget budget = findBudget(context);
+			if (budget.warmupTries() < 0) {
+				throw new JqwikException("@AllocationBudget.warmupTries must not be negative");
+			}
+			Store<PropertyAllocations> allocationsStore = Store.create(
+				ALLOCATIONS_ID,
+				Lifespan.PROPERTY,
+				() -> new PropertyAllocations(
+					parseBytes(budget.perTry()),
+					parseBytes(budget.perShrinkStep()),
+					budget.warmupTries()
+				)
+			);
+
+			PropertyExecutionResult executionResult = property.execute();
+
+			PropertyAllocations allocations = allocationsStore.get();
+			context.reporter().publishReports(String.format("allocations of %s", context.extendedLabel()), allocations.report());
+			// Shrinking only happens in failing properties, so a violated shrink step budget replaces the original failure
+			return allocations.shrinkStepViolation()
+							  .map(message -> executionResult.mapToFailed(
+								  new AssertionFailedError(message, executionResult.throwable().orElse(null))
+							  ))
+							  .orElse(executionResult);
+		}
+
+		@Override
+		public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) {
+			PropertyAllocations allocations = Store.<PropertyAllocations>get(ALLOCATIONS_ID).get();
+			long startBytes = ThreadAllocations.currentThread();
+			TryExecutionResult result = aTry.execute(parameters);
+			long allocatedBytes = ThreadAllocations.since(startBytes);
+			return allocations.checkTry(allocatedBytes, result);
+		}
+
+		@Override
+		public int aroundPropertyProximity() {
+			// Inside of ExpectFailure so that exceeded budgets can be expected in tests
+			return -20;
+		}
+
+		@Override
+		public int aroundTryProximity() {
+			// As close to the property method as possible so that other hooks are not counted
+			return 100;
+		}
+
+		@Override
+		public PropagationMode propagateTo() {
+			return PropagationMode.ALL_DESCENDANTS;
+		}
+
+		private AllocationBudget findBudget(PropertyLifecycleContext context) {
+			Optional<AllocationBudget> onProperty = context.findAnnotation(AllocationBudget.class);
+			if (onProperty.isPresent()) {
+				return onProperty.get();
+			}
+			List<AllocationBudget> inContainers = context.findAnnotationsInContainer(AllocationBudget.class);
+			if (inContainers.isEmpty()) {
+				throw new JqwikException("No @AllocationBudget found for " + context.label());
+			}
+			return inContainers.get(0);
+		}
+
+		private static final Pattern BYTES_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(B|KB|MB|GB)?");
+
+		/**
+		 * @return number of bytes or -1 if no budget is given
+		 */
+		static long parseBytes(String budget) {
+			String trimmed = budget.trim();
+			if (trimmed.isEmpty()) {
+				return -1;
+			}
+			Matcher matcher = BYTES_PATTERN.matcher(trimmed.toUpperCase(Locale.ROOT));
+			if (!matcher.matches()) {
+				String message = String.format("[%s] is not a valid allocation budget. Use e.g. \"0\", \"512B\", \"10KB\" or \"1.5MB\".", budget);
+				throw new JqwikException(message);
+			}
+			double value = Double.parseDouble(matcher.group(1));
+			String unit = matcher.group(2) == null ? "B" : matcher.group(2);
+			switch (unit) {
+				case "KB":
+					return (long) (value * 1024);
+				case "MB":
+					return (long) (value * 1024 * 1024);
+				case "GB":
+					return (long) (value * 1024 * 1024 * 1024);
+				default:
+					return (long) value;
+			}
+		}
+	}
+
+	/**
+	 * Marks the start and end of each try outside of all other hooks
+	 * so that only the engine's own allocations between two tries count as a shrink step.
+	 */
+	class BetweenTriesHook implements AroundTryHook {
+
+		@Override
+		public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) {
+			PropertyAllocations allocations = Store.<PropertyAllocations>get(Hook.ALLOCATIONS_ID).get();
+			allocations.beforeTry();
+			try {
+				return aTry.execute(parameters);
+			} finally {
+				allocations.afterTry();
+			}
+		}
+
+		@Override
+		public int aroundTryProximity() {
+			// Outside of all other hooks and of try lifecycle methods
+			return Integer.MIN_VALUE;
+		}
+
+		@Override
+		public PropagationMode propagateTo() {
+			return PropagationMode.ALL_DESCENDANTS;
+		}
+	}
+}
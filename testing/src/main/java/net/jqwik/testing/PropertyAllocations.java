@@ -0,0 +1,135 @@
+package net.jqwik.testing;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.support.*;
+
+/**
+ * Collects the allocations of a single property run for {@linkplain AllocationBudget}.
+ *
+ * <p>
+ * Tries after the first falsified try are shrink steps.
+ * The allocations of a shrink step are those on the same thread between the end of the previous try
+ * and the start of the next one, both taken outside of all other around try hooks.
+ * They are mostly caused by creating the shrinking candidate, but also contain the engine's bookkeeping between tries.
+ * Neither warm-up tries nor the shrink steps leading to them are measured.
+ * </p>
+ */
+class PropertyAllocations {
+
+	private final long perTryBudget;
+	private final long perShrinkStepBudget;
+	private final int warmupTries;
+
+	private final AtomicInteger countTries = new AtomicInteger(0);
+	private final ThreadLocal<Long> endOfLastTry = new ThreadLocal<>();
+	private final Statistics tries = new Statistics();
+	private final Statistics shrinkSteps = new Statistics();
+	private volatile boolean shrinking = false;
+
+	/**
+	 * @param perTryBudget        max bytes per try or -1 for no budget
+	 * @param perShrinkStepBudget max bytes per shrink step or -1 for no budget
+	 * @param warmupTries         number of tries that are not measured
+	 */
+	PropertyAllocations(long perTryBudget, long perShrinkStepBudget, int warmupTries) {
+		this.perTryBudget = perTryBudget;
+		this.perShrinkStepBudget = perShrinkStepBudget;
+		this.warmupTries = warmupTries;
+	}
+
+	void beforeTry() {
+		Long lastEnd = endOfLastTry.get();
+		if (shrinking && lastEnd != null && countTries.get() >= warmupTries) {
+			shrinkSteps.add(ThreadAllocations.since(lastEnd));
+		}
+	}
+
+	void afterTry() {
+		endOfLastTry.set(ThreadAllocations.currentThread());
+	}
+
+	TryExecutionResult checkTry(long allocatedBytes, TryExecutionResult result) {
+		TryExecutionResult checkedResult = checkBudget(allocatedBytes, result);
+		if (checkedResult.isFalsified()) {
+			shrinking = true;
+		}
+		return checkedResult;
+	}
+
+	private TryExecutionResult checkBudget(long allocatedBytes, TryExecutionResult result) {
+		if (countTries.incrementAndGet() <= warmupTries) {
+			return result;
+		}
+		tries.add(allocatedBytes);
+		TryExecutionResult checkedResult = result;
+		if (perTryBudget >= 0 && allocatedBytes > perTryBudget && !result.isFalsified()) {
+			String message = String.format(
+				"Try allocated %s, which exceeds budget of %s",
+				displayBytes(allocatedBytes), displayBytes(perTryBudget)
+			);
+			checkedResult = TryExecutionResult.falsified(new AssertionFailedError(message));
+		}
+		return checkedResult;
+	}
+
+	Optional<String> shrinkStepViolation() {
+		if (perShrinkStepBudget < 0 || shrinkSteps.max() <= perShrinkStepBudget) {
+			return Optional.empty();
+		}
+		return Optional.of(String.format(
+			"Shrink step allocated %s, which exceeds budget of %s",
+			displayBytes(shrinkSteps.max()), displayBytes(perShrinkStepBudget)
+		));
+	}
+
+	Map<String, Object> report() {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("measured tries", tries.count());
+		report.put("per try", tries.display(perTryBudget));
+		if (shrinkSteps.count() > 0) {
+			report.put("per shrink step", shrinkSteps.display(perShrinkStepBudget));
+		}
+		return report;
+	}
+
+	static String displayBytes(long bytes) {
+		if (bytes < 1024) {
+			return bytes + " B";
+		}
+		if (bytes < 1024 * 1024) {
+			return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+		}
+		return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+	}
+
+	private static class Statistics {
+		private long count = 0;
+		private long sum = 0;
+		private long max = 0;
+
+		private synchronized void add(long bytes) {
+			count++;
+			sum += bytes;
+			max = Math.max(max, bytes);
+		}
+
+		private synchronized long count() {
+			return count;
+		}
+
+		private synchronized long max() {
+			return max;
+		}
+
+		private synchronized String display(long budget) {
+			long average = count == 0 ? 0 : sum / count;
+			String budgetText = budget < 0 ? "" : String.format(" (budget: %s)", displayBytes(budget));
+			return String.format("max %s, average %s%s", displayBytes(max), displayBytes(average), budgetText);
+		}
+	}
+}
@@ -8,7 +8,13 @@ import net.jqwik.api.lifecycle.*;
 
 import static org.apiguardian.api.API.Status.*;
 
-@API(status = EXPERIMENTAL, since = "1.5.1")
+/**
+ * Reports used heap memory before and after a property.
+ *
+ * @deprecated Use {@linkplain AllocationBudget} to measure and limit the allocations of properties.
+ */
+@Deprecated
+@API(status = DEPRECATED, since = "1.8.2")
 public class ReportMemoryHook implements AroundPropertyHook {
 
 	private static final double BYTES_PER_MBYTE = 1048576.0;